@@ -1,8 +1,10 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
 import io.neow3j.protocol.rx.Neow3jRx;
+import io.neow3j.utils.Async;
 
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -12,7 +14,10 @@ import java.util.concurrent.ScheduledExecutorService;
 public interface Neow3j extends Neo, Neow3jRx {
 
     /**
-     * Construct a new Neow3j instance.
+     * <p>Construct a new Neow3j instance.</p>
+     * <br>
+     * <p>Scheduled tasks, like polling for new blocks, run on {@link Async#sharedScheduler()}.
+     * As long as an observable polls, the JVM does not exit.</p>
      *
      * @param neow3jService neow3j service instance - i.e. HTTP or IPC
      * @return new Neow3j instance
@@ -37,6 +42,15 @@ public interface Neow3j extends Neo, Neow3jRx {
         return new JsonRpc2_0Neow3j(neow3jService, pollingInterval, scheduledExecutorService);
     }
 
+    /**
+     * Creates a new, empty batch of requests that is sent with this instance's service.
+     * Requests built by this instance can be added to the batch and are then sent to the node
+     * together in a single JSON-RPC call.
+     *
+     * @return the new batch request
+     */
+    BatchRequest newBatch();
+
     /**
      * Shutdowns a Neow3j instance and closes opened resources.
      */
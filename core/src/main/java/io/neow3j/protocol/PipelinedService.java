@@ -0,0 +1,322 @@
+package io.neow3j.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.RequestEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>Base implementation of services that send all requests over one persistent connection
+ * and match the responses to the requests by id.</p>
+ * <br>
+ * <p>Hence, any number of requests can be in flight at the same time without blocking a thread
+ * per request. Implementations write the requests with {@link #write(String)} and pass every
+ * response they receive to {@link #onResponse(JsonNode)}.</p>
+ */
+public abstract class PipelinedService extends Service {
+
+    /**
+     * The default time in milliseconds after which a request without response fails.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT = 60 * 1000;
+
+    private final ScheduledExecutorService executorService;
+
+    private final Map<Long, CompletableFuture<JsonNode>> pendingRequests =
+            new ConcurrentHashMap<>();
+
+    private volatile long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+    /**
+     * Create a {@link PipelinedService}.
+     *
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     * @param executorService     the executor used to time out requests.
+     */
+    protected PipelinedService(boolean includeRawResponses,
+                               ScheduledExecutorService executorService) {
+        super(includeRawResponses);
+        this.executorService = executorService;
+    }
+
+    /**
+     * Writes a request or a batch of requests to the connection. It may be called by several
+     * threads at the same time.
+     *
+     * @param payload the request.
+     * @throws IOException if the request could not be written.
+     */
+    protected abstract void write(String payload) throws IOException;
+
+    /**
+     * Sets the time after which a request without response fails with a
+     * {@link ClientConnectionException}.
+     *
+     * @param requestTimeout the timeout in milliseconds.
+     */
+    public void setRequestTimeout(long requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        return waitFor(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        RequestEvent event = hasListeners() ? startRequest(request) : null;
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (IOException e) {
+            return failedFuture(completeRequest(event, e));
+        }
+        if (event != null) {
+            event.serialized(payload);
+        }
+        CompletableFuture<T> response = sendPayload(payload,
+                Collections.singletonList(request.getId()))
+                .thenApply(node -> {
+                    if (event != null) {
+                        event.received();
+                    }
+                    try {
+                        return readResponse(node, responseType);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+        return measure(event, response);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        List<CompletableFuture<List<Response>>> chunks = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += getMaxBatchSize()) {
+            List<Request<?, ? extends Response>> chunk =
+                    requests.subList(from, Math.min(from + getMaxBatchSize(), requests.size()));
+            RequestEvent event = hasListeners() ? startRequest(chunk) : null;
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(chunk);
+            } catch (IOException e) {
+                chunks.forEach(c -> c.cancel(false));
+                return failedFuture(completeRequest(event, e));
+            }
+            if (event != null) {
+                event.serialized(payload);
+            }
+            List<Long> ids = new ArrayList<>(chunk.size());
+            chunk.forEach(request -> ids.add(request.getId()));
+            chunks.add(measure(event, sendPayload(payload, ids).thenApply(node -> {
+                if (event != null) {
+                    event.received();
+                }
+                try {
+                    return readBatchResponse(node, chunk);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            })));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<Response> responses = new ArrayList<>(requests.size());
+                    chunks.forEach(chunk -> responses.addAll(chunk.join()));
+                    return new BatchResponse(requests, responses);
+                });
+    }
+
+    /**
+     * Sends the given payload and waits for the response. The ids of the requests are read from
+     * the payload. Prefer {@link #sendAsync(Request, Class)}, which does not parse the payload
+     * again.
+     *
+     * @param payload the request or batch of requests.
+     * @return the response.
+     * @throws IOException if the request failed.
+     */
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        JsonNode requestNode = objectMapper.readTree(payload);
+        List<Long> ids = new ArrayList<>();
+        if (requestNode.isArray()) {
+            requestNode.forEach(node -> ids.add(node.get("id").asLong()));
+        } else {
+            ids.add(requestNode.get("id").asLong());
+        }
+        JsonNode response = waitFor(sendPayload(payload, ids));
+        return new ByteArrayInputStream(response.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<R> measure(RequestEvent event, CompletableFuture<R> response) {
+        if (event == null) {
+            return response;
+        }
+        return response.whenComplete((r, e) -> {
+            if (e == null) {
+                event.deserialized(-1, r instanceof List
+                        ? (List<? extends Response>) r
+                        : Collections.singletonList((Response) r));
+            } else {
+                event.failed(e instanceof CompletionException && e.getCause() != null
+                        ? e.getCause() : e);
+            }
+            completeRequest(event);
+        });
+    }
+
+    private Throwable completeRequest(RequestEvent event, Throwable failure) {
+        if (event != null) {
+            event.failed(failure);
+            completeRequest(event);
+        }
+        return failure;
+    }
+
+    private CompletableFuture<JsonNode> sendPayload(String payload, List<Long> ids) {
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        for (Long id : ids) {
+            if (pendingRequests.putIfAbsent(id, result) != null) {
+                ids.subList(0, ids.indexOf(id)).forEach(pendingRequests::remove);
+                return failedFuture(new IllegalStateException(
+                        "A request with id " + id + " is already pending."));
+            }
+        }
+
+        ScheduledFuture<?> timeout = executorService.schedule(
+                () -> result.completeExceptionally(new ClientConnectionException(
+                        "Request with id " + ids.get(0) + " timed out.")),
+                requestTimeout, TimeUnit.MILLISECONDS);
+        result.whenComplete((node, e) -> {
+            timeout.cancel(false);
+            ids.forEach(id -> pendingRequests.remove(id, result));
+        });
+
+        try {
+            write(payload);
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(
+                    new ClientConnectionException("Failed to send request: " + e.getMessage()));
+        }
+        return result;
+    }
+
+    /**
+     * Completes the pending request that the given response answers.
+     *
+     * @param node the response to a single request or to a batch of requests.
+     * @return true if a pending request was completed. False if there is no pending request
+     * with the response's id, e.g. because it timed out.
+     */
+    protected boolean onResponse(JsonNode node) {
+        if (node.isArray()) {
+            // A batch response. Any answered id identifies the batch.
+            for (JsonNode responseNode : node) {
+                CompletableFuture<JsonNode> pendingRequest = getPendingRequest(responseNode);
+                if (pendingRequest != null) {
+                    pendingRequest.complete(node);
+                    return true;
+                }
+            }
+            return false;
+        }
+        CompletableFuture<JsonNode> pendingRequest = getPendingRequest(node);
+        if (pendingRequest != null) {
+            pendingRequest.complete(node);
+            return true;
+        }
+        return false;
+    }
+
+    private CompletableFuture<JsonNode> getPendingRequest(JsonNode responseNode) {
+        JsonNode id = responseNode.get("id");
+        if (id == null || !id.canConvertToLong()) {
+            return null;
+        }
+        return pendingRequests.get(id.asLong());
+    }
+
+    /**
+     * Fails all pending requests, e.g. because the connection was closed.
+     *
+     * @param e the reason.
+     */
+    protected void failPendingRequests(Throwable e) {
+        new ArrayList<>(pendingRequests.values()).forEach(r -> r.completeExceptionally(e));
+    }
+
+    /**
+     * @return the number of requests that were sent and are waiting for their response. A batch
+     * counts as one request.
+     */
+    public int getPendingRequestCount() {
+        return (int) pendingRequests.values().stream().distinct().count();
+    }
+
+    /**
+     * Waits for the given response, at most for the request timeout. Usually, the request
+     * itself times out before, but its timeout may be delayed if the scheduler is busy.
+     *
+     * @param future the response.
+     * @param <R>    the type of the response.
+     * @return the response.
+     * @throws IOException if the request failed.
+     */
+    protected <R> R waitFor(CompletableFuture<R> future) throws IOException {
+        try {
+            return future.get(requestTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ClientConnectionException("Timed out waiting for the response.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    protected static <R> CompletableFuture<R> failedFuture(Throwable throwable) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -1,26 +1,58 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.CapturingInputStream;
+import io.neow3j.protocol.deserializer.CountingInputStream;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.RequestEvent;
+import io.neow3j.protocol.metrics.RequestListener;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import rx.Observable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base service implementation.
  */
 public abstract class Service implements Neow3jService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Service.class);
+
+    /**
+     * The default maximum number of requests that are sent to the node in one JSON-RPC batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
     protected final ObjectMapper objectMapper;
 
     protected ExecutorService asyncExecutorService;
 
+    private final boolean includeRawResponses;
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    private final List<RequestListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
     /**
      * Create a Service.
      *
@@ -30,6 +62,7 @@ public abstract class Service implements Neow3jService {
     public Service(ExecutorService executorService, boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
         asyncExecutorService = executorService;
+        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -38,7 +71,7 @@ public abstract class Service implements Neow3jService {
      * @param includeRawResponses option to include or not raw responses on the {@link Response} object.
      */
     public Service(boolean includeRawResponses) {
-        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this(null, includeRawResponses);
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
@@ -46,14 +79,49 @@ public abstract class Service implements Neow3jService {
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
-        String payload = objectMapper.writeValueAsString(request);
+        if (listeners.isEmpty()) {
+            String payload = objectMapper.writeValueAsString(request);
+
+            try (InputStream result = performIO(payload)) {
+                return readResponse(result, responseType);
+            }
+        }
 
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                return objectMapper.readValue(result, responseType);
-            } else {
-                return null;
+        RequestEvent event = startRequest(request);
+        try {
+            String payload = objectMapper.writeValueAsString(request);
+            event.serialized(payload);
+
+            try (InputStream result = performIO(payload)) {
+                event.received();
+                InputStream counted = countingStream(result);
+                T response = readResponse(counted, responseType);
+                event.deserialized(countOf(counted), Collections.singletonList(response));
+                return response;
             }
+        } catch (IOException | RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            completeRequest(event);
+        }
+    }
+
+    /**
+     * Deserializes the response to a single request.
+     *
+     * @param result       the response payload, or null if the node did not return one.
+     * @param responseType the type of the response.
+     * @param <T>          the type of the response.
+     * @return the deserialized response, or null if there was no payload.
+     * @throws IOException if the payload could not be read or deserialized.
+     */
+    protected <T extends Response> T readResponse(InputStream result, Class<T> responseType)
+            throws IOException {
+        if (result != null) {
+            return objectMapper.readValue(result, responseType);
+        } else {
+            return null;
         }
     }
 
@@ -64,6 +132,277 @@ public abstract class Service implements Neow3jService {
                 send(jsonRpc20Request, responseType), asyncExecutorService);
     }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        List<Response> responses = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += maxBatchSize) {
+            int to = Math.min(from + maxBatchSize, requests.size());
+            responses.addAll(sendBatchChunk(requests.subList(from, to)));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    private List<Response> sendBatchChunk(List<Request<?, ? extends Response>> requests)
+            throws IOException {
+
+        if (listeners.isEmpty()) {
+            String payload = objectMapper.writeValueAsString(requests);
+
+            try (InputStream result = performIO(payload)) {
+                return readBatchResponse(result, requests);
+            }
+        }
+
+        RequestEvent event = startRequest(requests);
+        try {
+            String payload = objectMapper.writeValueAsString(requests);
+            event.serialized(payload);
+
+            try (InputStream result = performIO(payload)) {
+                event.received();
+                InputStream counted = countingStream(result);
+                List<Response> responses = readBatchResponse(counted, requests);
+                event.deserialized(countOf(counted), responses);
+                return responses;
+            }
+        } catch (IOException | RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            completeRequest(event);
+        }
+    }
+
+    /**
+     * Wraps the given response payload to count its size, unless the raw response is captured.
+     *
+     * @param result the response payload.
+     * @return the stream to read the payload from.
+     */
+    protected InputStream countingStream(InputStream result) {
+        // The raw response is read from the original stream, which must not be wrapped.
+        if (result == null || includeRawResponses) {
+            return result;
+        }
+        return new CountingInputStream(result);
+    }
+
+    /**
+     * @param counted the stream that was returned by {@link #countingStream(InputStream)}.
+     * @return the number of bytes read from the stream or -1 if unknown.
+     */
+    protected static long countOf(InputStream counted) {
+        if (counted instanceof CountingInputStream) {
+            return ((CountingInputStream) counted).getCount();
+        }
+        if (counted instanceof CapturingInputStream) {
+            return ((CapturingInputStream) counted).getCapturedSize();
+        }
+        return -1;
+    }
+
+    /**
+     * Deserializes the response to a batch of requests and matches the single responses to
+     * their requests by id.
+     *
+     * @param inputStream the response payload, or null if the node did not return one.
+     * @param requests    the requests that were sent in the batch.
+     * @return the responses in the same order as the requests. Requests that were not answered
+     * by the node have a null entry.
+     * @throws IOException if the payload could not be read or deserialized.
+     */
+    protected List<Response> readBatchResponse(InputStream inputStream,
+                                               List<Request<?, ? extends Response>> requests)
+            throws IOException {
+
+        if (inputStream == null) {
+            return Collections.nCopies(requests.size(), null);
+        }
+        return readBatchResponse(objectMapper.readTree(inputStream), requests);
+    }
+
+    /**
+     * Deserializes the already parsed response to a batch of requests and matches the single
+     * responses to their requests by id.
+     *
+     * @param result   the response payload.
+     * @param requests the requests that were sent in the batch.
+     * @return the responses in the same order as the requests. Requests that were not answered
+     * by the node have a null entry.
+     * @throws IOException if the payload could not be deserialized.
+     */
+    protected List<Response> readBatchResponse(JsonNode result,
+                                               List<Request<?, ? extends Response>> requests)
+            throws IOException {
+
+        if (!result.isArray()) {
+            // A node answers with a single error object if it cannot process the batch at all.
+            throw new ClientConnectionException("Invalid batch response received: " + result);
+        }
+
+        Map<Long, JsonNode> responseNodesById = new HashMap<>(result.size() * 2);
+        for (JsonNode responseNode : result) {
+            JsonNode id = responseNode.get("id");
+            if (id != null && id.canConvertToLong()) {
+                responseNodesById.put(id.asLong(), responseNode);
+            }
+        }
+
+        List<Response> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response> request : requests) {
+            JsonNode responseNode = responseNodesById.get(request.getId());
+            if (responseNode == null) {
+                responses.add(null);
+                continue;
+            }
+            responses.add(readResponse(responseNode, request.getResponseType()));
+        }
+        return responses;
+    }
+
+    /**
+     * Deserializes the already parsed response to a single request.
+     *
+     * @param responseNode the response payload.
+     * @param responseType the type of the response.
+     * @param <T>          the type of the response.
+     * @return the deserialized response.
+     * @throws IOException if the payload could not be deserialized.
+     */
+    protected <T extends Response> T readResponse(JsonNode responseNode, Class<T> responseType)
+            throws IOException {
+        T response = objectMapper.treeToValue(responseNode, responseType);
+        if (includeRawResponses) {
+            response.setRawResponse(responseNode.toString());
+        }
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), asyncExecutorService);
+    }
+
+    /**
+     * Gets the maximum number of requests that are sent to the node in one JSON-RPC batch.
+     * Larger {@link BatchRequest}s are split up into several calls.
+     *
+     * @return the maximum batch size.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of requests that are sent to the node in one JSON-RPC batch.
+     * Larger {@link BatchRequest}s are split up into several calls.
+     *
+     * @param maxBatchSize the maximum batch size.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be at least 1.");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * <p>Adds a listener that is notified about every call of this service, e.g. a
+     * {@link io.neow3j.protocol.metrics.MetricsCollector}.</p>
+     * <br>
+     * <p>As long as no listener is added, calls are not measured at all.</p>
+     *
+     * @param listener the listener.
+     */
+    public void addListener(RequestListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addListener(RequestListener)}.
+     *
+     * @param listener the listener.
+     */
+    public void removeListener(RequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the number of calls of this service that are currently in flight and measured,
+     * i.e. that were started while a listener was added.
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return true if a listener is added to this service.
+     */
+    protected boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Starts the measurement of a call of a single request and notifies the listeners.
+     *
+     * @param request the request.
+     * @return the event to record the phases of the call in.
+     */
+    protected RequestEvent startRequest(Request<?, ?> request) {
+        RequestEvent event = RequestEvent.start(request, inFlight.incrementAndGet(),
+                snapshotListeners());
+        notifyStarted(event);
+        return event;
+    }
+
+    /**
+     * Starts the measurement of a call of a batch of requests and notifies the listeners.
+     *
+     * @param requests the requests in the batch.
+     * @return the event to record the phases of the call in.
+     */
+    protected RequestEvent startRequest(List<? extends Request<?, ?>> requests) {
+        RequestEvent event = RequestEvent.start(requests, inFlight.incrementAndGet(),
+                snapshotListeners());
+        notifyStarted(event);
+        return event;
+    }
+
+    private List<RequestListener> snapshotListeners() {
+        // A listener that is added or removed while the call is in flight must not be notified
+        // about only its start or only its completion.
+        return Collections.unmodifiableList(new ArrayList<>(listeners));
+    }
+
+    private void notifyStarted(RequestEvent event) {
+        for (RequestListener listener : event.getListeners()) {
+            try {
+                listener.onRequestStarted(event.getMethod());
+            } catch (RuntimeException e) {
+                LOG.warn("Request listener failed.", e);
+            }
+        }
+    }
+
+    /**
+     * Finishes the measurement of a call and notifies the listeners that were notified about its
+     * start.
+     *
+     * @param event the event of the call.
+     */
+    protected void completeRequest(RequestEvent event) {
+        event.finish();
+        inFlight.decrementAndGet();
+        for (RequestListener listener : event.getListeners()) {
+            try {
+                listener.onRequestCompleted(event);
+            } catch (RuntimeException e) {
+                LOG.warn("Request listener failed.", e);
+            }
+        }
+    }
+
     @Override
     public <T extends Notification<?>> Observable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
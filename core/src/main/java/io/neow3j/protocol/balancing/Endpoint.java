@@ -0,0 +1,107 @@
+package io.neow3j.protocol.balancing;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A node that a {@link LoadBalancingService} routes requests to, together with the
+ * statistics that the routing is based on.</p>
+ */
+public class Endpoint {
+
+    // Weight of the latest latency sample in the average latency.
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final Neow3jService service;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double averageLatency;
+    private int consecutiveFailures;
+    private boolean ejected;
+    private long ejectedUntil;
+    private boolean lagging;
+    private long blockCount = -1;
+
+    Endpoint(Neow3jService service) {
+        this.service = service;
+    }
+
+    public Neow3jService getService() {
+        return service;
+    }
+
+    /**
+     * @return the number of requests that are currently sent to this endpoint.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the latency in nanoseconds or 0 if
+     * no request was completed yet.
+     */
+    public synchronized double getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * @return the block count reported by the last health check or -1 if unknown.
+     */
+    public synchronized long getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * @return true if this endpoint is neither ejected because of failures nor lagging behind
+     * the other endpoints.
+     */
+    public synchronized boolean isHealthy() {
+        if (ejected && System.nanoTime() - ejectedUntil >= 0) {
+            // Give the endpoint another chance after the ejection time.
+            ejected = false;
+        }
+        return !lagging && !ejected;
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    synchronized void onSuccess(long latency) {
+        inFlight.decrementAndGet();
+        consecutiveFailures = 0;
+        averageLatency = averageLatency == 0
+                ? latency
+                : LATENCY_SMOOTHING * latency + (1 - LATENCY_SMOOTHING) * averageLatency;
+    }
+
+    synchronized void onFailure(int failureThreshold, long ejectionTime) {
+        inFlight.decrementAndGet();
+        if (++consecutiveFailures >= failureThreshold) {
+            consecutiveFailures = 0;
+            ejected = true;
+            ejectedUntil = System.nanoTime() + ejectionTime;
+        }
+    }
+
+    synchronized void setBlockCount(long blockCount) {
+        this.blockCount = blockCount;
+    }
+
+    synchronized void setLagging(boolean lagging) {
+        this.lagging = lagging;
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint{" +
+                "service=" + service +
+                ", inFlight=" + inFlight +
+                ", averageLatency=" + averageLatency +
+                ", healthy=" + isHealthy() +
+                ", blockCount=" + blockCount +
+                '}';
+    }
+}
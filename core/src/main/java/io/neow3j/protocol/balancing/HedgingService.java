@@ -0,0 +1,374 @@
+package io.neow3j.protocol.balancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.RpcMethods;
+import io.neow3j.protocol.notifications.Notification;
+import rx.Observable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>A service that reduces the tail latency of read-only requests by hedging them.</p>
+ * <br>
+ * <p>A read-only request (see {@link RpcMethods#isReadOnly(Request)}) is sent to one endpoint.
+ * If it has no response after the hedge delay, a duplicate is sent to the next endpoint and the
+ * response that arrives first is used. The hedge delay is derived from the observed latencies,
+ * by default their 95th percentile, so that only about one in twenty requests is duplicated.
+ * Until enough latencies are observed, the initial hedge delay is used.</p>
+ * <br>
+ * <p>Other requests, e.g. <tt>sendrawtransaction</tt>, are sent to a single endpoint and never
+ * duplicated.</p>
+ */
+public class HedgingService implements Neow3jService {
+
+    /**
+     * The default percentile of the observed latencies that is used as hedge delay.
+     */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * The default hedge delay in milliseconds until enough latencies are observed.
+     */
+    public static final long DEFAULT_INITIAL_HEDGE_DELAY = 500;
+
+    /**
+     * The default minimum hedge delay in milliseconds.
+     */
+    public static final long DEFAULT_MIN_HEDGE_DELAY = 5;
+
+    private static final int LATENCY_WINDOW = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 32;
+
+    private final List<Neow3jService> endpoints;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final LatencyTracker latencies;
+    private final long initialHedgeDelay;
+    private final long minHedgeDelay;
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+    private final AtomicInteger hedgeCount = new AtomicInteger();
+
+    protected HedgingService(Builder builder) {
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(builder.services));
+        if (builder.scheduler != null) {
+            this.scheduler = builder.scheduler;
+            this.ownsScheduler = false;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "neow3j-hedging");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ownsScheduler = true;
+        }
+        this.latencies = new LatencyTracker(LATENCY_WINDOW, builder.percentile,
+                MIN_LATENCY_SAMPLES);
+        this.initialHedgeDelay = builder.initialHedgeDelay;
+        this.minHedgeDelay = builder.minHedgeDelay;
+    }
+
+    public List<Neow3jService> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @return the current hedge delay in milliseconds.
+     */
+    public long getHedgeDelay() {
+        long percentile = latencies.getPercentile();
+        if (percentile < 0) {
+            return initialHedgeDelay;
+        }
+        return Math.max(minHedgeDelay, TimeUnit.NANOSECONDS.toMillis(percentile));
+    }
+
+    /**
+     * @return the number of requests that were duplicated so far.
+     */
+    public int getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        if (!RpcMethods.isReadOnly(request)) {
+            return selectEndpoint().send(request, responseType);
+        }
+        return get(hedge(service -> service.sendAsync(request, responseType)));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (!RpcMethods.isReadOnly(request)) {
+            return selectEndpoint().sendAsync(request, responseType);
+        }
+        return hedge(service -> service.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (!isReadOnly(batchRequest)) {
+            return selectEndpoint().sendBatch(batchRequest);
+        }
+        return get(hedge(service -> service.sendBatchAsync(batchRequest)));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (!isReadOnly(batchRequest)) {
+            return selectEndpoint().sendBatchAsync(batchRequest);
+        }
+        return hedge(service -> service.sendBatchAsync(batchRequest));
+    }
+
+    private static boolean isReadOnly(BatchRequest batchRequest) {
+        return batchRequest.getRequests().stream().allMatch(RpcMethods::isReadOnly);
+    }
+
+    private Neow3jService selectEndpoint() {
+        return endpoints.get(Math.floorMod(nextEndpoint.getAndIncrement(), endpoints.size()));
+    }
+
+    private <R> CompletableFuture<R> hedge(Function<Neow3jService, CompletableFuture<R>> call) {
+        int first = Math.floorMod(nextEndpoint.getAndIncrement(), endpoints.size());
+        HedgedCall<R> hedgedCall = new HedgedCall<>(call, endpoints.get(first),
+                endpoints.get((first + 1) % endpoints.size()));
+        hedgedCall.start();
+        ScheduledFuture<?> hedge = scheduler.schedule(
+                hedgedCall::hedge, getHedgeDelay(), TimeUnit.MILLISECONDS);
+        hedgedCall.result.whenComplete((r, e) -> hedge.cancel(false));
+        return hedgedCall.result;
+    }
+
+    private static <R> R get(CompletableFuture<R> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return endpoints.get(0).subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+        IOException exception = null;
+        for (Neow3jService endpoint : endpoints) {
+            try {
+                endpoint.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * The attempts of a request. The duplicate is sent when the hedge delay has passed or
+     * as soon as the first attempt fails. The result completes with the first response, or with
+     * the last error if both attempts failed. Once it is complete, the attempt that is still in
+     * flight is cancelled, which releases its connection if the endpoint supports it.
+     */
+    private class HedgedCall<R> {
+
+        private final Function<Neow3jService, CompletableFuture<R>> call;
+        private final Neow3jService primary;
+        private final Neow3jService secondary;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        // Guarded by this.
+        private final List<CompletableFuture<R>> attempts = new ArrayList<>(2);
+        private int pending;
+        private boolean hedged;
+
+        HedgedCall(Function<Neow3jService, CompletableFuture<R>> call, Neow3jService primary,
+                Neow3jService secondary) {
+            this.call = call;
+            this.primary = primary;
+            this.secondary = secondary;
+            result.whenComplete((r, e) -> cancelAttempts());
+        }
+
+        void start() {
+            synchronized (this) {
+                pending++;
+            }
+            send(primary);
+        }
+
+        void hedge() {
+            synchronized (this) {
+                if (hedged || result.isDone()) {
+                    return;
+                }
+                // Counted together with the flag, so that a failure of the first attempt does
+                // not complete the result before the duplicate is sent.
+                hedged = true;
+                pending++;
+            }
+            hedgeCount.incrementAndGet();
+            send(secondary);
+        }
+
+        private void send(Neow3jService service) {
+            long start = System.nanoTime();
+            CompletableFuture<R> response;
+            try {
+                response = call.apply(service);
+            } catch (RuntimeException e) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            }
+            synchronized (this) {
+                attempts.add(response);
+            }
+            if (result.isDone()) {
+                // The other attempt won while this one was sent.
+                response.cancel(false);
+            }
+            response.whenComplete((r, e) -> {
+                if (e == null) {
+                    latencies.record(System.nanoTime() - start);
+                    result.complete(r);
+                } else {
+                    onFailure(e);
+                }
+            });
+        }
+
+        private void cancelAttempts() {
+            List<CompletableFuture<R>> inFlight;
+            synchronized (this) {
+                inFlight = new ArrayList<>(attempts);
+            }
+            // Does not affect the attempt that completed the result.
+            inFlight.forEach(attempt -> attempt.cancel(false));
+        }
+
+        private void onFailure(Throwable e) {
+            boolean failed;
+            synchronized (this) {
+                failed = --pending == 0 && hedged;
+            }
+            if (failed) {
+                result.completeExceptionally(e instanceof CompletionException
+                        && e.getCause() != null ? e.getCause() : e);
+            } else {
+                hedge();
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private List<Neow3jService> services;
+        private ScheduledExecutorService scheduler;
+        private double percentile;
+        private long initialHedgeDelay;
+        private long minHedgeDelay;
+
+        public Builder() {
+            this.services = new ArrayList<>();
+            this.percentile = DEFAULT_PERCENTILE;
+            this.initialHedgeDelay = DEFAULT_INITIAL_HEDGE_DELAY;
+            this.minHedgeDelay = DEFAULT_MIN_HEDGE_DELAY;
+        }
+
+        public Builder endpoints(List<? extends Neow3jService> services) {
+            this.services.addAll(services); return this;
+        }
+
+        public Builder endpoint(Neow3jService service) {
+            return endpoints(Collections.singletonList(service));
+        }
+
+        /**
+         * Sets the executor that schedules the duplicate requests. By default, a single
+         * daemon thread is used, which is shut down when the service is closed.
+         *
+         * @param scheduler the executor.
+         * @return this builder.
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler; return this;
+        }
+
+        /**
+         * Sets the percentile of the observed latencies that is used as hedge delay.
+         *
+         * @param percentile the percentile, e.g. 0.95.
+         * @return this builder.
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile; return this;
+        }
+
+        /**
+         * Sets the hedge delay until enough latencies are observed.
+         *
+         * @param initialHedgeDelay the delay in milliseconds.
+         * @return this builder.
+         */
+        public Builder initialHedgeDelay(long initialHedgeDelay) {
+            this.initialHedgeDelay = initialHedgeDelay; return this;
+        }
+
+        /**
+         * Sets the minimum hedge delay, so that requests to very fast endpoints are not
+         * duplicated because of jitter.
+         *
+         * @param minHedgeDelay the delay in milliseconds.
+         * @return this builder.
+         */
+        public Builder minHedgeDelay(long minHedgeDelay) {
+            this.minHedgeDelay = minHedgeDelay; return this;
+        }
+
+        public HedgingService build() {
+            if (services.size() < 2) {
+                throw new IllegalStateException("At least two endpoints are required.");
+            }
+            if (percentile <= 0 || percentile > 1) {
+                throw new IllegalStateException("The percentile must be in (0, 1].");
+            }
+            return new HedgingService(this);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.neow3j.protocol.balancing;
+
+import java.util.Arrays;
+
+/**
+ * <p>Keeps the latencies of the most recent requests and derives a percentile from them.</p>
+ * <br>
+ * <p>The percentile is only recalculated every few samples, so that recording a latency stays
+ * cheap.</p>
+ */
+class LatencyTracker {
+
+    private static final int RECALCULATION_INTERVAL = 16;
+
+    private final long[] samples;
+    private final double percentile;
+    private final int minSamples;
+
+    private int next;
+    private int count;
+    private int sinceRecalculation;
+    private long value = -1;
+
+    /**
+     * @param windowSize the number of most recent samples to consider.
+     * @param percentile the percentile to derive, e.g. 0.95.
+     * @param minSamples the number of samples needed before a percentile is derived.
+     */
+    LatencyTracker(int windowSize, double percentile, int minSamples) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, windowSize);
+    }
+
+    synchronized void record(long latency) {
+        samples[next] = latency;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= minSamples
+                && (value < 0 || ++sinceRecalculation >= RECALCULATION_INTERVAL)) {
+            sinceRecalculation = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            value = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    /**
+     * @return the percentile of the recorded latencies or -1 if there are not enough samples.
+     */
+    synchronized long getPercentile() {
+        return value;
+    }
+}
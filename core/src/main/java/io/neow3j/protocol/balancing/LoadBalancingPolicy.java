@@ -0,0 +1,54 @@
+package io.neow3j.protocol.balancing;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the endpoint that a request is sent to.
+ */
+public interface LoadBalancingPolicy {
+
+    /**
+     * Selects one of the given endpoints.
+     *
+     * @param endpoints the candidates. The list is never empty.
+     * @return the selected endpoint.
+     */
+    Endpoint select(List<Endpoint> endpoints);
+
+    /**
+     * Creates a policy that selects the endpoints in turn.
+     *
+     * @return the policy.
+     */
+    static LoadBalancingPolicy roundRobin() {
+        AtomicInteger counter = new AtomicInteger();
+        return endpoints -> endpoints.get(
+                Math.floorMod(counter.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * Creates a policy that selects the endpoint with the fewest requests in flight.
+     *
+     * @return the policy.
+     */
+    static LoadBalancingPolicy leastInFlight() {
+        return endpoints -> endpoints.stream()
+                .min(Comparator.comparingInt(Endpoint::getInFlight))
+                .get();
+    }
+
+    /**
+     * Creates a policy that selects the endpoint with the lowest average latency. Endpoints
+     * without any completed request are selected first, so that their latency is measured.
+     *
+     * @return the policy.
+     */
+    static LoadBalancingPolicy lowestLatency() {
+        return endpoints -> endpoints.stream()
+                .min(Comparator.comparingDouble(Endpoint::getAverageLatency))
+                .get();
+    }
+
+}
@@ -0,0 +1,401 @@
+package io.neow3j.protocol.balancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.RpcMethods;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A service that distributes requests over several nodes.</p>
+ * <br>
+ * <p>Each request is sent to one of the healthy endpoints, which is selected by a
+ * {@link LoadBalancingPolicy}. An endpoint is ejected for a while if several consecutive
+ * requests to it fail, or if its block count lags behind the other endpoints by more than a
+ * configured number of blocks (see {@link #checkHealth()}). If no endpoint is healthy, requests
+ * are sent to the ejected endpoints anyway.</p>
+ * <br>
+ * <p>Read-only requests (see {@link RpcMethods#isReadOnly(Request)}) that fail because of a
+ * connection error are retried on another endpoint. Other requests, e.g.
+ * <tt>sendrawtransaction</tt>, are never retried. Error responses of a node are returned as
+ * they are and do not count as failures.</p>
+ */
+public class LoadBalancingService implements Neow3jService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadBalancingService.class);
+
+    /**
+     * The default maximum number of endpoints a read-only request is sent to.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default number of consecutive failures after which an endpoint is ejected.
+     */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /**
+     * The default time in milliseconds for which an endpoint is ejected.
+     */
+    public static final long DEFAULT_EJECTION_TIME = 30 * 1000;
+
+    /**
+     * The default number of blocks an endpoint may lag behind the most current endpoint.
+     */
+    public static final long DEFAULT_MAX_BLOCK_LAG = 5;
+
+    private final List<Endpoint> endpoints;
+    private final LoadBalancingPolicy policy;
+    private final int maxAttempts;
+    private final int failureThreshold;
+    private final long ejectionTime;
+    private final long maxBlockLag;
+    private final ScheduledFuture<?> healthCheck;
+
+    protected LoadBalancingService(Builder builder) {
+        this.endpoints = Collections.unmodifiableList(builder.services.stream()
+                .map(Endpoint::new)
+                .collect(Collectors.toList()));
+        this.policy = builder.policy;
+        this.maxAttempts = builder.maxAttempts;
+        this.failureThreshold = builder.failureThreshold;
+        this.ejectionTime = TimeUnit.MILLISECONDS.toNanos(builder.ejectionTime);
+        this.maxBlockLag = builder.maxBlockLag;
+        if (builder.healthCheckExecutor != null) {
+            this.healthCheck = builder.healthCheckExecutor.scheduleWithFixedDelay(
+                    this::checkHealth, 0, builder.healthCheckInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthCheck = null;
+        }
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        int attempts = RpcMethods.isReadOnly(request) ? maxAttempts : 1;
+        return send(endpoint -> endpoint.getService().send(request, responseType), attempts);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        int attempts = RpcMethods.isReadOnly(request) ? maxAttempts : 1;
+        return sendAsync(endpoint -> endpoint.getService().sendAsync(request, responseType),
+                attempts, new ArrayList<>());
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        int attempts = isReadOnly(batchRequest) ? maxAttempts : 1;
+        return send(endpoint -> endpoint.getService().sendBatch(batchRequest), attempts);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        int attempts = isReadOnly(batchRequest) ? maxAttempts : 1;
+        return sendAsync(endpoint -> endpoint.getService().sendBatchAsync(batchRequest),
+                attempts, new ArrayList<>());
+    }
+
+    private <R> R send(SyncEndpointCall<R> call, int attempts) throws IOException {
+        List<Endpoint> tried = new ArrayList<>();
+        Exception lastFailure = null;
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            Endpoint endpoint = selectEndpoint(tried);
+            if (endpoint == null) {
+                break;
+            }
+            tried.add(endpoint);
+            long start = System.nanoTime();
+            endpoint.onStart();
+            try {
+                R response = call.send(endpoint);
+                endpoint.onSuccess(System.nanoTime() - start);
+                return response;
+            } catch (IOException | ClientConnectionException e) {
+                onFailure(endpoint, e);
+                lastFailure = e;
+            } catch (RuntimeException e) {
+                onFailure(endpoint, e);
+                throw e;
+            }
+        }
+        if (lastFailure instanceof IOException) {
+            throw (IOException) lastFailure;
+        }
+        if (lastFailure != null) {
+            throw (ClientConnectionException) lastFailure;
+        }
+        throw new ClientConnectionException("No endpoint left to send the request to.");
+    }
+
+    private <R> CompletableFuture<R> sendAsync(EndpointCall<R> call, int attemptsLeft,
+            List<Endpoint> tried) {
+        Endpoint endpoint = selectEndpoint(tried);
+        if (endpoint == null) {
+            CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(
+                    new ClientConnectionException("No endpoint left to send the request to."));
+            return failed;
+        }
+        tried.add(endpoint);
+        long start = System.nanoTime();
+        endpoint.onStart();
+
+        CompletableFuture<R> result = new CompletableFuture<>();
+        CompletableFuture<R> response;
+        try {
+            response = call.send(endpoint);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((r, e) -> {
+            if (e == null) {
+                endpoint.onSuccess(System.nanoTime() - start);
+                result.complete(r);
+                return;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null
+                    ? e.getCause() : e;
+            onFailure(endpoint, cause);
+            if (isConnectionFailure(cause) && attemptsLeft > 1) {
+                sendAsync(call, attemptsLeft - 1, tried).whenComplete((retried, retryError) -> {
+                    if (retryError != null) {
+                        result.completeExceptionally(retryError);
+                    } else {
+                        result.complete(retried);
+                    }
+                });
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    private static boolean isConnectionFailure(Throwable e) {
+        return e instanceof IOException || e instanceof ClientConnectionException;
+    }
+
+    private void onFailure(Endpoint endpoint, Throwable e) {
+        LOG.debug("Request to endpoint {} failed.", endpoint, e);
+        endpoint.onFailure(failureThreshold, ejectionTime);
+    }
+
+    private Endpoint selectEndpoint(List<Endpoint> excluded) {
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy() && !excluded.contains(endpoint)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // Better try an unhealthy endpoint than failing without trying.
+            for (Endpoint endpoint : endpoints) {
+                if (!excluded.contains(endpoint)) {
+                    candidates.add(endpoint);
+                }
+            }
+        }
+        return candidates.isEmpty() ? null : policy.select(candidates);
+    }
+
+    private static boolean isReadOnly(BatchRequest batchRequest) {
+        return batchRequest.getRequests().stream().allMatch(RpcMethods::isReadOnly);
+    }
+
+    /**
+     * <p>Requests the block count of all endpoints. Endpoints that lag behind the most current
+     * endpoint by more than the maximum block lag are ejected until the next health check.
+     * Endpoints that don't answer count as failed.</p>
+     * <br>
+     * <p>This is called periodically if a health check interval was configured.</p>
+     */
+    public void checkHealth() {
+        long maxBlockCount = -1;
+        for (Endpoint endpoint : endpoints) {
+            Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                    Collections.<String>emptyList(), endpoint.getService(), NeoBlockCount.class);
+            long start = System.nanoTime();
+            endpoint.onStart();
+            try {
+                NeoBlockCount blockCount = request.send();
+                endpoint.onSuccess(System.nanoTime() - start);
+                if (blockCount.hasError()) {
+                    endpoint.setBlockCount(-1);
+                } else {
+                    endpoint.setBlockCount(blockCount.getBlockIndex().longValue());
+                }
+            } catch (IOException | RuntimeException e) {
+                onFailure(endpoint, e);
+                endpoint.setBlockCount(-1);
+            }
+            maxBlockCount = Math.max(maxBlockCount, endpoint.getBlockCount());
+        }
+        for (Endpoint endpoint : endpoints) {
+            long blockCount = endpoint.getBlockCount();
+            endpoint.setLagging(blockCount >= 0 && maxBlockCount - blockCount > maxBlockLag);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return selectEndpoint(Collections.emptyList()).getService()
+                .subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+        IOException exception = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.getService().close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private interface SyncEndpointCall<R> {
+        R send(Endpoint endpoint) throws IOException;
+    }
+
+    private interface EndpointCall<R> {
+        CompletableFuture<R> send(Endpoint endpoint);
+    }
+
+    public static class Builder {
+
+        private List<Neow3jService> services;
+        private LoadBalancingPolicy policy;
+        private int maxAttempts;
+        private int failureThreshold;
+        private long ejectionTime;
+        private long maxBlockLag;
+        private ScheduledExecutorService healthCheckExecutor;
+        private long healthCheckInterval;
+
+        public Builder() {
+            this.services = new ArrayList<>();
+            this.policy = LoadBalancingPolicy.leastInFlight();
+            this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+            this.failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+            this.ejectionTime = DEFAULT_EJECTION_TIME;
+            this.maxBlockLag = DEFAULT_MAX_BLOCK_LAG;
+        }
+
+        public Builder endpoints(List<? extends Neow3jService> services) {
+            this.services.addAll(services); return this;
+        }
+
+        public Builder endpoint(Neow3jService service) {
+            return endpoints(Collections.singletonList(service));
+        }
+
+        /**
+         * Sets the policy that selects the endpoint of each request. Defaults to
+         * {@link LoadBalancingPolicy#leastInFlight()}.
+         *
+         * @param policy the policy.
+         * @return this builder.
+         */
+        public Builder policy(LoadBalancingPolicy policy) {
+            this.policy = policy; return this;
+        }
+
+        /**
+         * Sets the maximum number of endpoints a read-only request is sent to if it fails.
+         *
+         * @param maxAttempts the maximum number of attempts.
+         * @return this builder.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts; return this;
+        }
+
+        /**
+         * Sets the number of consecutive failures after which an endpoint is ejected.
+         *
+         * @param failureThreshold the number of failures.
+         * @return this builder.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold; return this;
+        }
+
+        /**
+         * Sets the time for which an endpoint is ejected after consecutive failures.
+         *
+         * @param ejectionTime the time in milliseconds.
+         * @return this builder.
+         */
+        public Builder ejectionTime(long ejectionTime) {
+            this.ejectionTime = ejectionTime; return this;
+        }
+
+        /**
+         * Sets the number of blocks an endpoint may lag behind the most current endpoint
+         * before it is ejected.
+         *
+         * @param maxBlockLag the number of blocks.
+         * @return this builder.
+         */
+        public Builder maxBlockLag(long maxBlockLag) {
+            this.maxBlockLag = maxBlockLag; return this;
+        }
+
+        /**
+         * Enables periodic health checks (see {@link LoadBalancingService#checkHealth()}).
+         *
+         * @param executor the executor to run the health checks on.
+         * @param interval the time between two health checks in milliseconds.
+         * @return this builder.
+         */
+        public Builder healthCheck(ScheduledExecutorService executor, long interval) {
+            this.healthCheckExecutor = executor;
+            this.healthCheckInterval = interval;
+            return this;
+        }
+
+        public LoadBalancingService build() {
+            if (services.isEmpty()) {
+                throw new IllegalStateException("At least one endpoint is required.");
+            }
+            if (maxAttempts < 1 || failureThreshold < 1) {
+                throw new IllegalStateException(
+                        "The maximum attempts and the failure threshold must be at least 1.");
+            }
+            return new LoadBalancingService(this);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.neow3j.protocol.batch;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A {@link Neow3jService} decorator that coalesces asynchronous requests into JSON-RPC
+ * batches.</p>
+ * <br>
+ * <p>Requests sent via {@link #sendAsync(Request, Class)} are collected until either the batch
+ * window has passed since the first pending request or the maximum batch size is reached. The
+ * collected requests are then sent to the underlying service as one {@link BatchRequest} and
+ * each caller's future is completed with its own response.</p>
+ * <br>
+ * <p>Synchronous requests, batch requests and subscriptions are passed on to the underlying
+ * service unchanged.</p>
+ */
+public class BatchingService implements Neow3jService {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public static final long DEFAULT_BATCH_WINDOW = 10;
+
+    private final Neow3jService neow3jService;
+    private final int maxBatchSize;
+    private final long batchWindow;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private Set<Long> pendingRequestIds = new HashSet<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Creates a {@link BatchingService} that collects requests for at most
+     * {@link #DEFAULT_BATCH_WINDOW} milliseconds or {@link #DEFAULT_MAX_BATCH_SIZE} requests.
+     *
+     * @param neow3jService the service the batches are sent with.
+     */
+    public BatchingService(Neow3jService neow3jService) {
+        this(neow3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_BATCH_WINDOW);
+    }
+
+    /**
+     * Creates a {@link BatchingService}.
+     *
+     * <p>The batches are flushed on the scheduler that is shared by all services, see
+     * {@link Async#sharedScheduler()}.
+     *
+     * @param neow3jService the service the batches are sent with.
+     * @param maxBatchSize  the number of requests at which a batch is sent immediately.
+     * @param batchWindow   the time in milliseconds a request waits for other requests to
+     *                      join its batch.
+     */
+    public BatchingService(Neow3jService neow3jService, int maxBatchSize, long batchWindow) {
+        this(neow3jService, maxBatchSize, batchWindow, Async.sharedScheduler());
+    }
+
+    /**
+     * Creates a {@link BatchingService}.
+     *
+     * @param neow3jService            the service the batches are sent with.
+     * @param maxBatchSize             the number of requests at which a batch is sent
+     *                                 immediately.
+     * @param batchWindow              the time in milliseconds a request waits for other
+     *                                 requests to join its batch.
+     * @param scheduledExecutorService executor service used to flush the batches.
+     *                                 <strong>You are responsible for terminating this thread
+     *                                 pool</strong>
+     */
+    public BatchingService(Neow3jService neow3jService, int maxBatchSize, long batchWindow,
+                           ScheduledExecutorService scheduledExecutorService) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be at least 1.");
+        }
+        if (batchWindow < 0) {
+            throw new IllegalArgumentException("The batch window must not be negative.");
+        }
+        this.neow3jService = neow3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindow = batchWindow;
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        return neow3jService.send(request, responseType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<List<PendingRequest>> batchesToSend = new ArrayList<>(2);
+        synchronized (this) {
+            if (pendingRequestIds.contains(request.getId())) {
+                // The same request can't be part of a batch twice. Send the current batch first.
+                batchesToSend.add(takePendingRequests());
+            }
+            pendingRequests.add(new PendingRequest(request, (CompletableFuture<Response>) result));
+            pendingRequestIds.add(request.getId());
+            if (pendingRequests.size() >= maxBatchSize) {
+                batchesToSend.add(takePendingRequests());
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduledExecutorService.schedule(
+                        this::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+        batchesToSend.forEach(this::sendBatch);
+        return result;
+    }
+
+    /**
+     * Sends all currently pending requests without waiting for the batch window to pass.
+     */
+    public void flush() {
+        List<PendingRequest> batchToSend;
+        synchronized (this) {
+            batchToSend = takePendingRequests();
+        }
+        sendBatch(batchToSend);
+    }
+
+    private List<PendingRequest> takePendingRequests() {
+        List<PendingRequest> taken = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        pendingRequestIds = new HashSet<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return taken;
+    }
+
+    private void sendBatch(List<PendingRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        BatchRequest batchRequest = new BatchRequest(neow3jService);
+        for (PendingRequest pendingRequest : requests) {
+            batchRequest.add(pendingRequest.request);
+        }
+        neow3jService.sendBatchAsync(batchRequest).whenComplete((batchResponse, throwable) -> {
+            if (throwable != null) {
+                requests.forEach(r -> r.result.completeExceptionally(throwable));
+            } else {
+                complete(requests, batchResponse);
+            }
+        });
+    }
+
+    private void complete(List<PendingRequest> requests, BatchResponse batchResponse) {
+        List<Response> responses = batchResponse.getResponses();
+        for (int i = 0; i < requests.size(); i++) {
+            PendingRequest pendingRequest = requests.get(i);
+            Response response = responses.get(i);
+            if (response == null) {
+                pendingRequest.result.completeExceptionally(new ClientConnectionException(
+                        "No response received for request with id "
+                                + pendingRequest.request.getId() + "."));
+            } else {
+                pendingRequest.result.complete(response);
+            }
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return neow3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return neow3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return neow3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        neow3jService.close();
+    }
+
+    private static class PendingRequest {
+
+        private final Request<?, ? extends Response> request;
+        private final CompletableFuture<Response> result;
+
+        private PendingRequest(Request<?, ? extends Response> request,
+                               CompletableFuture<Response> result) {
+            this.request = request;
+            this.result = result;
+        }
+    }
+}
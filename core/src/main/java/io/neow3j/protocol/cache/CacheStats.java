@@ -0,0 +1,78 @@
+package io.neow3j.protocol.cache;
+
+/**
+ * A snapshot of the statistics of a {@link CachingService}.
+ */
+public class CacheStats {
+
+    private final long hitCount;
+    private final long diskHitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    public CacheStats(long hitCount, long diskHitCount, long missCount, long evictionCount,
+            int size) {
+        this.hitCount = hitCount;
+        this.diskHitCount = diskHitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of cacheable requests that were answered from the cache, including
+     * the ones answered from the disk and the ones that waited for an identical request that
+     * was already in flight.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests that were answered from the disk.
+     */
+    public long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests that were sent to the node.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries that were evicted from memory.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of entries in memory.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the ratio of hits to all cacheable requests or 0 if there were none.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", diskHitCount=" + diskHitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                '}';
+    }
+}
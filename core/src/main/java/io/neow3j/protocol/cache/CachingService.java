@@ -0,0 +1,376 @@
+package io.neow3j.protocol.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.notifications.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A read-through cache for requests whose responses never change.</p>
+ * <br>
+ * <p>Responses of the following requests are cached:</p>
+ * <ul>
+ * <li><tt>getblock</tt> and <tt>getblockheader</tt> in verbose form once the block has a next
+ * block and at least the minimum number of confirmations. Blocks in binary form are only cached
+ * if they are requested by hash, since their confirmations are unknown.</li>
+ * <li><tt>getrawtransaction</tt> in binary form, and in verbose form once the transaction is
+ * part of a block.</li>
+ * <li><tt>getapplicationlog</tt>.</li>
+ * </ul>
+ * <br>
+ * <p>The <tt>confirmations</tt> of cached blocks and transactions are those at the time they
+ * were cached, i.e. a lower bound of their current confirmations.
+ * <tt>getcontractstate</tt> is not cached, because contracts can be destroyed or migrated.</p>
+ * <br>
+ * <p>Error responses are never cached. The most recently used responses are kept in memory and,
+ * optionally, all responses are kept in a directory on disk, so that they survive restarts.
+ * Identical requests that are sent while the first one is still in flight wait for its response
+ * instead of being sent again. Batch requests and all other requests are passed through.</p>
+ * <br>
+ * <p>Every caller gets its own response object with the id of its request, but the results in
+ * them are shared by all callers and must not be modified.</p>
+ */
+public class CachingService implements Neow3jService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingService.class);
+
+    /**
+     * The default maximum number of responses kept in memory.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * The default number of confirmations a block requested by index needs to be cached. The
+     * latest block has one confirmation.
+     */
+    public static final int DEFAULT_MIN_CONFIRMATIONS = 2;
+
+    private static final Set<String> CACHEABLE_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(
+                    "getapplicationlog",
+                    "getblock",
+                    "getblockheader",
+                    "getrawtransaction")));
+
+    private final Neow3jService neow3jService;
+    private final MemoryCache<String, Response<?>> memoryCache;
+    private final DiskCache diskCache;
+    private final int minConfirmations;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, CompletableFuture<Response<?>>> inFlight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong diskHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache that keeps up to {@link #DEFAULT_MAX_ENTRIES} responses in memory.
+     *
+     * @param neow3jService the service to send requests to on a cache miss.
+     */
+    public CachingService(Neow3jService neow3jService) {
+        this(neow3jService, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a cache that keeps the given number of responses in memory.
+     *
+     * @param neow3jService the service to send requests to on a cache miss.
+     * @param maxEntries    the maximum number of responses kept in memory.
+     */
+    public CachingService(Neow3jService neow3jService, int maxEntries) {
+        this(neow3jService, maxEntries, null, DEFAULT_MIN_CONFIRMATIONS);
+    }
+
+    /**
+     * Creates a cache that keeps the given number of responses in memory and all responses in
+     * the given directory.
+     *
+     * @param neow3jService the service to send requests to on a cache miss.
+     * @param maxEntries    the maximum number of responses kept in memory.
+     * @param directory     the directory to keep the responses in. It is created if it does not
+     *                      exist.
+     * @throws IOException if the directory cannot be created.
+     */
+    public CachingService(Neow3jService neow3jService, int maxEntries, Path directory)
+            throws IOException {
+        this(neow3jService, maxEntries, new DiskCache(directory), DEFAULT_MIN_CONFIRMATIONS);
+    }
+
+    CachingService(Neow3jService neow3jService, int maxEntries, DiskCache diskCache,
+            int minConfirmations) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The maximum number of entries must not be "
+                    + "negative.");
+        }
+        this.neow3jService = neow3jService;
+        this.memoryCache = new MemoryCache<>(maxEntries);
+        this.diskCache = diskCache;
+        this.minConfirmations = minConfirmations;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper();
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.get(), diskHitCount.get(), missCount.get(),
+                memoryCache.getEvictionCount(), memoryCache.size());
+    }
+
+    /**
+     * Removes all responses from memory. Responses on disk are kept.
+     */
+    public void clear() {
+        memoryCache.clear();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        String key = cacheKey(request, responseType);
+        if (key == null) {
+            return neow3jService.send(request, responseType);
+        }
+        T cached = lookup(key, responseType, request.getId());
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Response<?>> future = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            T response = copy(get(existing), responseType, request.getId());
+            hitCount.incrementAndGet();
+            return response;
+        }
+        missCount.incrementAndGet();
+        try {
+            T response = neow3jService.send(request, responseType);
+            store(key, request, response);
+            future.complete(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        String key = cacheKey(request, responseType);
+        if (key == null) {
+            return neow3jService.sendAsync(request, responseType);
+        }
+        T cached;
+        try {
+            cached = lookup(key, responseType, request.getId());
+        } catch (RuntimeException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Response<?>> future = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.thenApply(response -> {
+                hitCount.incrementAndGet();
+                return copy(response, responseType, request.getId());
+            });
+        }
+        missCount.incrementAndGet();
+        neow3jService.sendAsync(request, responseType).whenComplete((response, e) -> {
+            if (e == null) {
+                store(key, request, response);
+            }
+            inFlight.remove(key, future);
+            if (e == null) {
+                future.complete(response);
+            } else {
+                future.completeExceptionally(e);
+            }
+        });
+        return future.thenApply(responseType::cast);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return neow3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return neow3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return neow3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        neow3jService.close();
+    }
+
+    private String cacheKey(Request<?, ?> request, Class<?> responseType) {
+        if (!CACHEABLE_METHODS.contains(request.getMethod())) {
+            return null;
+        }
+        try {
+            return request.getMethod() + objectMapper.writeValueAsString(request.getParams())
+                    + responseType.getName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private <T extends Response> T lookup(String key, Class<T> responseType, long id) {
+        Response<?> response = memoryCache.get(key);
+        if (response != null) {
+            hitCount.incrementAndGet();
+            return copy(response, responseType, id);
+        }
+        if (diskCache == null) {
+            return null;
+        }
+        try {
+            String json = diskCache.get(key);
+            if (json == null) {
+                return null;
+            }
+            T fromDisk = objectMapper.readValue(json, responseType);
+            memoryCache.put(key, fromDisk);
+            hitCount.incrementAndGet();
+            diskHitCount.incrementAndGet();
+            return copy(fromDisk, responseType, id);
+        } catch (IOException e) {
+            LOG.warn("Could not read cached response from disk.", e);
+            return null;
+        }
+    }
+
+    private void store(String key, Request<?, ?> request, Response<?> response) {
+        if (!isImmutable(request, response)) {
+            return;
+        }
+        memoryCache.put(key, response);
+        if (diskCache == null) {
+            return;
+        }
+        try {
+            String json = response.getRawResponse() != null
+                    ? response.getRawResponse()
+                    : objectMapper.writeValueAsString(response);
+            diskCache.put(key, json);
+        } catch (IOException e) {
+            LOG.warn("Could not write cached response to disk.", e);
+        }
+    }
+
+    private boolean isImmutable(Request<?, ?> request, Response<?> response) {
+        if (response == null || response.hasError() || response.getResult() == null) {
+            return false;
+        }
+        switch (request.getMethod()) {
+            case "getblock":
+            case "getblockheader":
+                if (response instanceof NeoGetBlock) {
+                    // The next block hash of the latest block is only set once the next block
+                    // exists.
+                    NeoBlock block = ((NeoGetBlock) response).getBlock();
+                    return block.getNextBlockHash() != null
+                            && block.getConfirmations() >= minConfirmations;
+                }
+                return isRequestedByHash(request);
+            case "getrawtransaction":
+                if (response instanceof NeoGetTransaction) {
+                    Transaction tx = ((NeoGetTransaction) response).getTransaction();
+                    return tx.getBlockHash() != null;
+                }
+                // The binary form is identified by its hash and, thus, immutable.
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Copies the response, so that the callers do not share the response object and each one
+     * gets the id of its own request. A missing response stays missing.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Response> T copy(Response<?> response, Class<T> responseType,
+            long id) {
+        if (response == null) {
+            return null;
+        }
+        T copy;
+        try {
+            copy = responseType.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a copy of the cached response.", e);
+        }
+        copy.setId(id);
+        copy.setJsonrpc(response.getJsonrpc());
+        copy.setResult(response.getResult());
+        copy.setError(response.getError());
+        copy.setRawResponse(response.getRawResponse());
+        return copy;
+    }
+
+    private static boolean isRequestedByHash(Request<?, ?> request) {
+        List<?> params = request.getParams();
+        return !params.isEmpty() && params.get(0) instanceof String;
+    }
+
+    private static Response<?> get(CompletableFuture<Response<?>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
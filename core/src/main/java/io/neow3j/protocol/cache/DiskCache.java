@@ -0,0 +1,62 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.crypto.Hash;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * <p>Keeps cache entries as files in a directory. The file name is the SHA-256 hash of the
+ * key.</p>
+ * <br>
+ * <p>An entry is first written to a temporary file, which is then moved to its final name.
+ * Hence, readers never see partially written entries.</p>
+ */
+class DiskCache {
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+
+    DiskCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory.toAbsolutePath());
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    String get(String key) throws IOException {
+        try {
+            return new String(Files.readAllBytes(file(key)), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    void put(String key, String value) throws IOException {
+        Path tempFile = Files.createTempFile(directory, null, ".tmp");
+        try {
+            Files.write(tempFile, value.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tempFile, file(key), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path file(String key) {
+        byte[] hash = Hash.sha256(key.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(Numeric.toHexStringNoPrefix(hash) + SUFFIX);
+    }
+}
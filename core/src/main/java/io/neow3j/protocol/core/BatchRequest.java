@@ -0,0 +1,75 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A list of {@link Request}s that are sent to the node in a single JSON-RPC 2.0 batch call.
+ * The responses are matched back to their requests by the request id and can be retrieved
+ * from the resulting {@link BatchResponse}.
+ */
+public class BatchRequest {
+
+    private final Neow3jService neow3jService;
+    private final List<Request<?, ? extends Response>> requests = new ArrayList<>();
+    private final Set<Long> requestIds = new HashSet<>();
+
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request the request to add.
+     * @return this batch.
+     * @throws IllegalArgumentException if a request with the same id is already part of this
+     *                                  batch, because the responses could not be told apart.
+     */
+    public BatchRequest add(Request<?, ? extends Response> request) {
+        if (!requestIds.add(request.getId())) {
+            throw new IllegalArgumentException("The batch already contains a request with id "
+                    + request.getId() + ".");
+        }
+        requests.add(request);
+        return this;
+    }
+
+    public List<Request<?, ? extends Response>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    public boolean isEmpty() {
+        return requests.isEmpty();
+    }
+
+    /**
+     * Performs the batch request synchronously.
+     *
+     * @return the responses of all requests in this batch.
+     * @throws IOException thrown if the batch could not be performed.
+     */
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    /**
+     * Performs the batch request asynchronously.
+     *
+     * @return a future that is completed with the responses of all requests in this batch.
+     */
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+}
@@ -0,0 +1,63 @@
+package io.neow3j.protocol.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The responses of a {@link BatchRequest}, in the same order as the requests of the batch.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ? extends Response>> requests;
+    private final List<Response> responses;
+    private final Map<Long, Response> responsesById;
+
+    public BatchResponse(List<Request<?, ? extends Response>> requests,
+                         List<? extends Response> responses) {
+        if (requests.size() != responses.size()) {
+            throw new IllegalArgumentException("The number of responses (" + responses.size()
+                    + ") does not match the number of requests (" + requests.size() + ").");
+        }
+        this.requests = requests;
+        this.responses = new ArrayList<>(responses);
+        this.responsesById = new HashMap<>(requests.size() * 2);
+        for (int i = 0; i < requests.size(); i++) {
+            responsesById.put(requests.get(i).getId(), responses.get(i));
+        }
+    }
+
+    public List<Request<?, ? extends Response>> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the responses of the batch. The response at position <i>i</i> belongs to the request
+     * at position <i>i</i> of {@link #getRequests()}. If the node did not respond to a request,
+     * its entry is null.
+     *
+     * @return the responses.
+     */
+    public List<Response> getResponses() {
+        return Collections.unmodifiableList(responses);
+    }
+
+    /**
+     * Gets the response that belongs to the given request.
+     *
+     * @param request the request to get the response for.
+     * @param <T>     the response type of the request.
+     * @return the response, or null if the node did not respond to the request.
+     * @throws IllegalArgumentException if the request is not part of the batch.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T getResponse(Request<?, T> request) {
+        if (responsesById.containsKey(request.getId())) {
+            return (T) responsesById.get(request.getId());
+        }
+        throw new IllegalArgumentException("The request with id " + request.getId()
+                + " is not part of this batch.");
+    }
+}
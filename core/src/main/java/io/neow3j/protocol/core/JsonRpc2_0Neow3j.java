@@ -37,9 +37,16 @@ import io.neow3j.protocol.core.methods.response.NeoSendMany;
 import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoSendToAddress;
 import io.neow3j.protocol.core.methods.response.NeoSubmitBlock;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
 import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
 import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.notifications.ApplicationLogNotification;
+import io.neow3j.protocol.notifications.NewBlockNotification;
+import io.neow3j.protocol.notifications.NewTransactionNotification;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.protocol.rx.BlockCheckpointStore;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
+import io.neow3j.transaction.RawBlock;
 import io.neow3j.utils.Async;
 import rx.Observable;
 
@@ -66,7 +73,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     private final ScheduledExecutorService scheduledExecutorService;
 
     public JsonRpc2_0Neow3j(Neow3jService neow3jService) {
-        this(neow3jService, DEFAULT_BLOCK_TIME, Async.defaultExecutorService());
+        this(neow3jService, DEFAULT_BLOCK_TIME, Async.sharedScheduler());
     }
 
     public JsonRpc2_0Neow3j(
@@ -512,6 +519,27 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrentRequests, int blocksPerRequest) {
+        return neow3jRx.replayBlocksObservable(startBlock, endBlock, fullTransactionObjects,
+                ascending, maxConcurrentRequests, blocksPerRequest);
+    }
+
+    @Override
+    public Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock) {
+        return neow3jRx.replayRawBlocksObservable(startBlock, endBlock);
+    }
+
+    @Override
+    public Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending) {
+        return neow3jRx.replayRawBlocksObservable(startBlock, endBlock, ascending);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
@@ -533,6 +561,41 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 startBlock, fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            BlockCheckpointStore checkpointStore) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                startBlock, fullTransactionObjects, blockTime, checkpointStore);
+    }
+
+    @Override
+    public Observable<NewBlockNotification> newBlockNotifications() {
+        return subscribe("block", NewBlockNotification.class);
+    }
+
+    @Override
+    public Observable<NewTransactionNotification> newTransactionNotifications() {
+        return subscribe("transaction", NewTransactionNotification.class);
+    }
+
+    @Override
+    public Observable<ApplicationLogNotification> applicationLogNotifications() {
+        return subscribe("applicationlog", ApplicationLogNotification.class);
+    }
+
+    private <T extends Notification<?>> Observable<T> subscribe(
+            String topic, Class<T> notificationType) {
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        Collections.singletonList(topic),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                notificationType);
+    }
+
     @Override
     public Request<?, NeoGetApplicationLog> getApplicationLog(String txId) {
         return new Request<>(
@@ -542,9 +605,17 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 NeoGetApplicationLog.class);
     }
 
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
     @Override
     public void shutdown() {
-        scheduledExecutorService.shutdown();
+        // The shared scheduler is used by other instances as well.
+        if (scheduledExecutorService != Async.sharedScheduler()) {
+            scheduledExecutorService.shutdown();
+        }
         try {
             neow3jService.close();
         } catch (IOException e) {
@@ -1,5 +1,6 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.neow3j.protocol.Neow3jService;
 import rx.Observable;
 
@@ -66,6 +67,11 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
     public T send() throws IOException {
         return neow3jService.send(this, responseType);
     }
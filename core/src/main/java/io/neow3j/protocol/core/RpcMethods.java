@@ -0,0 +1,64 @@
+package io.neow3j.protocol.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classification of the JSON-RPC methods of a node.
+ */
+public final class RpcMethods {
+
+    private RpcMethods() {}
+
+    /**
+     * <p>The methods that only read the state of the node or the blockchain.</p>
+     * <br>
+     * <p>Sending such a request several times, e.g. to retry it on another node, has no side
+     * effects. Methods that are not contained in this set, such as <tt>sendrawtransaction</tt>,
+     * <tt>getnewaddress</tt> or any unknown method, must be assumed to have side effects.</p>
+     */
+    public static final Set<String> READ_ONLY_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(
+                    "getaccountstate",
+                    "getapplicationlog",
+                    "getassetstate",
+                    "getbalance",
+                    "getbestblockhash",
+                    "getblock",
+                    "getblockcount",
+                    "getblockhash",
+                    "getblockheader",
+                    "getblocksysfee",
+                    "getclaimable",
+                    "getconnectioncount",
+                    "getcontractstate",
+                    "getnep5balances",
+                    "getpeers",
+                    "getrawmempool",
+                    "getrawtransaction",
+                    "getstorage",
+                    "gettxout",
+                    "getunspents",
+                    "getvalidators",
+                    "getversion",
+                    "getwalletheight",
+                    "invoke",
+                    "invokefunction",
+                    "invokescript",
+                    "listaddress",
+                    "listplugins",
+                    "validateaddress")));
+
+    /**
+     * Checks if the given request only reads state and, thus, may safely be sent more than once.
+     *
+     * @param request the request.
+     * @return true if the request is read-only.
+     */
+    public static boolean isReadOnly(Request<?, ?> request) {
+        return READ_ONLY_METHODS.contains(request.getMethod());
+    }
+
+}
@@ -1,6 +1,12 @@
 package io.neow3j.protocol.core.methods.response;
 
+import io.neow3j.crypto.transaction.RawBlockHeader;
+import io.neow3j.io.BinaryReader;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.transaction.RawBlock;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
 
 public class NeoGetRawBlock extends Response<String> {
 
@@ -8,4 +14,39 @@ public class NeoGetRawBlock extends Response<String> {
         return getResult();
     }
 
+    /**
+     * Decodes the raw block contained in this response.
+     *
+     * @return the block or null if this response has no result.
+     * @throws IOException if the result is not a valid serialized block.
+     */
+    public RawBlock toRawBlock() throws IOException {
+        if (getResult() == null) {
+            return null;
+        }
+        RawBlock block = new RawBlock();
+        try (BinaryReader reader = new BinaryReader(Numeric.hexStringToByteArray(getResult()))) {
+            block.deserialize(reader);
+        }
+        return block;
+    }
+
+    /**
+     * Decodes the raw block header contained in this response, e.g. the result of a
+     * <tt>getblockheader</tt> request.
+     *
+     * @return the block header or null if this response has no result.
+     * @throws IOException if the result is not a valid serialized block header.
+     */
+    public RawBlockHeader toRawBlockHeader() throws IOException {
+        if (getResult() == null) {
+            return null;
+        }
+        RawBlockHeader header = new RawBlockHeader();
+        try (BinaryReader reader = new BinaryReader(Numeric.hexStringToByteArray(getResult()))) {
+            header.deserialize(reader);
+        }
+        return header;
+    }
+
 }
@@ -0,0 +1,15 @@
+package io.neow3j.protocol.core.methods.response;
+
+import io.neow3j.protocol.core.Response;
+
+/**
+ * The response to a subscription request. Its result is the id of the subscription, which is
+ * contained in all notifications of the subscription.
+ */
+public class NeoSubscribe extends Response<String> {
+
+    public String getSubscriptionId() {
+        return getResult();
+    }
+
+}
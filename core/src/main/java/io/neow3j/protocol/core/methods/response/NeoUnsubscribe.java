@@ -0,0 +1,14 @@
+package io.neow3j.protocol.core.methods.response;
+
+import io.neow3j.protocol.core.Response;
+
+/**
+ * The response to a request that cancels a subscription.
+ */
+public class NeoUnsubscribe extends Response<Boolean> {
+
+    public boolean isUnsubscribed() {
+        return Boolean.TRUE.equals(getResult());
+    }
+
+}
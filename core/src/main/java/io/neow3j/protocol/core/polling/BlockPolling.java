@@ -3,68 +3,273 @@ package io.neow3j.protocol.core.polling;
 import io.neow3j.protocol.Neow3j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import rx.Observable;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
+/**
+ * <p>Polls the node for new blocks and passes the index of each new block to a callback.</p>
+ * <br>
+ * <p>With {@link #run(ScheduledExecutorService, long)} the node is polled at a fixed rate. With
+ * {@link #runAdaptive(ScheduledExecutorService, long, long)} the polling interval adapts to the
+ * observed block time: the node is polled at the minimum interval shortly before and after a
+ * new block is expected, and less often in between. If the expected block does not arrive, the
+ * interval is doubled up to the maximum interval.</p>
+ * <br>
+ * <p>A poll blocks until the node answers. If the scheduler is shared, e.g.
+ * {@link io.neow3j.utils.Async#sharedScheduler()}, pass an executor that runs the polls, so
+ * that a slow node does not delay the other scheduled tasks.</p>
+ */
 public class BlockPolling {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockPolling.class);
 
-    private BigInteger currentBlock;
+    /**
+     * The default minimum polling interval of the adaptive polling in milliseconds.
+     */
+    public static final long DEFAULT_MIN_POLLING_INTERVAL = 250;
+
+    private static final long UNKNOWN = -1;
+
+    // Weight of the most recent block interval in the estimated block time.
+    private static final double BLOCK_TIME_SMOOTHING = 0.2;
 
     private final Neow3j neow3j;
     private final Callback<BigInteger> callback;
+    private final LongSupplier clock;
+
+    private volatile long currentBlock = UNKNOWN;
 
-    private ScheduledFuture<?> schedule;
+    private long minPollingInterval;
+    private long maxPollingInterval;
+    private long lastBlockTime = UNKNOWN;
+    private double expectedBlockTime;
+    private long backoff;
+
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile boolean cancelled;
+    private volatile ScheduledFuture<?> schedule;
 
     public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback) {
+        this(neow3j, callback, System::currentTimeMillis);
+    }
+
+    BlockPolling(Neow3j neow3j, Callback<BigInteger> callback, LongSupplier clock) {
         this.neow3j = neow3j;
         this.callback = callback;
+        this.clock = clock;
     }
 
     public BigInteger getCurrentBlock() {
-        return currentBlock;
+        long block = currentBlock;
+        return block == UNKNOWN ? null : BigInteger.valueOf(block);
     }
 
     public synchronized void nextBlock() {
-        this.currentBlock = this.currentBlock.add(BigInteger.ONE);
+        this.currentBlock++;
+    }
+
+    /**
+     * @return the currently expected time between two blocks in milliseconds or 0 if the
+     * adaptive polling is not used.
+     */
+    public synchronized long getExpectedBlockTime() {
+        return (long) expectedBlockTime;
     }
 
-    private BigInteger getLatestBlockIndex() throws IOException {
-        return neow3j.getBlockCount().send().getBlockIndex();
+    private long getLatestBlockIndex() throws IOException {
+        return neow3j.getBlockCount().send().getBlockIndex().longValueExact();
     }
 
+    /**
+     * Polls the node at a fixed rate on the given scheduler.
+     *
+     * @param scheduledExecutorService the executor to poll on.
+     * @param pollingInterval          the polling interval in milliseconds.
+     */
     public void run(ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+        run(scheduledExecutorService, Runnable::run, pollingInterval);
+    }
+
+    /**
+     * Polls the node at a fixed rate. A poll is skipped if the previous one did not finish yet.
+     *
+     * @param scheduledExecutorService the executor that schedules the polls.
+     * @param executor                 the executor that runs the polls.
+     * @param pollingInterval          the polling interval in milliseconds.
+     */
+    public void run(ScheduledExecutorService scheduledExecutorService, Executor executor,
+            long pollingInterval) {
         this.schedule = scheduledExecutorService.scheduleAtFixedRate(
                 () -> {
-                    try {
-                        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
-                        if (this.currentBlock == null) {
-                            this.currentBlock = latestBlockNumber;
-                        }
-                        if (latestBlockNumber.compareTo(getCurrentBlock()) == 1) {
-                            IntStream.rangeClosed(getCurrentBlock().add(BigInteger.ONE).intValue(), latestBlockNumber.intValue())
-                                    .forEachOrdered((blockIndex) -> {
-                                        callback.onEvent(BigInteger.valueOf(blockIndex));
-                                        nextBlock();
-                                    });
-                        }
-                    } catch (Throwable e) {
-                        LOG.error("Error on polling: {}", e);
-                        Observable.error(e);
+                    if (!polling.compareAndSet(false, true)) {
+                        return;
                     }
+                    execute(executor, () -> {
+                        try {
+                            poll();
+                        } catch (Throwable e) {
+                            LOG.error("Error on polling.", e);
+                        } finally {
+                            polling.set(false);
+                        }
+                    }, () -> polling.set(false));
                 },
                 0, pollingInterval, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Polls the node on the given scheduler with an interval that adapts to the observed block
+     * time.
+     *
+     * @param scheduledExecutorService the executor to poll on.
+     * @param minPollingInterval       the polling interval in milliseconds around the time a new
+     *                                 block is expected.
+     * @param maxPollingInterval       the maximum polling interval in milliseconds. It is also
+     *                                 used as the initial estimate of the block time.
+     */
+    public void runAdaptive(ScheduledExecutorService scheduledExecutorService,
+            long minPollingInterval, long maxPollingInterval) {
+        runAdaptive(scheduledExecutorService, Runnable::run, minPollingInterval,
+                maxPollingInterval);
+    }
+
+    /**
+     * Polls the node with an interval that adapts to the observed block time. The next poll is
+     * scheduled when the previous one finished.
+     *
+     * @param scheduledExecutorService the executor that schedules the polls.
+     * @param executor                 the executor that runs the polls.
+     * @param minPollingInterval       the polling interval in milliseconds around the time a new
+     *                                 block is expected.
+     * @param maxPollingInterval       the maximum polling interval in milliseconds. It is also
+     *                                 used as the initial estimate of the block time.
+     */
+    public void runAdaptive(ScheduledExecutorService scheduledExecutorService, Executor executor,
+            long minPollingInterval, long maxPollingInterval) {
+        if (minPollingInterval <= 0 || maxPollingInterval < minPollingInterval) {
+            throw new IllegalArgumentException("The minimum polling interval must be positive "
+                    + "and not greater than the maximum polling interval.");
+        }
+        synchronized (this) {
+            this.minPollingInterval = minPollingInterval;
+            this.maxPollingInterval = maxPollingInterval;
+            this.expectedBlockTime = maxPollingInterval;
+            this.backoff = minPollingInterval;
+        }
+        scheduleAdaptive(scheduledExecutorService, executor, 0);
+    }
+
+    private void scheduleAdaptive(ScheduledExecutorService scheduledExecutorService,
+            Executor executor, long delay) {
+        if (cancelled) {
+            return;
+        }
+        this.schedule = scheduledExecutorService.schedule(
+                () -> execute(executor, () -> {
+                    if (cancelled) {
+                        return;
+                    }
+                    long nextDelay;
+                    try {
+                        poll();
+                        nextDelay = nextDelay();
+                    } catch (Throwable e) {
+                        LOG.error("Error on polling.", e);
+                        nextDelay = backOff();
+                    }
+                    scheduleAdaptive(scheduledExecutorService, executor, nextDelay);
+                }, () -> scheduleAdaptive(scheduledExecutorService, executor, backOff())),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static void execute(Executor executor, Runnable poll, Runnable onRejected) {
+        try {
+            executor.execute(poll);
+        } catch (RejectedExecutionException e) {
+            // E.g. a bounded executor is saturated. The poll is retried later.
+            LOG.error("Error on polling.", e);
+            onRejected.run();
+        }
+    }
+
+    synchronized void poll() throws IOException {
+        long latestBlock = getLatestBlockIndex() - 1;
+        if (currentBlock == UNKNOWN) {
+            currentBlock = latestBlock;
+            return;
+        }
+        if (latestBlock <= currentBlock) {
+            return;
+        }
+
+        long newBlocks = latestBlock - currentBlock;
+        while (currentBlock < latestBlock && !cancelled) {
+            callback.onEvent(BigInteger.valueOf(currentBlock + 1));
+            nextBlock();
+        }
+        onNewBlocks(newBlocks);
+    }
+
+    private void onNewBlocks(long newBlocks) {
+        if (expectedBlockTime == 0) {
+            // Fixed rate polling.
+            return;
+        }
+        long now = clock.getAsLong();
+        // The first interval is not used since the previous block might have been created
+        // long before polling started.
+        if (lastBlockTime != UNKNOWN) {
+            double blockTime = (double) (now - lastBlockTime) / newBlocks;
+            expectedBlockTime = BLOCK_TIME_SMOOTHING * blockTime
+                    + (1 - BLOCK_TIME_SMOOTHING) * expectedBlockTime;
+        }
+        lastBlockTime = now;
+        backoff = minPollingInterval;
+    }
+
+    /**
+     * Calculates the delay until the next poll based on the time the last block was observed
+     * and the expected block time.
+     *
+     * @return the delay in milliseconds.
+     */
+    synchronized long nextDelay() {
+        if (lastBlockTime == UNKNOWN) {
+            // Nothing is known about the next block, yet.
+            return backOff();
+        }
+        long untilExpected = lastBlockTime + (long) expectedBlockTime - clock.getAsLong();
+        long window = Math.max(minPollingInterval, (long) expectedBlockTime / 10);
+        if (untilExpected > window) {
+            return Math.min(untilExpected - window, maxPollingInterval);
+        }
+        if (untilExpected > -window) {
+            return minPollingInterval;
+        }
+        // The block is overdue, e.g. because the network is idle.
+        return backOff();
+    }
+
+    private synchronized long backOff() {
+        long delay = backoff;
+        backoff = Math.min(backoff * 2, maxPollingInterval);
+        return delay;
+    }
+
     public void cancel() {
-        schedule.cancel(false);
+        cancelled = true;
+        ScheduledFuture<?> schedule = this.schedule;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
     }
 
 }
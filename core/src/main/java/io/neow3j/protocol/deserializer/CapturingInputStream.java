@@ -0,0 +1,94 @@
+package io.neow3j.protocol.deserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>An input stream that keeps a copy of all bytes read from the underlying stream.</p>
+ * <br>
+ * <p>It is used to populate the raw response of a {@link io.neow3j.protocol.core.Response}
+ * while the response is deserialized directly from the underlying stream, instead of buffering
+ * the entire payload before deserialization starts.</p>
+ */
+public class CapturingInputStream extends FilterInputStream {
+
+    private final ByteArrayOutputStream captured;
+
+    public CapturingInputStream(InputStream in) {
+        super(in);
+        this.captured = new ByteArrayOutputStream();
+    }
+
+    public CapturingInputStream(InputStream in, int expectedSize) {
+        super(in);
+        this.captured = new ByteArrayOutputStream(Math.max(expectedSize, 32));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            captured.write(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            captured.write(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes have to be captured, too.
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @return the number of bytes read so far.
+     */
+    public int getCapturedSize() {
+        return captured.size();
+    }
+
+    /**
+     * Gets all bytes read so far as UTF-8 string, without a trailing line terminator.
+     *
+     * @return the captured content.
+     */
+    public String getCapturedContent() {
+        String content;
+        try {
+            content = captured.toString(StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        int end = content.length();
+        while (end > 0 && (content.charAt(end - 1) == '\n' || content.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
+}
@@ -10,8 +10,6 @@ import io.neow3j.protocol.core.Response;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.Scanner;
 
 /**
  * A jackson deserializer that sets the rawResponse variable of Response objects.
@@ -42,18 +40,28 @@ public class RawResponseDeserializer
     }
 
     private String getRawResponse(JsonParser jp) throws IOException {
-        final InputStream inputSource = (InputStream) jp.getInputSource();
+        final Object inputSource = jp.getInputSource();
 
-        if (inputSource == null) {
+        if (inputSource instanceof CapturingInputStream) {
+            return ((CapturingInputStream) inputSource).getCapturedContent();
+        }
+        if (!(inputSource instanceof InputStream)) {
             return "";
         }
 
-        inputSource.reset();
+        InputStream inputStream = (InputStream) inputSource;
+        inputStream.reset();
 
-        return streamToString(inputSource);
+        return streamToString(inputStream);
     }
 
     private String streamToString(InputStream input) throws IOException {
-        return new Scanner(input, StandardCharsets.UTF_8.name()).useDelimiter("\\Z").next();
+        CapturingInputStream capturingInputStream =
+                new CapturingInputStream(input, input.available());
+        byte[] buffer = new byte[8192];
+        while (capturingInputStream.read(buffer) != -1) {
+            // Reads the stream to the end, the content is captured.
+        }
+        return capturingInputStream.getCapturedContent();
     }
 }
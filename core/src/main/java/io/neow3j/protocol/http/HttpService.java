@@ -3,6 +3,7 @@ package io.neow3j.protocol.http;
 import io.neow3j.protocol.Service;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.CapturingInputStream;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
 import io.neow3j.utils.Async;
 import okhttp3.Headers;
@@ -11,12 +12,9 @@ import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
-import okio.Buffer;
-import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -59,7 +57,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      *
      * @param url                 the URL to the HTTP service (JSON-RPC).
      * @param httpClient          the HTTP client instance.
@@ -88,7 +86,7 @@ public class HttpService extends Service {
      * <p>The URL is set to {@link HttpService#DEFAULT_URL}.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      *
      * @param httpClient          the HTTP client instance.
      * @param includeRawResponses option to include or not raw responses on the {@link Response} object.
@@ -114,7 +112,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      * <br>
      * <p>The {@link #includeRawResponses} is set to false.</p>
      *
@@ -143,7 +141,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      * <br>
@@ -172,7 +170,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      *
@@ -201,7 +199,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      * <br>
      * <p>The URL is set to {@link HttpService#DEFAULT_URL}.</p>
      * <br>
@@ -231,7 +229,7 @@ public class HttpService extends Service {
      * <p>Create an {@link HttpService} instance.</p>
      * <br>
      * <p>An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls,
-     * defined by {@link Async#defaultExecutorService()}.</p>
+     * defined by {@link Async#getDefaultExecutor()}.</p>
      * <br>
      * <p>The HTTP client used is set by default by {@link #createOkHttpClient()}.</p>
      * <br>
@@ -253,7 +251,7 @@ public class HttpService extends Service {
         return builder.build();
     }
 
-    private static void configureLogging(OkHttpClient.Builder builder) {
+    protected static void configureLogging(OkHttpClient.Builder builder) {
         if (log.isDebugEnabled()) {
             HttpLoggingInterceptor logging = new HttpLoggingInterceptor(log::debug);
             logging.setLevel(HttpLoggingInterceptor.Level.BODY);
@@ -263,17 +261,36 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return processResponse(response);
+    }
 
-        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, request);
+    /**
+     * Builds the HTTP POST request that carries the given JSON-RPC payload.
+     *
+     * @param payload the JSON-RPC payload.
+     * @return the HTTP request.
+     */
+    protected okhttp3.Request buildHttpRequest(String payload) {
+        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, payload);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest = new okhttp3.Request.Builder()
+        return new okhttp3.Request.Builder()
                 .url(url)
                 .headers(headers)
                 .post(requestBody)
                 .build();
+    }
 
-        okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+    /**
+     * Gets the stream of the response body of a successful HTTP response.
+     *
+     * @param response the HTTP response.
+     * @return the response body stream, or null if the response has no body.
+     * @throws IOException               if the response body could not be read.
+     * @throws ClientConnectionException if the HTTP response is not successful.
+     */
+    protected InputStream processResponse(okhttp3.Response response) throws IOException {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
@@ -293,29 +310,28 @@ public class HttpService extends Service {
         InputStream inputStream = responseBody.byteStream();
 
         if (includeRawResponses) {
-            // we have to buffer the entire input payload, so that after processing
-            // it can be re-read and used to populate the rawResponse field.
-
-            BufferedSource source = responseBody.source();
-            source.request(Long.MAX_VALUE); // Buffer the entire body
-            Buffer buffer = source.buffer();
-
-            long size = buffer.size();
-            if (size > Integer.MAX_VALUE) {
-                throw new UnsupportedOperationException("Non-integer input buffer size specified: " + size);
+            // The response is still deserialized directly from the socket. All bytes read on the
+            // way are captured to populate the rawResponse field afterwards.
+            long contentLength = responseBody.contentLength();
+            if (contentLength > Integer.MAX_VALUE) {
+                throw new UnsupportedOperationException(
+                        "Non-integer input buffer size specified: " + contentLength);
             }
-
-            int bufferSize = (int) size;
-            BufferedInputStream bufferedinputStream = new BufferedInputStream(inputStream, bufferSize);
-
-            bufferedinputStream.mark(inputStream.available());
-            return bufferedinputStream;
-
+            return new CapturingInputStream(inputStream, (int) contentLength);
         } else {
             return inputStream;
         }
     }
 
+    /**
+     * Gets the HTTP client used by this service.
+     *
+     * @return the HTTP client.
+     */
+    protected OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
     private Headers buildHeaders() {
         return Headers.of(headers);
     }
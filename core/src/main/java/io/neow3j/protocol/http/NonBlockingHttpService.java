@@ -0,0 +1,256 @@
+package io.neow3j.protocol.http;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.metrics.RequestEvent;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>HTTP implementation of the Service API that performs asynchronous requests without
+ * blocking a thread per request.</p>
+ * <br>
+ * <p>Asynchronous requests are enqueued on the {@link Dispatcher} of the HTTP client and their
+ * futures are completed from the dispatcher's threads once the response arrives. Hence, the
+ * number of concurrent requests is bounded by the dispatcher limits (see
+ * {@link #setMaxRequests(int)} and {@link #setMaxRequestsPerHost(int)}) and not by the number
+ * of threads. Further requests wait in the dispatcher's queue.</p>
+ * <br>
+ * <p>Callbacks attached to the returned futures with non-async methods (e.g.
+ * {@link CompletableFuture#thenApply(java.util.function.Function)}) run on the dispatcher's
+ * threads and should not block.</p>
+ */
+public class NonBlockingHttpService extends HttpService {
+
+    /**
+     * The default maximum number of concurrent requests to the node.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+
+    /**
+     * Create a {@link NonBlockingHttpService} instance.
+     *
+     * @param url                 the URL to the HTTP service (JSON-RPC).
+     * @param httpClient          the HTTP client instance. Its dispatcher limits bound the
+     *                            number of concurrent requests.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public NonBlockingHttpService(String url, OkHttpClient httpClient,
+                                  boolean includeRawResponses) {
+        super(url, httpClient, includeRawResponses);
+    }
+
+    /**
+     * <p>Create a {@link NonBlockingHttpService} instance.</p>
+     * <br>
+     * <p>The {@link Response#getRawResponse()} is not included.</p>
+     *
+     * @param url        the URL to the HTTP service (JSON-RPC).
+     * @param httpClient the HTTP client instance. Its dispatcher limits bound the number of
+     *                   concurrent requests.
+     */
+    public NonBlockingHttpService(String url, OkHttpClient httpClient) {
+        this(url, httpClient, false);
+    }
+
+    /**
+     * <p>Create a {@link NonBlockingHttpService} instance.</p>
+     * <br>
+     * <p>A new HTTP client is created that allows at most the given number of concurrent
+     * requests to the node.</p>
+     *
+     * @param url                 the URL to the HTTP service (JSON-RPC).
+     * @param maxRequestsPerHost  the maximum number of concurrent requests.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public NonBlockingHttpService(String url, int maxRequestsPerHost,
+                                  boolean includeRawResponses) {
+        this(url, createOkHttpClient(maxRequestsPerHost), includeRawResponses);
+    }
+
+    /**
+     * <p>Create a {@link NonBlockingHttpService} instance.</p>
+     * <br>
+     * <p>A new HTTP client is created that allows at most the given number of concurrent
+     * requests to the node.</p>
+     * <br>
+     * <p>The {@link Response#getRawResponse()} is not included.</p>
+     *
+     * @param url                the URL to the HTTP service (JSON-RPC).
+     * @param maxRequestsPerHost the maximum number of concurrent requests.
+     */
+    public NonBlockingHttpService(String url, int maxRequestsPerHost) {
+        this(url, maxRequestsPerHost, false);
+    }
+
+    /**
+     * <p>Create a {@link NonBlockingHttpService} instance.</p>
+     * <br>
+     * <p>A new HTTP client is created that allows at most
+     * {@link #DEFAULT_MAX_REQUESTS_PER_HOST} concurrent requests to the node.</p>
+     * <br>
+     * <p>The {@link Response#getRawResponse()} is not included.</p>
+     *
+     * @param url the URL to the HTTP service (JSON-RPC).
+     */
+    public NonBlockingHttpService(String url) {
+        this(url, DEFAULT_MAX_REQUESTS_PER_HOST);
+    }
+
+    private static OkHttpClient createOkHttpClient(int maxRequestsPerHost) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        dispatcher.setMaxRequests(Math.max(maxRequestsPerHost, dispatcher.getMaxRequests()));
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder().dispatcher(dispatcher);
+        configureLogging(builder);
+        return builder.build();
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests to a single host. Requests beyond that
+     * limit are queued by the HTTP client.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent requests per host.
+     */
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        getHttpClient().dispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests over all hosts. Requests beyond that
+     * limit are queued by the HTTP client.
+     *
+     * @param maxRequests the maximum number of concurrent requests.
+     */
+    public void setMaxRequests(int maxRequests) {
+        getHttpClient().dispatcher().setMaxRequests(maxRequests);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        RequestEvent event = hasListeners() ? startRequest(request) : null;
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (IOException e) {
+            return failedFuture(completeRequest(event, e));
+        }
+        return performIOAsync(payload, event, result -> readResponse(result, responseType));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response>> requests = batchRequest.getRequests();
+        List<CompletableFuture<List<Response>>> chunks = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += getMaxBatchSize()) {
+            List<Request<?, ? extends Response>> chunk =
+                    requests.subList(from, Math.min(from + getMaxBatchSize(), requests.size()));
+            RequestEvent event = hasListeners() ? startRequest(chunk) : null;
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(chunk);
+            } catch (IOException e) {
+                chunks.forEach(c -> c.cancel(false));
+                return failedFuture(completeRequest(event, e));
+            }
+            chunks.add(performIOAsync(payload, event,
+                    result -> readBatchResponse(result, chunk)));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<Response> responses = new ArrayList<>(requests.size());
+                    chunks.forEach(chunk -> responses.addAll(chunk.join()));
+                    return new BatchResponse(requests, responses);
+                });
+    }
+
+    private <R> CompletableFuture<R> performIOAsync(String payload, RequestEvent event,
+            ResponseReader<R> reader) {
+        if (event != null) {
+            event.serialized(payload);
+        }
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Call call = getHttpClient().newCall(buildHttpRequest(payload));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                try (InputStream inputStream = processResponse(response)) {
+                    if (event == null) {
+                        result.complete(reader.read(inputStream));
+                        return;
+                    }
+                    event.received();
+                    InputStream counted = countingStream(inputStream);
+                    R read = reader.read(counted);
+                    event.deserialized(countOf(counted), responsesOf(read));
+                    result.complete(read);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    response.close();
+                }
+            }
+        });
+        // The measurement is completed before the caller sees the response.
+        CompletableFuture<R> measured = event == null ? result : result.whenComplete((r, e) -> {
+            if (e != null) {
+                event.failed(e);
+            }
+            completeRequest(event);
+        });
+        // Cancelling the future releases the connection instead of waiting for the response.
+        measured.whenComplete((r, e) -> {
+            if (measured.isCancelled()) {
+                result.cancel(false);
+                call.cancel();
+            }
+        });
+        return measured;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends Response> responsesOf(Object read) {
+        return read instanceof List
+                ? (List<? extends Response>) read
+                : Collections.singletonList((Response) read);
+    }
+
+    private Throwable completeRequest(RequestEvent event, Throwable failure) {
+        if (event != null) {
+            event.failed(failure);
+            completeRequest(event);
+        }
+        return failure;
+    }
+
+    private static <R> CompletableFuture<R> failedFuture(Throwable throwable) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private interface ResponseReader<R> {
+        R read(InputStream inputStream) throws IOException;
+    }
+}
@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Ipc service implementation.
@@ -44,10 +45,10 @@ public class IpcService extends Service {
     protected InputStream performIO(String payload) throws IOException {
         IOFacade io = getIoFacade();
         io.write(payload);
-        log.debug(">> " + payload);
+        log.debug(">> {}", payload);
 
         String result = io.read();
-        log.debug("<< " + result);
+        log.debug("<< {}", result);
         if (io != ioFacade) {
             io.close();
         }
@@ -55,7 +56,7 @@ public class IpcService extends Service {
         // It's not ideal converting back into an inputStream, but we want
         // to be consistent with the HTTPService API.
         // UTF-8 (the default encoding for JSON) is explicitly used here.
-        return new ByteArrayInputStream(result.getBytes("UTF-8"));
+        return new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8));
     }
 
     private IOFacade getIoFacade() {
@@ -0,0 +1,97 @@
+package io.neow3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>Splits a stream of bytes into JSON messages.</p>
+ * <br>
+ * <p>A message ends where its top-level object or array is closed, so neither a delimiter nor a
+ * length prefix is needed, and a single read may contain several messages or only part of one.
+ * Scanning the raw UTF-8 bytes is sufficient, because the bytes of multi-byte characters never
+ * equal the ASCII brackets and quotes.</p>
+ */
+class JsonFrameDecoder {
+
+    private static final int INITIAL_FRAME_SIZE = 8 * 1024;
+
+    // Frames of huge responses are not retained, so that one large block does not keep its
+    // buffer alive for the lifetime of the connection.
+    private static final int MAX_RETAINED_FRAME_SIZE = 1024 * 1024;
+
+    private byte[] frame = new byte[INITIAL_FRAME_SIZE];
+    private int length;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    interface FrameHandler {
+
+        /**
+         * Handles a complete message. The bytes are only valid until the method returns.
+         *
+         * @param bytes  the buffer containing the message.
+         * @param length the length of the message.
+         * @throws IOException if the message could not be handled.
+         */
+        void onFrame(byte[] bytes, int length) throws IOException;
+    }
+
+    /**
+     * Consumes all remaining bytes of the buffer and passes every message that is completed by
+     * them to the handler.
+     *
+     * @param buffer  the bytes read from the connection.
+     * @param handler the handler of the messages.
+     * @throws IOException if the handler fails.
+     */
+    void decode(ByteBuffer buffer, FrameHandler handler) throws IOException {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (depth == 0 && length == 0) {
+                // Skip whitespace and delimiters between messages.
+                if (b != '{' && b != '[') {
+                    continue;
+                }
+            }
+            append(b);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == 0) {
+                    completeFrame(handler);
+                }
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (length == frame.length) {
+            frame = Arrays.copyOf(frame, frame.length * 2);
+        }
+        frame[length++] = b;
+    }
+
+    private void completeFrame(FrameHandler handler) throws IOException {
+        try {
+            handler.onFrame(frame, length);
+        } finally {
+            length = 0;
+            if (frame.length > MAX_RETAINED_FRAME_SIZE) {
+                frame = new byte[INITIAL_FRAME_SIZE];
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.neow3j.protocol.PipelinedService;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.utils.Async;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <p>IPC implementation of the Service API that keeps one connection to the node open.</p>
+ * <br>
+ * <p>In contrast to {@link UnixIpcService}, which opens a new socket for every request and
+ * blocks it until the response is read, all requests are written to the same channel and their
+ * responses are matched to the requests by id (see {@link PipelinedService}). Hence, any number
+ * of requests can be in flight at the same time. A single daemon thread reads the responses into
+ * a reusable buffer and splits them into messages at the end of their top-level JSON value, so
+ * the node does not have to terminate them with a newline.</p>
+ * <br>
+ * <p>The connection is opened when the service is created and stays open until it is closed.</p>
+ */
+public class PipelinedIpcService extends PipelinedService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedIpcService.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+
+    private final ByteChannel channel;
+    private final Thread reader;
+
+    private final JsonFrameDecoder decoder = new JsonFrameDecoder();
+
+    // Guarded by writeBuffer.
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    private volatile boolean closed;
+
+    /**
+     * Create a {@link PipelinedIpcService} connected to a Unix domain socket.
+     *
+     * @param ipcSocketPath the path of the node's socket file.
+     */
+    public PipelinedIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    /**
+     * Create a {@link PipelinedIpcService} connected to a Unix domain socket.
+     *
+     * @param ipcSocketPath      the path of the node's socket file.
+     * @param includeRawResponse option to include or not raw responses on the {@link Response}
+     *                           object.
+     */
+    public PipelinedIpcService(String ipcSocketPath, boolean includeRawResponse) {
+        this(openUnixSocket(ipcSocketPath), includeRawResponse, Async.sharedScheduler());
+    }
+
+    /**
+     * Create a {@link PipelinedIpcService} on an already opened channel.
+     *
+     * @param channel            the channel. It must be in blocking mode and allow one thread
+     *                           to read while another one writes. It is closed when the service
+     *                           is closed.
+     * @param includeRawResponse option to include or not raw responses on the {@link Response}
+     *                           object.
+     * @param executorService    the executor used to time out requests. It is not shut down
+     *                           when the service is closed.
+     */
+    public PipelinedIpcService(ByteChannel channel, boolean includeRawResponse,
+                               ScheduledExecutorService executorService) {
+        super(includeRawResponse, executorService);
+        this.channel = channel;
+        this.reader = new Thread(this::readResponses, "neow3j-ipc-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    private static ByteChannel openUnixSocket(String ipcSocketPath) {
+        try {
+            return UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Provided file socket cannot be opened: " + ipcSocketPath, e);
+        }
+    }
+
+    @Override
+    protected void write(String payload) throws IOException {
+        LOG.debug(">> {}", payload);
+        CharBuffer chars = CharBuffer.wrap(payload);
+        synchronized (writeBuffer) {
+            encoder.reset();
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, writeBuffer, true);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                flushWriteBuffer();
+            } while (result.isOverflow());
+            while (encoder.flush(writeBuffer).isOverflow()) {
+                flushWriteBuffer();
+            }
+            flushWriteBuffer();
+        }
+    }
+
+    private void flushWriteBuffer() throws IOException {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void readResponses() {
+        ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        try {
+            while (channel.read(readBuffer) >= 0) {
+                readBuffer.flip();
+                decoder.decode(readBuffer, this::onFrame);
+                readBuffer.clear();
+            }
+        } catch (ClosedChannelException e) {
+            // Closed by close().
+        } catch (IOException | RuntimeException e) {
+            if (!closed) {
+                LOG.error("Failed to read from the IPC connection.", e);
+            }
+        } finally {
+            closed = true;
+            failPendingRequests(
+                    new ClientConnectionException("The IPC connection was closed."));
+        }
+    }
+
+    private void onFrame(byte[] bytes, int length) {
+        JsonNode node;
+        try (JsonParser parser = objectMapper.getFactory().createParser(bytes, 0, length)) {
+            node = objectMapper.readTree(parser);
+        } catch (IOException e) {
+            LOG.error("Failed to parse message from IPC connection: {}",
+                    new String(bytes, 0, length, StandardCharsets.UTF_8), e);
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("<< {}", node);
+        }
+        if (!onResponse(node)) {
+            LOG.warn("Received response without pending request: {}", node);
+        }
+    }
+
+    /**
+     * @return true if the connection is open.
+     */
+    public boolean isOpen() {
+        return !closed && channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            channel.close();
+        } finally {
+            failPendingRequests(
+                    new ClientConnectionException("The IPC connection was closed."));
+        }
+    }
+}
@@ -16,7 +16,9 @@ public class UnixDomainSocket implements IOFacade {
 
     private static final int DEFAULT_BUFFER_SIZE = 1024;
 
-    private final int bufferSize;
+    // Reused by all reads. The IO facade is not meant to be read concurrently.
+    private final CharBuffer response;
+    private final StringBuilder result = new StringBuilder();
 
     private final InputStreamReader reader;
     private final PrintWriter writer;
@@ -28,7 +30,7 @@ public class UnixDomainSocket implements IOFacade {
     }
 
     public UnixDomainSocket(String ipcSocketPath, int bufferSize) {
-        this.bufferSize = bufferSize;
+        this.response = CharBuffer.allocate(bufferSize);
 
         try {
             UnixSocketAddress address = new UnixSocketAddress(ipcSocketPath);
@@ -44,7 +46,7 @@ public class UnixDomainSocket implements IOFacade {
     }
 
     UnixDomainSocket(InputStreamReader reader, PrintWriter writer, int bufferSize) {
-        this.bufferSize = bufferSize;
+        this.response = CharBuffer.allocate(bufferSize);
         this.writer = writer;
         this.reader = reader;
         this.channel = null;
@@ -58,9 +60,7 @@ public class UnixDomainSocket implements IOFacade {
 
     @Override
     public String read() throws IOException {
-        CharBuffer response = CharBuffer.allocate(bufferSize);
-        StringBuilder result = new StringBuilder();
-
+        result.setLength(0);
         do {
             response.clear();
             reader.read(response);
@@ -0,0 +1,144 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The aggregated measurements of all calls of one JSON-RPC method.
+ *
+ * @see MetricsCollector
+ */
+public class MethodMetrics {
+
+    private final String method;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder serializationTime = new LongAdder();
+    private final LongAdder networkTime = new LongAdder();
+    private final LongAdder deserializationTime = new LongAdder();
+    private final Map<Integer, AtomicLong> errorCodes = new ConcurrentHashMap<>();
+
+    MethodMetrics(String method) {
+        this.method = method;
+    }
+
+    void onStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void onCompleted(RequestEvent event) {
+        inFlight.decrementAndGet();
+        callCount.increment();
+        if (event.isFailed()) {
+            failureCount.increment();
+        }
+        latencies.record(TimeUnit.NANOSECONDS.toMicros(event.getTotalTime()));
+        if (event.getRequestBytes() > 0) {
+            requestBytes.add(event.getRequestBytes());
+        }
+        if (event.getResponseBytes() > 0) {
+            responseBytes.add(event.getResponseBytes());
+        }
+        serializationTime.add(event.getSerializationTime());
+        networkTime.add(event.getNetworkTime());
+        deserializationTime.add(event.getDeserializationTime());
+        for (Integer code : event.getErrorCodes()) {
+            errorCodes.computeIfAbsent(code, c -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the histogram of the total times of the calls in microseconds.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return the number of calls that are currently in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of completed calls, including failed ones.
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * @return the number of calls that failed with an exception. Error responses of the node are
+     * not counted here but in {@link #getErrorCodes()}.
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return the total serialization time of all calls in nanoseconds.
+     */
+    public long getSerializationTime() {
+        return serializationTime.sum();
+    }
+
+    /**
+     * @return the total network time of all calls in nanoseconds.
+     */
+    public long getNetworkTime() {
+        return networkTime.sum();
+    }
+
+    /**
+     * @return the total deserialization time of all calls in nanoseconds.
+     */
+    public long getDeserializationTime() {
+        return deserializationTime.sum();
+    }
+
+    /**
+     * @return the number of error responses by error code.
+     */
+    public Map<Integer, Long> getErrorCodes() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        errorCodes.forEach((code, count) -> counts.put(code, count.get()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "MethodMetrics{" +
+                "method='" + method + '\'' +
+                ", callCount=" + getCallCount() +
+                ", failureCount=" + getFailureCount() +
+                ", p50=" + latencies.getPercentile(0.5) + "us" +
+                ", p99=" + latencies.getPercentile(0.99) + "us" +
+                ", requestBytes=" + getRequestBytes() +
+                ", responseBytes=" + getResponseBytes() +
+                ", errorCodes=" + getErrorCodes() +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>A {@link RequestListener} that aggregates the measurements of the calls per JSON-RPC
+ * method.</p>
+ * <br>
+ * <p>Usage:</p>
+ * <pre>
+ * MetricsCollector metrics = new MetricsCollector();
+ * httpService.addListener(metrics);
+ * ...
+ * long p99 = metrics.getMetrics("getblock").getLatencies().getPercentile(0.99);
+ * </pre>
+ */
+public class MetricsCollector implements RequestListener {
+
+    private final ConcurrentMap<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequestStarted(String method) {
+        metricsOf(method).onStarted();
+    }
+
+    @Override
+    public void onRequestCompleted(RequestEvent event) {
+        metricsOf(event.getMethod()).onCompleted(event);
+    }
+
+    private MethodMetrics metricsOf(String method) {
+        MethodMetrics methodMetrics = metrics.get(method);
+        if (methodMetrics == null) {
+            methodMetrics = metrics.computeIfAbsent(method, MethodMetrics::new);
+        }
+        return methodMetrics;
+    }
+
+    /**
+     * Gets the measurements of the given method.
+     *
+     * @param method the JSON-RPC method.
+     * @return the measurements or null if the method was not called.
+     */
+    public MethodMetrics getMetrics(String method) {
+        return metrics.get(method);
+    }
+
+    /**
+     * @return the measurements of all methods that were called, sorted by method.
+     */
+    public Map<String, MethodMetrics> getMetrics() {
+        return Collections.unmodifiableMap(new TreeMap<>(metrics));
+    }
+}
@@ -0,0 +1,250 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>The measurements of a single JSON-RPC call, i.e. a single request or a batch of requests
+ * that is sent to the node at once.</p>
+ * <br>
+ * <p>The time of a call is split up into three phases: the serialization of the payload, the
+ * network time until the node starts to answer, and the deserialization of the response. If the
+ * response is streamed, the deserialization time includes the time to receive the response
+ * body. All times are in nanoseconds.</p>
+ */
+public class RequestEvent {
+
+    /**
+     * The method name that is reported for a batch of requests of different methods.
+     */
+    public static final String BATCH = "batch";
+
+    private static final long UNKNOWN = -1;
+
+    // System.nanoTime() can be any value, so a phase that was not recorded is marked with this.
+    private static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    private final String method;
+    private final int requestCount;
+    private final int inFlight;
+    private final List<RequestListener> listeners;
+    private final long start;
+
+    private long serializationEnd = NOT_RECORDED;
+    private long networkEnd = NOT_RECORDED;
+    private long end;
+    private long requestBytes = UNKNOWN;
+    private long responseBytes = UNKNOWN;
+    private List<Integer> errorCodes = Collections.emptyList();
+    private Throwable failure;
+
+    private RequestEvent(String method, int requestCount, int inFlight,
+            List<RequestListener> listeners) {
+        this.method = method;
+        this.requestCount = requestCount;
+        this.inFlight = inFlight;
+        this.listeners = listeners;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Starts the measurement of a call of a single request.
+     *
+     * @param request   the request.
+     * @param inFlight  the number of calls in flight, including this one.
+     * @param listeners the listeners that are notified about the call.
+     * @return the event to record the phases of the call in.
+     */
+    public static RequestEvent start(Request<?, ?> request, int inFlight,
+            List<RequestListener> listeners) {
+        return new RequestEvent(request.getMethod(), 1, inFlight, listeners);
+    }
+
+    /**
+     * Starts the measurement of a call of a batch of requests.
+     *
+     * @param requests  the requests in the batch.
+     * @param inFlight  the number of calls in flight, including this one.
+     * @param listeners the listeners that are notified about the call.
+     * @return the event to record the phases of the call in.
+     */
+    public static RequestEvent start(List<? extends Request<?, ?>> requests, int inFlight,
+            List<RequestListener> listeners) {
+        String method = requests.isEmpty() ? BATCH : requests.get(0).getMethod();
+        for (Request<?, ?> request : requests) {
+            if (!request.getMethod().equals(method)) {
+                method = BATCH;
+                break;
+            }
+        }
+        return new RequestEvent(method, requests.size(), inFlight, listeners);
+    }
+
+    /**
+     * Records the end of the serialization.
+     *
+     * @param payload the serialized payload.
+     */
+    public void serialized(String payload) {
+        serializationEnd = System.nanoTime();
+        requestBytes = utf8Length(payload);
+    }
+
+    /**
+     * Records that the node started to answer.
+     */
+    public void received() {
+        networkEnd = System.nanoTime();
+    }
+
+    /**
+     * Records the end of the deserialization.
+     *
+     * @param responseBytes the size of the response payload or -1 if unknown.
+     * @param responses     the responses. Null entries are ignored.
+     */
+    public void deserialized(long responseBytes, List<? extends Response> responses) {
+        this.responseBytes = responseBytes;
+        List<Integer> codes = null;
+        for (Response<?> response : responses) {
+            if (response != null && response.hasError()) {
+                if (codes == null) {
+                    codes = new ArrayList<>();
+                }
+                codes.add(response.getError().getCode());
+            }
+        }
+        if (codes != null) {
+            this.errorCodes = Collections.unmodifiableList(codes);
+        }
+    }
+
+    /**
+     * Records that the call failed.
+     *
+     * @param failure the cause.
+     */
+    public void failed(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Records the end of the call.
+     */
+    public void finish() {
+        end = System.nanoTime();
+        if (serializationEnd == NOT_RECORDED) {
+            serializationEnd = end;
+        }
+        if (networkEnd == NOT_RECORDED) {
+            networkEnd = end;
+        }
+    }
+
+    /**
+     * @return the JSON-RPC method or {@link #BATCH} for a batch of different methods.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of requests in the call.
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of calls of the service that were in flight when this call started,
+     * including this one.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the listeners that were added when the call started. Only they are notified
+     * about its completion, so that each listener sees both the start and the end of a call.
+     */
+    public List<RequestListener> getListeners() {
+        return listeners;
+    }
+
+    public long getSerializationTime() {
+        return serializationEnd - start;
+    }
+
+    public long getNetworkTime() {
+        return networkEnd - serializationEnd;
+    }
+
+    public long getDeserializationTime() {
+        return end - networkEnd;
+    }
+
+    public long getTotalTime() {
+        return end - start;
+    }
+
+    /**
+     * @return the size of the request payload in bytes or -1 if unknown.
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return the size of the response payload in bytes or -1 if unknown.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return the error codes of the error responses, e.g. {@link
+     * io.neow3j.protocol.core.RpcErrors#INVALID_PARAMS}. Empty if there were none.
+     */
+    public List<Integer> getErrorCodes() {
+        return errorCodes;
+    }
+
+    /**
+     * @return the exception that made the call fail or null if it succeeded.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    private static long utf8Length(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                // Only the rare non-ASCII payload has to be encoded to get its size.
+                return s.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return s.length();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestEvent{" +
+                "method='" + method + '\'' +
+                ", requestCount=" + requestCount +
+                ", totalTime=" + getTotalTime() +
+                ", requestBytes=" + requestBytes +
+                ", responseBytes=" + responseBytes +
+                ", errorCodes=" + errorCodes +
+                ", failure=" + failure +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * <p>Is notified about every JSON-RPC call of a {@link io.neow3j.protocol.Service}.</p>
+ * <br>
+ * <p>The methods are called on the thread that performs the call, so they should return
+ * quickly and must be thread-safe.</p>
+ *
+ * @see io.neow3j.protocol.Service#addListener(RequestListener)
+ */
+public interface RequestListener {
+
+    /**
+     * Is called before a call is serialized.
+     *
+     * @param method the JSON-RPC method, or {@link RequestEvent#BATCH} for a batch of
+     *               different methods.
+     */
+    default void onRequestStarted(String method) {
+    }
+
+    /**
+     * Is called after a call completed or failed.
+     *
+     * @param event the measurements of the call.
+     */
+    void onRequestCompleted(RequestEvent event);
+
+}
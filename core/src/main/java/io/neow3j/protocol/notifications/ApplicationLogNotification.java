@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+
+/**
+ * Notification about the application log of a transaction that was executed.
+ */
+public class ApplicationLogNotification extends Notification<NeoApplicationLog> {
+}
@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+
+/**
+ * Notification about a new block that was added to the blockchain.
+ */
+public class NewBlockNotification extends Notification<NeoBlock> {
+}
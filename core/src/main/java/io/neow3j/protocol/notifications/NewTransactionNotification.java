@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Notification about a new transaction that was added to the blockchain.
+ */
+public class NewTransactionNotification extends Notification<Transaction> {
+}
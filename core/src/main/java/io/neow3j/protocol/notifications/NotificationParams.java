@@ -1,5 +1,6 @@
 package io.neow3j.protocol.notifications;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 /**
@@ -10,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class NotificationParams<T> {
     private T result;
+    @JsonAlias("subscription")
     private String subsciption;
 
     public T getResult() {
@@ -0,0 +1,32 @@
+package io.neow3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * <p>Stores the index of the last block that was fully processed by a block subscription.</p>
+ * <br>
+ * <p>A subscription created with
+ * {@link Neow3jRx#catchUpToLatestAndSubscribeToNewBlocksObservable(io.neow3j.protocol.core.BlockParameter,
+ * boolean, BlockCheckpointStore)} resumes after the stored block, e.g. after the application
+ * was restarted.</p>
+ */
+public interface BlockCheckpointStore {
+
+    /**
+     * Loads the stored checkpoint.
+     *
+     * @return the index of the last processed block or null if no checkpoint is stored yet.
+     * @throws IOException if the checkpoint could not be read.
+     */
+    BigInteger load() throws IOException;
+
+    /**
+     * Stores the given block index as the last processed block.
+     *
+     * @param blockIndex the index of the last processed block.
+     * @throws IOException if the checkpoint could not be written.
+     */
+    void save(BigInteger blockIndex) throws IOException;
+
+}
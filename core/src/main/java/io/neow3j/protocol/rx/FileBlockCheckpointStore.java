@@ -0,0 +1,92 @@
+package io.neow3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>A {@link BlockCheckpointStore} that keeps the checkpoint in a local file.</p>
+ * <br>
+ * <p>The checkpoint is first written to a temporary file next to the checkpoint file, which is
+ * then moved over the checkpoint file. Hence, the checkpoint file always contains either the
+ * old or the new checkpoint, even if the application crashes while saving.</p>
+ */
+public class FileBlockCheckpointStore implements BlockCheckpointStore {
+
+    private final Path file;
+    private final Path tempFile;
+    private final boolean sync;
+
+    /**
+     * Creates a store that keeps the checkpoint in the given file. Each checkpoint is forced to
+     * the storage device before it replaces the previous one.
+     *
+     * @param file the checkpoint file.
+     */
+    public FileBlockCheckpointStore(Path file) {
+        this(file, true);
+    }
+
+    /**
+     * Creates a store that keeps the checkpoint in the given file.
+     *
+     * @param file the checkpoint file.
+     * @param sync if true, each checkpoint is forced to the storage device before it replaces
+     *             the previous one. Otherwise, a checkpoint might be lost on a power failure,
+     *             which only leads to some blocks being processed again.
+     */
+    public FileBlockCheckpointStore(Path file, boolean sync) {
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        this.sync = sync;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized BigInteger load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+        if (content.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigInteger(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("The checkpoint file " + file + " is corrupted.", e);
+        }
+    }
+
+    @Override
+    public synchronized void save(BigInteger blockIndex) throws IOException {
+        byte[] content = blockIndex.toString().getBytes(StandardCharsets.UTF_8);
+        if (sync) {
+            try (FileChannel channel = FileChannel.open(
+                    tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(content));
+                channel.force(true);
+            }
+        } else {
+            Files.write(tempFile, content);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
@@ -3,20 +3,30 @@ package io.neow3j.protocol.rx;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.BlockParameterName;
+import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
 import io.neow3j.protocol.core.polling.BlockPolling;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.transaction.RawBlock;
+import io.neow3j.utils.Async;
 import io.neow3j.utils.Observables;
 import rx.Observable;
 import rx.Scheduler;
+import rx.Subscriber;
+import rx.exceptions.Exceptions;
 import rx.schedulers.Schedulers;
 import rx.subscriptions.Subscriptions;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -27,18 +37,52 @@ public class JsonRpc2_0Rx {
 
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
-    private final Scheduler scheduler;
+    private final ExecutorService executorService;
 
+    /**
+     * Creates the reactive API of the given neow3j instance. Polls and replays block while they
+     * wait for the node, so they run on the default executor of {@link Async}.
+     *
+     * @param neow3j                   the neow3j instance.
+     * @param scheduledExecutorService the executor that schedules the polls.
+     */
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
+        this(neow3j, scheduledExecutorService, null);
+    }
+
+    /**
+     * Creates the reactive API of the given neow3j instance.
+     *
+     * @param neow3j                   the neow3j instance.
+     * @param scheduledExecutorService the executor that schedules the polls.
+     * @param executorService          the executor that runs the polls and replays, or null for
+     *                                 the default executor of {@link Async}.
+     */
+    public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService,
+            ExecutorService executorService) {
         this.neow3j = neow3j;
         this.scheduledExecutorService = scheduledExecutorService;
-        this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.executorService = executorService;
+    }
+
+    private ExecutorService executor() {
+        return executorService != null ? executorService : Async.getDefaultExecutor();
+    }
+
+    // The scheduled executor may be shared, so the blocking requests of replays must not run on
+    // it.
+    private Scheduler scheduler() {
+        return Schedulers.from(executor());
     }
 
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
         return Observable.create(subscriber -> {
             BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
-            blockPolling.run(scheduledExecutorService, pollingInterval);
+            // The polling interval is the expected block time. The node is polled more often
+            // around the time a new block is expected.
+            blockPolling.runAdaptive(scheduledExecutorService, executor(),
+                    Math.min(BlockPolling.DEFAULT_MIN_POLLING_INTERVAL, pollingInterval),
+                    pollingInterval);
             subscriber.add(Subscriptions.create(blockPolling::cancel));
         });
     }
@@ -55,7 +99,73 @@ public class JsonRpc2_0Rx {
         // We use a scheduler to ensure this Observable runs asynchronously for users to be
         // consistent with the other Observables
         return replayBlocksObservableSync(startBlock, endBlock, fullTransactionObjects, ascending)
-                .subscribeOn(scheduler);
+                .subscribeOn(scheduler());
+    }
+
+    public Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrentRequests, int blocksPerRequest) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of concurrent requests must be at least 1.");
+        }
+        if (blocksPerRequest < 1) {
+            throw new IllegalArgumentException(
+                    "The number of blocks per request must be at least 1.");
+        }
+
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Observable.error(e);
+        }
+
+        // concatMapEager subscribes to at most maxConcurrentRequests fetches at once and
+        // buffers the results of later fetches until all earlier blocks have been emitted.
+        // Hence, blocks are emitted in order and at most
+        // maxConcurrentRequests * blocksPerRequest blocks are held in memory.
+        return Observables.range(startBlockNumber, endBlockNumber, ascending)
+                .buffer(blocksPerRequest)
+                .concatMapEager(
+                        indexes -> fetchBlocks(indexes, fullTransactionObjects),
+                        blocksPerRequest, maxConcurrentRequests)
+                .subscribeOn(scheduler());
+    }
+
+    private Observable<NeoGetBlock> fetchBlocks(
+            List<BigInteger> blockIndexes, boolean fullTransactionObjects) {
+        if (blockIndexes.size() == 1) {
+            return Observables.fromFuture(() -> neow3j.getBlock(
+                    new BlockParameterIndex(blockIndexes.get(0)), fullTransactionObjects)
+                    .sendAsync());
+        }
+
+        BatchRequest batchRequest = neow3j.newBatch();
+        List<Request<?, NeoGetBlock>> requests = new ArrayList<>(blockIndexes.size());
+        for (BigInteger blockIndex : blockIndexes) {
+            Request<?, NeoGetBlock> request = neow3j.getBlock(
+                    new BlockParameterIndex(blockIndex), fullTransactionObjects);
+            requests.add(request);
+            batchRequest.add(request);
+        }
+        return Observables.fromFuture(batchRequest::sendAsync)
+                .flatMapIterable(batchResponse -> {
+                    List<NeoGetBlock> blocks = new ArrayList<>(requests.size());
+                    for (Request<?, NeoGetBlock> request : requests) {
+                        NeoGetBlock block = batchResponse.getResponse(request);
+                        if (block == null) {
+                            throw new ClientConnectionException(
+                                    "No response received for request " + request.getId()
+                                            + " of the batch.");
+                        }
+                        blocks.add(block);
+                    }
+                    return blocks;
+                });
     }
 
     private Observable<NeoGetBlock> replayBlocksObservableSync(
@@ -74,7 +184,7 @@ public class JsonRpc2_0Rx {
             startBlockNumber = getBlockNumber(startBlock);
             endBlockNumber = getBlockNumber(endBlock);
         } catch (IOException e) {
-            Observable.error(e);
+            return Observable.error(e);
         }
 
         if (ascending) {
@@ -86,6 +196,31 @@ public class JsonRpc2_0Rx {
         }
     }
 
+    public Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock) {
+        return replayRawBlocksObservable(startBlock, endBlock, true);
+    }
+
+    public Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending) {
+
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Observable.error(e);
+        }
+
+        // We use a scheduler to ensure this Observable runs asynchronously for users to be
+        // consistent with the other Observables
+        return Observables.range(startBlockNumber, endBlockNumber, ascending)
+                .concatMap(i -> neow3j.getRawBlock(new BlockParameterIndex(i)).observable())
+                .map(JsonRpc2_0Rx::toRawBlock)
+                .subscribeOn(scheduler());
+    }
+
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
@@ -93,7 +228,7 @@ public class JsonRpc2_0Rx {
         // consistent with the other Observables
         return catchUpToLatestBlockObservableSync(
                 startBlock, fullTransactionObjects, onCompleteObservable)
-                .subscribeOn(scheduler);
+                .subscribeOn(scheduler());
     }
 
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
@@ -115,7 +250,9 @@ public class JsonRpc2_0Rx {
             return Observable.error(e);
         }
 
-        if (startBlockNumber.compareTo(latestBlockNumber) > -1) {
+        // The polling observable only emits blocks after the latest one, so the latest block
+        // itself has to be replayed.
+        if (startBlockNumber.compareTo(latestBlockNumber) > 0) {
             return onCompleteObservable;
         } else {
             return Observable.concat(
@@ -146,16 +283,103 @@ public class JsonRpc2_0Rx {
                 blockObservable(fullTransactionObjects, pollingInterval));
     }
 
+    public Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            long pollingInterval, BlockCheckpointStore checkpointStore) {
+
+        return Observable.defer(() -> {
+            BlockParameter resumeBlock;
+            try {
+                BigInteger checkpoint = checkpointStore.load();
+                resumeBlock = checkpoint == null
+                        ? startBlock
+                        : new BlockParameterIndex(checkpoint.add(BigInteger.ONE));
+            } catch (IOException e) {
+                return Observable.error(e);
+            }
+            return catchUpToLatestAndSubscribeToNewBlocksObservable(
+                    resumeBlock, fullTransactionObjects, pollingInterval);
+        }).lift(new CheckpointOperator(checkpointStore));
+    }
+
     public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects, long pollingInterval) {
         return neoBlockObservable(pollingInterval)
                 .flatMap(blockIndex ->
                         neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects).observable());
     }
 
+    /**
+     * Saves the index of each block to the checkpoint store after the block was passed to the
+     * downstream subscriber, i.e. after it was processed if the subscriber processes blocks
+     * synchronously.
+     */
+    private static class CheckpointOperator implements Observable.Operator<NeoGetBlock, NeoGetBlock> {
+
+        private final BlockCheckpointStore checkpointStore;
+
+        private CheckpointOperator(BlockCheckpointStore checkpointStore) {
+            this.checkpointStore = checkpointStore;
+        }
+
+        @Override
+        public Subscriber<? super NeoGetBlock> call(Subscriber<? super NeoGetBlock> child) {
+            return new Subscriber<NeoGetBlock>(child) {
+
+                private long lastCheckpoint = -1;
+
+                @Override
+                public void onNext(NeoGetBlock neoGetBlock) {
+                    if (neoGetBlock.hasError() || neoGetBlock.getBlock() == null) {
+                        unsubscribe();
+                        child.onError(new ClientConnectionException("Failed to fetch block: "
+                                + (neoGetBlock.hasError()
+                                ? neoGetBlock.getError().getMessage()
+                                : "The response contains no block.")));
+                        return;
+                    }
+                    child.onNext(neoGetBlock);
+                    long blockIndex = neoGetBlock.getBlock().getIndex();
+                    if (blockIndex <= lastCheckpoint) {
+                        return;
+                    }
+                    try {
+                        checkpointStore.save(BigInteger.valueOf(blockIndex));
+                        lastCheckpoint = blockIndex;
+                    } catch (IOException e) {
+                        unsubscribe();
+                        child.onError(e);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    child.onError(e);
+                }
+
+                @Override
+                public void onCompleted() {
+                    child.onCompleted();
+                }
+            };
+        }
+    }
+
     private static List<Transaction> toTransactions(NeoGetBlock neoGetBlock) {
         return neoGetBlock.getBlock().getTransactions().stream().collect(Collectors.toList());
     }
 
+    private static RawBlock toRawBlock(NeoGetRawBlock neoGetRawBlock) {
+        if (neoGetRawBlock.hasError()) {
+            throw new ClientConnectionException("Failed to fetch raw block: "
+                    + neoGetRawBlock.getError().getMessage());
+        }
+        try {
+            return neoGetRawBlock.toRawBlock();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private BigInteger getLatestBlockNumber() throws IOException {
         return getBlockNumber(BlockParameterName.LATEST).subtract(BigInteger.ONE);
     }
@@ -4,6 +4,10 @@ import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.notifications.ApplicationLogNotification;
+import io.neow3j.protocol.notifications.NewBlockNotification;
+import io.neow3j.protocol.notifications.NewTransactionNotification;
+import io.neow3j.transaction.RawBlock;
 import rx.Observable;
 
 /**
@@ -50,6 +54,58 @@ public interface Neow3jRx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * <p>Create an Observable that emits all blocks from the blockchain contained within the
+     * requested range, fetching several blocks concurrently.</p>
+     * <br>
+     * <p>Up to <tt>maxConcurrentRequests</tt> requests are in flight at any time, each of which
+     * fetches <tt>blocksPerRequest</tt> consecutive blocks in one JSON-RPC batch. Blocks are
+     * nevertheless emitted strictly in order. Blocks that arrive early are buffered, but never
+     * more than <tt>maxConcurrentRequests * blocksPerRequest</tt> blocks at once.</p>
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param ascending              if true, emits blocks in ascending order between range,
+     *                               otherwise in descending order
+     * @param maxConcurrentRequests  the maximum number of requests in flight
+     * @param blocksPerRequest       the number of blocks fetched per request
+     * @return Observable to emit these blocks
+     */
+    Observable<NeoGetBlock> replayBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrentRequests, int blocksPerRequest);
+
+    /**
+     * <p>Create an Observable that emits all blocks from the blockchain contained within the
+     * requested range in their binary form.</p>
+     * <br>
+     * <p>The blocks are fetched with <tt>verbose = 0</tt> and decoded locally, which is
+     * considerably cheaper in bandwidth and parsing time than the verbose JSON blocks emitted
+     * by {@link #replayBlocksObservable(BlockParameter, BlockParameter, boolean)}.</p>
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock   block number to finish with
+     * @return Observable to emit these blocks
+     */
+    Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock);
+
+    /**
+     * Create an Observable that emits all blocks from the blockchain contained within the
+     * requested range in their binary form.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock   block number to finish with
+     * @param ascending  if true, emits blocks in ascending order between range, otherwise
+     *                   in descending order
+     * @return Observable to emit these blocks
+     */
+    Observable<RawBlock> replayRawBlocksObservable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending);
+
     /**
      * <p>Create an Observable that emits all transactions from the blockchain starting with a
      * provided block number. Once it has replayed up to the most current block, the provided
@@ -94,4 +150,59 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * <p>Creates an Observable that emits all blocks after the last checkpoint up to the most
+     * current. Once it has emitted the most current block, it starts emitting new blocks as they
+     * are created.</p>
+     * <br>
+     * <p>After a block was passed to the subscriber, its index is saved to the checkpoint
+     * store. When the Observable is subscribed to again, e.g. after a restart of the
+     * application, it resumes with the block after the checkpoint. The blocks are delivered at
+     * least once: a block whose processing was interrupted is emitted again. If no checkpoint
+     * is stored yet, the Observable starts with the given start block.</p>
+     * <br>
+     * <p>The checkpoint is saved as soon as {@code onNext} returns. Blocks must therefore be
+     * processed synchronously, i.e. without switching threads (e.g. with
+     * {@link Observable#observeOn(rx.Scheduler)}) before processing.</p>
+     *
+     * @param startBlock             the block number to start with if no checkpoint is stored
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *                               in the {@link NeoBlock} responses
+     * @param checkpointStore        the store that keeps the index of the last processed block
+     * @return Observable to emit all requested blocks and future
+     */
+    Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            BlockCheckpointStore checkpointStore);
+
+    /**
+     * <p>Creates an Observable that emits a notification for each new block.</p>
+     * <br>
+     * <p>Notifications are pushed by the node. Hence, this requires a service that supports
+     * subscriptions, e.g. {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable that emits a notification for each new block
+     */
+    Observable<NewBlockNotification> newBlockNotifications();
+
+    /**
+     * <p>Creates an Observable that emits a notification for each new transaction.</p>
+     * <br>
+     * <p>Notifications are pushed by the node. Hence, this requires a service that supports
+     * subscriptions, e.g. {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable that emits a notification for each new transaction
+     */
+    Observable<NewTransactionNotification> newTransactionNotifications();
+
+    /**
+     * <p>Creates an Observable that emits the application log of each executed transaction.</p>
+     * <br>
+     * <p>Notifications are pushed by the node. Hence, this requires a service that supports
+     * subscriptions, e.g. {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable that emits a notification for each application log
+     */
+    Observable<ApplicationLogNotification> applicationLogNotifications();
+
 }
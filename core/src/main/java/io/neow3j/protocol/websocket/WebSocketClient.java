@@ -0,0 +1,55 @@
+package io.neow3j.protocol.websocket;
+
+import org.java_websocket.handshake.ServerHandshake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+
+/**
+ * WebSocket client that passes all events to a {@link WebSocketListener}.
+ */
+public class WebSocketClient extends org.java_websocket.client.WebSocketClient {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebSocketClient.class);
+
+    private WebSocketListener listener;
+
+    public WebSocketClient(URI serverUri) {
+        super(serverUri);
+    }
+
+    public void setListener(WebSocketListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void onOpen(ServerHandshake serverHandshake) {
+        LOG.info("Opened WebSocket connection to {}", uri);
+    }
+
+    @Override
+    public void onMessage(String message) {
+        LOG.debug("Received message {} from server {}", message, uri);
+        if (listener != null) {
+            listener.onMessage(message);
+        }
+    }
+
+    @Override
+    public void onClose(int code, String reason, boolean remote) {
+        LOG.info("Closed WebSocket connection to {}, because of reason: '{}'. "
+                + "Connection closed remotely: {}", uri, reason, remote);
+        if (listener != null) {
+            listener.onClose();
+        }
+    }
+
+    @Override
+    public void onError(Exception e) {
+        LOG.error("WebSocket connection to {} failed with error", uri, e);
+        if (listener != null) {
+            listener.onError(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.neow3j.protocol.websocket;
+
+/**
+ * Listener for the events of a {@link WebSocketClient}.
+ */
+public interface WebSocketListener {
+
+    /**
+     * Called when a text message was received.
+     *
+     * @param message the message.
+     */
+    void onMessage(String message);
+
+    /**
+     * Called when an error occurred on the connection.
+     *
+     * @param e the error.
+     */
+    void onError(Exception e);
+
+    /**
+     * Called when the connection was closed.
+     */
+    void onClose();
+
+}
@@ -0,0 +1,259 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.neow3j.protocol.PipelinedService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
+import io.neow3j.protocol.core.methods.response.NeoUnsubscribe;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Subscriber;
+import rx.subscriptions.Subscriptions;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <p>WebSocket implementation of the Service API.</p>
+ * <br>
+ * <p>All requests are sent over one persistent connection and their responses are matched to
+ * the requests by id (see {@link PipelinedService}).</p>
+ * <br>
+ * <p>Additionally, this service supports subscriptions (see
+ * {@link #subscribe(Request, String, Class)}). The node answers a subscription request with a
+ * subscription id and then pushes notifications of the following form:</p>
+ * <pre>
+ * {"jsonrpc":"2.0","method":"...","params":{"subscription":"&lt;id&gt;","result":{...}}}
+ * </pre>
+ * <p>The connection has to be opened with {@link #connect()} before the service is used.</p>
+ */
+public class WebSocketService extends PipelinedService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebSocketService.class);
+
+    private final WebSocketClient webSocketClient;
+    private final Map<String, WebSocketSubscription<?>> subscriptions =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param serverUrl           the URL of the node's WebSocket endpoint, e.g.
+     *                            <tt>ws://localhost:10334</tt>.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(String serverUrl, boolean includeRawResponses) {
+        this(new WebSocketClient(parseUri(serverUrl)), includeRawResponses);
+    }
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param webSocketClient     the client used to connect to the node.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        this(webSocketClient, includeRawResponses, Async.sharedScheduler());
+    }
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param webSocketClient     the client used to connect to the node.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     * @param executorService     the executor used to time out requests. It is not shut down
+     *                            when the service is closed.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses,
+                            ScheduledExecutorService executorService) {
+        super(includeRawResponses, executorService);
+        this.webSocketClient = webSocketClient;
+        this.webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) {
+                WebSocketService.this.onMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                // A failed connection is also closed, which fails all pending requests.
+            }
+
+            @Override
+            public void onClose() {
+                WebSocketService.this.onClose();
+            }
+        });
+    }
+
+    private static URI parseUri(String serverUrl) {
+        try {
+            return new URI(serverUrl);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(
+                    String.format("Failed to parse URL: '%s'", serverUrl), e);
+        }
+    }
+
+    /**
+     * Opens the connection to the node.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to the WebSocket server at "
+                        + webSocketClient.getURI());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to the WebSocket server at "
+                    + webSocketClient.getURI());
+        }
+    }
+
+    @Override
+    protected void write(String payload) {
+        webSocketClient.send(payload);
+    }
+
+    private void onMessage(String message) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(message);
+        } catch (IOException e) {
+            LOG.error("Failed to parse message from WebSocket server: {}", message, e);
+            return;
+        }
+
+        if (isNotification(node)) {
+            String subscriptionId = node.get("params").get("subscription").asText();
+            WebSocketSubscription<?> subscription = subscriptions.get(subscriptionId);
+            if (subscription != null) {
+                subscription.onNotification(node);
+            } else {
+                LOG.debug("Received notification for unknown subscription {}", subscriptionId);
+            }
+        } else if (!onResponse(node)) {
+            LOG.warn("Received response without pending request: {}", message);
+        }
+    }
+
+    private static boolean isNotification(JsonNode node) {
+        JsonNode params = node.get("params");
+        return node.has("method") && params != null && params.has("subscription");
+    }
+
+    private void onClose() {
+        ClientConnectionException e =
+                new ClientConnectionException("The WebSocket connection was closed.");
+        failPendingRequests(e);
+        new ArrayList<>(subscriptions.values()).forEach(s -> s.onError(e));
+        subscriptions.clear();
+    }
+
+    /**
+     * Subscribes to notifications of the node.
+     *
+     * <p>The subscription request is sent when the returned Observable is subscribed to. When
+     * the subscriber unsubscribes, the subscription is cancelled with a request to the given
+     * unsubscribe method, which takes the subscription id as single parameter.</p>
+     *
+     * @param request           the subscription request. It must be answered with the id of
+     *                          the subscription.
+     * @param unsubscribeMethod the method to cancel the subscription.
+     * @param responseType      the type of the notifications.
+     * @param <T>               the type of the notifications.
+     * @return Observable that emits the notifications.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+
+        return Observable.create(subscriber ->
+                sendAsync(request, NeoSubscribe.class).whenComplete((response, e) -> {
+                    if (e != null) {
+                        subscriber.onError(e instanceof CompletionException
+                                ? e.getCause() : e);
+                    } else if (response.hasError()) {
+                        subscriber.onError(new ClientConnectionException(
+                                "Subscription request failed with error: "
+                                        + response.getError().getMessage()));
+                    } else {
+                        String subscriptionId = response.getSubscriptionId();
+                        subscriptions.put(subscriptionId,
+                                new WebSocketSubscription<>(subscriber, responseType));
+                        subscriber.add(Subscriptions.create(
+                                () -> unsubscribe(subscriptionId, unsubscribeMethod)));
+                    }
+                }));
+    }
+
+    private void unsubscribe(String subscriptionId, String unsubscribeMethod) {
+        if (subscriptions.remove(subscriptionId) == null || !webSocketClient.isOpen()) {
+            return;
+        }
+        Request<?, NeoUnsubscribe> request = new Request<>(unsubscribeMethod,
+                Collections.singletonList(subscriptionId), this, NeoUnsubscribe.class);
+        sendAsync(request, NeoUnsubscribe.class).whenComplete((response, e) -> {
+            if (e != null || response.hasError()) {
+                LOG.warn("Failed to cancel subscription {}", subscriptionId);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            webSocketClient.closeBlocking();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the WebSocket connection.", e);
+        } finally {
+            onClose();
+        }
+    }
+
+    private class WebSocketSubscription<T extends Notification<?>> {
+
+        private final Subscriber<? super T> subscriber;
+        private final Class<T> responseType;
+
+        private WebSocketSubscription(Subscriber<? super T> subscriber, Class<T> responseType) {
+            this.subscriber = subscriber;
+            this.responseType = responseType;
+        }
+
+        private void onNotification(JsonNode node) {
+            T notification;
+            try {
+                notification = objectMapper.treeToValue(node, responseType);
+            } catch (IOException e) {
+                LOG.error("Failed to deserialize notification {}", node, e);
+                return;
+            }
+            subscriber.onNext(notification);
+        }
+
+        private void onError(Throwable e) {
+            subscriber.onError(e);
+        }
+    }
+}
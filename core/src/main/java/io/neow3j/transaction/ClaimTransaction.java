@@ -5,6 +5,7 @@ import io.neow3j.crypto.transaction.RawTransactionInput;
 import io.neow3j.crypto.transaction.RawTransactionOutput;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.model.types.GASAsset;
 import io.neow3j.model.types.TransactionType;
 import io.neow3j.protocol.core.methods.response.NeoGetClaimable.Claimables;
@@ -24,7 +25,7 @@ public class ClaimTransaction extends RawTransaction {
 
     protected ClaimTransaction(Builder builder) {
         super(builder);
-        this.claims = builder.claims;
+        this.claims = tracked(builder.claims);
     }
 
     public List<RawTransactionInput> getClaims() {
@@ -36,9 +37,14 @@ public class ClaimTransaction extends RawTransaction {
         writer.writeSerializableVariable(claims);
     }
 
+    @Override
+    protected int getSizeExclusive() {
+        return IOUtils.getVarSize(claims);
+    }
+
     @Override
     public void deserializeExclusive(BinaryReader reader) throws IOException, IllegalAccessException, InstantiationException {
-        claims = reader.readSerializableList(RawTransactionInput.class);
+        claims = tracked(reader.readSerializableList(RawTransactionInput::new));
     }
 
     public static ClaimTransaction fromClaimables(Claimables claimables, String receivingAddress) {
@@ -18,6 +18,11 @@ public class ContractTransaction extends RawTransaction {
         // no type-specific serialization.
     }
 
+    @Override
+    protected int getSizeExclusive() {
+        return 0;
+    }
+
     @Override
     public void deserializeExclusive(BinaryReader reader) {
         // no type-specific deserialization.
@@ -0,0 +1,40 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+
+import java.io.IOException;
+
+/**
+ * <p>A (deprecated) transaction that enrolls a validator candidate. This class is used to decode
+ * enrollment transactions from raw blocks.</p>
+ */
+public class EnrollmentTransaction extends RawTransaction {
+
+    private byte[] publicKey;
+
+    public EnrollmentTransaction() { }
+
+    /**
+     * @return the encoded public key of the validator candidate.
+     */
+    public byte[] getPublicKey() {
+        return publicKey;
+    }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) throws IOException {
+        writer.write(publicKey);
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        return publicKey.length;
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) throws IOException {
+        this.publicKey = reader.readEncodedECPoint();
+    }
+}
@@ -3,6 +3,7 @@ package io.neow3j.transaction;
 import io.neow3j.crypto.transaction.RawTransaction;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.model.types.TransactionType;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
@@ -26,19 +27,36 @@ public class InvocationTransaction extends RawTransaction {
     @Override
     public void serializeExclusive(BinaryWriter writer) throws IOException {
         writer.writeVarBytes(contractScript);
-        writer.write(Numeric.fromDecimalToFixed8ByteArray(this.systemFee));
+        // The system fee was introduced with version 1 of invocation transactions.
+        if (getVersion() >= 1) {
+            writer.write(Numeric.fromDecimalToFixed8ByteArray(this.systemFee));
+        }
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        // The system fee is a fixed8 value.
+        return IOUtils.getVarSize(contractScript) + (getVersion() >= 1 ? 8 : 0);
     }
 
     @Override
     public void deserializeExclusive(BinaryReader reader) throws IOException {
         this.contractScript = reader.readVarBytes();
-        this.systemFee = Numeric.fromFixed8ToDecimal(reader.readBytes(8));
+        if (getVersion() >= 1) {
+            this.systemFee = Numeric.fromFixed8ToDecimal(reader.readBytes(8));
+        } else {
+            this.systemFee = BigDecimal.ZERO;
+        }
     }
 
     public byte[] getContractScript() {
         return this.contractScript;
     }
 
+    public BigDecimal getSystemFee() {
+        return this.systemFee;
+    }
+
     public static class Builder extends RawTransaction.Builder<Builder> {
 
         private byte[] contractScript;
@@ -0,0 +1,29 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+
+/**
+ * <p>A transaction that issues units of a registered asset. This class is used to decode issue
+ * transactions from raw blocks.</p>
+ */
+public class IssueTransaction extends RawTransaction {
+
+    public IssueTransaction() { }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) {
+        // no type-specific serialization.
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        return 0;
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) {
+        // no type-specific deserialization.
+    }
+}
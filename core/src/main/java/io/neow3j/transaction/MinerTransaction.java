@@ -0,0 +1,40 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+
+import java.io.IOException;
+
+/**
+ * <p>The transaction that is placed first in every block and assigns the network fees to the
+ * consensus node that created the block.</p>
+ * <br>
+ * <p>Miner transactions are only created by consensus nodes. This class is used to decode them
+ * from raw blocks.</p>
+ */
+public class MinerTransaction extends RawTransaction {
+
+    private long nonce;
+
+    public MinerTransaction() { }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) throws IOException {
+        writer.writeInt((int) nonce);
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        return Integer.BYTES;
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) throws IOException {
+        this.nonce = Integer.toUnsignedLong(reader.readInt());
+    }
+}
@@ -0,0 +1,104 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * <p>A (deprecated) transaction that deploys a smart contract. This class is used to decode
+ * publish transactions from raw blocks.</p>
+ */
+public class PublishTransaction extends RawTransaction {
+
+    private byte[] script;
+    private byte[] parameterList;
+    private byte returnType;
+    private boolean needStorage;
+    private String name;
+    private String codeVersion;
+    private String author;
+    private String email;
+    private String description;
+
+    public PublishTransaction() { }
+
+    public byte[] getScript() {
+        return script;
+    }
+
+    public byte[] getParameterList() {
+        return parameterList;
+    }
+
+    public byte getReturnType() {
+        return returnType;
+    }
+
+    public boolean isNeedStorage() {
+        return needStorage;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCodeVersion() {
+        return codeVersion;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) throws IOException {
+        writer.writeVarBytes(script);
+        writer.writeVarBytes(parameterList);
+        writer.writeByte(returnType);
+        if (getVersion() >= 1) {
+            writer.writeBoolean(needStorage);
+        }
+        writer.writeVarString(name);
+        writer.writeVarString(codeVersion);
+        writer.writeVarString(author);
+        writer.writeVarString(email);
+        writer.writeVarString(description);
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        return IOUtils.getVarSize(script)
+                + IOUtils.getVarSize(parameterList)
+                + Byte.BYTES
+                + (getVersion() >= 1 ? Byte.BYTES : 0)
+                + IOUtils.getVarSize(name)
+                + IOUtils.getVarSize(codeVersion)
+                + IOUtils.getVarSize(author)
+                + IOUtils.getVarSize(email)
+                + IOUtils.getVarSize(description);
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) throws IOException {
+        this.script = reader.readVarBytes();
+        this.parameterList = reader.readVarBytes();
+        this.returnType = reader.readByte();
+        this.needStorage = getVersion() >= 1 && reader.readBoolean();
+        this.name = reader.readVarString();
+        this.codeVersion = reader.readVarString();
+        this.author = reader.readVarString();
+        this.email = reader.readVarString();
+        this.description = reader.readVarString();
+    }
+}
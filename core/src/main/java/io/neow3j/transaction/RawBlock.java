@@ -0,0 +1,69 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawBlockHeader;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A block in its binary form, as returned by the <tt>getblock</tt> RPC method with
+ * <tt>verbose = 0</tt>.</p>
+ * <br>
+ * <p>The contained transactions are decoded with {@link TransactionDeserializer}, hence, they
+ * are instances of the concrete transaction classes (e.g. {@link InvocationTransaction}).</p>
+ */
+public class RawBlock extends RawBlockHeader {
+
+    private List<RawTransaction> transactions;
+
+    public RawBlock() {
+    }
+
+    public List<RawTransaction> getTransactions() {
+        return transactions;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws IOException {
+        deserializeBase(reader);
+        long count = reader.readVarInt(0x10000);
+        this.transactions = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            this.transactions.add(TransactionDeserializer.deserialize(reader));
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeBase(writer);
+        writer.writeVarInt(transactions.size());
+        for (RawTransaction transaction : transactions) {
+            transaction.serialize(writer);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return getBaseSize() + IOUtils.getVarSize(transactions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RawBlock)) return false;
+        if (!super.equals(o)) return false;
+        RawBlock rawBlock = (RawBlock) o;
+        return Objects.equals(getTransactions(), rawBlock.getTransactions());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getTransactions());
+    }
+}
@@ -0,0 +1,83 @@
+package io.neow3j.transaction;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+import io.neow3j.model.types.AssetType;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * <p>A (deprecated) transaction that registers a new global asset. This class is used to decode
+ * register transactions from raw blocks, e.g. the ones of the NEO and GAS assets in the genesis
+ * block.</p>
+ */
+public class RegisterTransaction extends RawTransaction {
+
+    private AssetType assetType;
+    private String name;
+    private BigDecimal amount;
+    private byte precision;
+    private byte[] owner;
+    private ScriptHash admin;
+
+    public RegisterTransaction() { }
+
+    public AssetType getAssetType() {
+        return assetType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public byte getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return the encoded public key of the asset owner.
+     */
+    public byte[] getOwner() {
+        return owner;
+    }
+
+    public ScriptHash getAdmin() {
+        return admin;
+    }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) throws IOException {
+        writer.writeByte(assetType.byteValue());
+        writer.writeVarString(name);
+        writer.write(Numeric.fromDecimalToFixed8ByteArray(amount));
+        writer.writeByte(precision);
+        writer.write(owner);
+        writer.write(admin.toArray());
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        // The asset type, the name, the fixed8 amount, the precision, the owner's public key
+        // and the admin's script hash.
+        return Byte.BYTES + IOUtils.getVarSize(name) + 8 + Byte.BYTES + owner.length + 20;
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) throws IOException {
+        this.assetType = AssetType.valueOf(reader.readByte());
+        this.name = reader.readVarString();
+        this.amount = Numeric.fromFixed8ToDecimal(reader.readBytes(8));
+        this.precision = reader.readByte();
+        this.owner = reader.readEncodedECPoint();
+        this.admin = new ScriptHash(reader.readBytes(20));
+    }
+}
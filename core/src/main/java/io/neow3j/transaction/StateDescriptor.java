@@ -0,0 +1,60 @@
+package io.neow3j.transaction;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+import io.neow3j.io.NeoSerializable;
+
+import java.io.IOException;
+
+/**
+ * <p>A single state change of a {@link StateTransaction}, e.g. a vote of an account or the
+ * registration of a validator.</p>
+ */
+public class StateDescriptor extends NeoSerializable {
+
+    private byte type;
+    private byte[] key;
+    private String field;
+    private byte[] value;
+
+    public StateDescriptor() { }
+
+    public byte getType() {
+        return type;
+    }
+
+    public byte[] getKey() {
+        return key;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws IOException {
+        this.type = reader.readByte();
+        this.key = reader.readVarBytes();
+        this.field = reader.readVarString();
+        this.value = reader.readVarBytes();
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeByte(type);
+        writer.writeVarBytes(key);
+        writer.writeVarString(field);
+        writer.writeVarBytes(value);
+    }
+
+    @Override
+    public int getSize() {
+        return Byte.BYTES + IOUtils.getVarSize(key) + IOUtils.getVarSize(field)
+                + IOUtils.getVarSize(value);
+    }
+}
@@ -0,0 +1,40 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>A transaction that changes the state of accounts or validators, e.g. votes. This class is
+ * used to decode state transactions from raw blocks.</p>
+ */
+public class StateTransaction extends RawTransaction {
+
+    private List<StateDescriptor> descriptors;
+
+    public StateTransaction() { }
+
+    public List<StateDescriptor> getDescriptors() {
+        return descriptors;
+    }
+
+    @Override
+    public void serializeExclusive(BinaryWriter writer) throws IOException {
+        writer.writeSerializableVariable(descriptors);
+    }
+
+    @Override
+    protected int getSizeExclusive() {
+        return IOUtils.getVarSize(descriptors);
+    }
+
+    @Override
+    public void deserializeExclusive(BinaryReader reader) throws IOException,
+            IllegalAccessException, InstantiationException {
+        this.descriptors = tracked(reader.readSerializableList(StateDescriptor::new));
+    }
+}
@@ -0,0 +1,85 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.model.types.TransactionType;
+
+import java.io.IOException;
+
+/**
+ * <p>Deserializes transactions of any type from their binary form.</p>
+ * <br>
+ * <p>The concrete transaction class is chosen based on the transaction type, which is the first
+ * byte of a serialized transaction. The transaction itself is then decoded with
+ * {@link RawTransaction#deserialize(BinaryReader)}.</p>
+ */
+public class TransactionDeserializer {
+
+    private TransactionDeserializer() {
+    }
+
+    /**
+     * Deserializes the next transaction from the given reader.
+     *
+     * @param reader the reader to read from.
+     * @return the transaction.
+     * @throws IOException if the transaction type is not supported or the data is not a valid
+     *                     transaction.
+     */
+    public static RawTransaction deserialize(BinaryReader reader) throws IOException {
+        reader.mark(1);
+        byte type = reader.readByte();
+        reader.reset();
+
+        RawTransaction transaction = newTransaction(type);
+        transaction.deserialize(reader);
+        return transaction;
+    }
+
+    /**
+     * Deserializes a single transaction from its binary form.
+     *
+     * @param bytes the serialized transaction.
+     * @return the transaction.
+     * @throws IOException if the transaction type is not supported or the data is not a valid
+     *                     transaction.
+     */
+    public static RawTransaction deserialize(byte[] bytes) throws IOException {
+        try (BinaryReader reader = new BinaryReader(bytes)) {
+            return deserialize(reader);
+        }
+    }
+
+    private static RawTransaction newTransaction(byte type) throws IOException {
+        TransactionType transactionType;
+        try {
+            transactionType = TransactionType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Unknown transaction type 0x%02x.", type), e);
+        }
+        switch (transactionType) {
+            case MINER_TRANSACTION:
+                return new MinerTransaction();
+            case ISSUE_TRANSACTION:
+                return new IssueTransaction();
+            case CLAIM_TRANSACTION:
+                return new ClaimTransaction();
+            case ENROLLMENT_TRANSACTION:
+                return new EnrollmentTransaction();
+            case REGISTER_TRANSACTION:
+                return new RegisterTransaction();
+            case CONTRACT_TRANSACTION:
+                return new ContractTransaction();
+            case STATE_TRANSACTION:
+            case STATE_UPDATE_TRANSACTION:
+                return new StateTransaction();
+            case PUBLISH_TRANSACTION:
+                return new PublishTransaction();
+            case INVOCATION_TRANSACTION:
+                return new InvocationTransaction();
+            default:
+                throw new IOException("Transactions of type " + transactionType.jsonValue()
+                        + " are not supported.");
+        }
+    }
+}
@@ -4,39 +4,53 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
-import static java.util.Optional.ofNullable;
-
 /**
- * Async task facilitation.
+ * <p>Async task facilitation.</p>
+ * <br>
+ * <p>Asynchronous calls run on the default executor unless a service is given its own. By
+ * default, this is an unbounded cached thread pool, which can be replaced with
+ * {@link #setDefaultExecutor(ExecutorService)}, e.g. by a bounded pool or a virtual thread
+ * executor from {@link AsyncExecutors}. Scheduled tasks, like polling for new blocks, run on a
+ * scheduler that is shared by all instances (see {@link #sharedScheduler()}).</p>
  */
 public class Async {
 
-    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool();
+    /**
+     * The time in seconds after which idle threads of the shared scheduler terminate.
+     */
+    public static final long SHARED_SCHEDULER_KEEP_ALIVE_SECONDS = 10;
 
-    static {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(DEFAULT_EXECUTOR)));
-    }
+    private static volatile ExecutorService defaultExecutor;
+
+    private static volatile ScheduledExecutorService sharedScheduler;
 
     public static <T> CompletableFuture<T> run(Callable<T> callable, ExecutorService executor) {
-        ExecutorService executorService = ofNullable(executor).orElse(DEFAULT_EXECUTOR);
+        ExecutorService executorService = executor != null ? executor : getDefaultExecutor();
         CompletableFuture<T> result = new CompletableFuture<>();
-        CompletableFuture.runAsync(() -> {
-            // we need to explicitly catch any exceptions,
-            // otherwise they will be silently discarded
-            try {
-                result.complete(callable.call());
-            } catch (Throwable e) {
-                result.completeExceptionally(e);
-            }
-        }, executorService);
+        try {
+            executorService.execute(() -> {
+                // we need to explicitly catch any exceptions,
+                // otherwise they will be silently discarded
+                try {
+                    result.complete(callable.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // E.g. a bounded executor is saturated or the executor is shut down.
+            result.completeExceptionally(e);
+        }
         return result;
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
-        return run(callable, DEFAULT_EXECUTOR);
+        return run(callable, getDefaultExecutor());
     }
 
     /**
@@ -45,7 +59,74 @@ public class Async {
      * @return the default instance of {@link ExecutorService}.
      */
     public static ExecutorService getDefaultExecutor() {
-        return DEFAULT_EXECUTOR;
+        ExecutorService executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (Async.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool();
+                    ExecutorService cachedThreadPool = executor;
+                    Runtime.getRuntime().addShutdownHook(
+                            new Thread(() -> shutdown(cachedThreadPool)));
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * <p>Sets the default {@link ExecutorService} used on asynchronous calls of services that
+     * were not given their own executor. It should be set once, when the application starts.
+     * The previous default executor is not shut down.</p>
+     * <br>
+     * <p>See {@link AsyncExecutors} for bounded and virtual thread executors.</p>
+     *
+     * @param executor the executor.
+     */
+    public static void setDefaultExecutor(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null.");
+        }
+        synchronized (Async.class) {
+            defaultExecutor = executor;
+        }
+    }
+
+    /**
+     * <p>Gets the scheduler that is shared by all neow3j instances and services that were not
+     * given their own scheduler.</p>
+     * <br>
+     * <p>It has up to one thread per processor and must not be shut down. Its threads are no
+     * daemon threads, so the JVM keeps running while tasks are scheduled, e.g. while an
+     * observable polls for new blocks. Idle threads terminate after
+     * {@link #SHARED_SCHEDULER_KEEP_ALIVE_SECONDS} seconds, so the JVM can exit once nothing is
+     * scheduled anymore. Tasks that run on it should not block for long, since they delay all
+     * other scheduled tasks.</p>
+     *
+     * @return the shared scheduler.
+     */
+    public static ScheduledExecutorService sharedScheduler() {
+        ScheduledExecutorService scheduler = sharedScheduler;
+        if (scheduler == null) {
+            synchronized (Async.class) {
+                scheduler = sharedScheduler;
+                if (scheduler == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                            getCpuCount(),
+                            AsyncExecutors.threadFactory("neow3j-scheduler", false));
+                    // Cancelled timeouts and polls should not pile up in the queue and keep
+                    // threads alive.
+                    executor.setRemoveOnCancelPolicy(true);
+                    executor.setKeepAliveTime(SHARED_SCHEDULER_KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS);
+                    executor.allowCoreThreadTimeOut(true);
+                    scheduler = executor;
+                    sharedScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
     }
 
     private static int getCpuCount() {
@@ -0,0 +1,137 @@
+package io.neow3j.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Factory methods for executors that can be used for asynchronous calls, e.g. with
+ * {@link Async#setDefaultExecutor(ExecutorService)}.</p>
+ */
+public final class AsyncExecutors {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Creates an executor with at most the given number of threads. If all threads are busy,
+     * tasks are queued. If the queue is full, the task is run on the calling thread, which slows
+     * down the caller instead of failing the task.
+     *
+     * @param maxThreads    the maximum number of threads. Idle threads are terminated after a
+     *                      minute.
+     * @param queueCapacity the maximum number of queued tasks.
+     * @return the executor.
+     */
+    public static ExecutorService bounded(int maxThreads, int queueCapacity) {
+        return bounded(maxThreads, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Creates an executor with at most the given number of threads. If all threads are busy,
+     * tasks are queued. If the queue is full, the task is passed to the given handler.
+     *
+     * @param maxThreads       the maximum number of threads. Idle threads are terminated
+     *                         after a minute.
+     * @param queueCapacity    the maximum number of queued tasks.
+     * @param rejectionHandler the handler for tasks that do not fit into the queue, e.g.
+     *                         {@link ThreadPoolExecutor.AbortPolicy}. Tasks of
+     *                         {@link Async#run(java.util.concurrent.Callable, ExecutorService)}
+     *                         that are aborted complete exceptionally.
+     * @return the executor.
+     */
+    public static ExecutorService bounded(int maxThreads, int queueCapacity,
+            RejectedExecutionHandler rejectionHandler) {
+        if (maxThreads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "The number of threads and the queue capacity must be at least 1.");
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreadFactory("neow3j-async"), rejectionHandler);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread. Blocking calls, such as
+     * waiting for a node's response, then do not occupy a platform thread.
+     *
+     * @return the executor.
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads.
+     */
+    public static ExecutorService virtualThreadPerTask() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM.");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM.", e);
+        }
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread if the running JVM
+     * supports it. Otherwise, the given executor is returned.
+     *
+     * @param fallback the executor to use if virtual threads are not supported.
+     * @return the executor.
+     */
+    public static ExecutorService virtualThreadPerTaskOr(ExecutorService fallback) {
+        return isVirtualThreadSupported() ? virtualThreadPerTask() : fallback;
+    }
+
+    /**
+     * Creates a thread factory for daemon threads, which don't prevent the JVM from exiting.
+     *
+     * @param namePrefix the prefix of the thread names.
+     * @return the thread factory.
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        return threadFactory(namePrefix, true);
+    }
+
+    static ThreadFactory threadFactory(String namePrefix, boolean daemon) {
+        ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = defaultFactory.newThread(runnable);
+            thread.setName(namePrefix + "-" + count.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            // Available from Java 21 on. Looked up reflectively to stay compatible with Java 8.
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            // On Java 19 and 20 the method exists but fails unless preview features are enabled.
+            ((ExecutorService) method.invoke(null)).shutdown();
+            return method;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
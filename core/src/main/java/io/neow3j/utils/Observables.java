@@ -1,8 +1,14 @@
 package io.neow3j.utils;
 
 import rx.Observable;
+import rx.functions.Func0;
+import rx.subscriptions.Subscriptions;
 
 import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Observable utility functions.
@@ -15,7 +21,10 @@ public class Observables {
     }
 
     /**
-     * Simple Observable implementation to emit a range of BigInteger values.
+     * <p>Simple Observable implementation to emit a range of BigInteger values.</p>
+     * <br>
+     * <p>The Observable supports backpressure, i.e. values are only emitted as they are
+     * requested by downstream operators.</p>
      *
      * @param startValue first value to emit in range
      * @param endValue final value to emit in range
@@ -31,32 +40,57 @@ public class Observables {
                     "Negative start index cannot be greater then end index");
         }
 
-        if (ascending) {
-            return Observable.create(subscriber -> {
-                for (BigInteger i = startValue;
-                        i.compareTo(endValue) < 1
-                             && !subscriber.isUnsubscribed();
-                        i = i.add(BigInteger.ONE)) {
-                    subscriber.onNext(i);
-                }
+        return Observable.from(() -> new Iterator<BigInteger>() {
 
-                if (!subscriber.isUnsubscribed()) {
-                    subscriber.onCompleted();
-                }
-            });
-        } else {
-            return Observable.create(subscriber -> {
-                for (BigInteger i = endValue;
-                        i.compareTo(startValue) > -1
-                             && !subscriber.isUnsubscribed();
-                        i = i.subtract(BigInteger.ONE)) {
-                    subscriber.onNext(i);
+            private BigInteger next = ascending ? startValue : endValue;
+
+            @Override
+            public boolean hasNext() {
+                return ascending
+                        ? next.compareTo(endValue) < 1
+                        : next.compareTo(startValue) > -1;
+            }
+
+            @Override
+            public BigInteger next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
                 }
+                BigInteger current = next;
+                next = ascending ? next.add(BigInteger.ONE) : next.subtract(BigInteger.ONE);
+                return current;
+            }
+        });
+    }
 
-                if (!subscriber.isUnsubscribed()) {
+    /**
+     * <p>Creates an Observable that emits the result of a {@link CompletableFuture}.</p>
+     * <br>
+     * <p>The future is only created when the Observable is subscribed to and it is cancelled
+     * when the subscriber unsubscribes before the future is completed. Unlike
+     * {@link Observable#from(java.util.concurrent.Future)}, no thread is blocked while waiting
+     * for the result.</p>
+     *
+     * @param futureFactory creates the future to observe
+     * @param <T> the result type
+     * @return Observable that emits the result of the future
+     */
+    public static <T> Observable<T> fromFuture(final Func0<CompletableFuture<T>> futureFactory) {
+        return Observable.create(subscriber -> {
+            CompletableFuture<T> future = futureFactory.call();
+            subscriber.add(Subscriptions.create(() -> future.cancel(false)));
+            future.whenComplete((result, throwable) -> {
+                if (subscriber.isUnsubscribed()) {
+                    return;
+                }
+                if (throwable != null) {
+                    subscriber.onError(throwable instanceof CompletionException
+                            && throwable.getCause() != null ? throwable.getCause() : throwable);
+                } else {
+                    subscriber.onNext(result);
                     subscriber.onCompleted();
                 }
             });
-        }
+        });
     }
 }
@@ -0,0 +1,313 @@
+package io.neow3j.protocol.balancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HedgingServiceTest {
+
+    private Neow3jService first;
+    private Neow3jService second;
+    private HedgingService service;
+    private ManualScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        first = mock(Neow3jService.class);
+        second = mock(Neow3jService.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (service != null) {
+            service.close();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private HedgingService build(long initialHedgeDelay) {
+        service = new HedgingService.Builder()
+                .endpoints(Arrays.asList(first, second))
+                .initialHedgeDelay(initialHedgeDelay)
+                .build();
+        return service;
+    }
+
+    private HedgingService buildWithManualScheduler() {
+        scheduler = new ManualScheduler();
+        service = new HedgingService.Builder()
+                .endpoints(Arrays.asList(first, second))
+                .scheduler(scheduler)
+                .build();
+        return service;
+    }
+
+    private static Request<?, NeoBlockCount> getBlockCount(Neow3jService service) {
+        return new Request<>("getblockcount", Collections.<String>emptyList(), service,
+                NeoBlockCount.class);
+    }
+
+    private static NeoBlockCount blockCount(long count) {
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.valueOf(count));
+        return response;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFastResponseIsNotHedged() throws Exception {
+        NeoBlockCount response = blockCount(1);
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        buildWithManualScheduler();
+
+        assertThat(getBlockCount(service).send(), is(sameInstance(response)));
+        assertThat(scheduler.fire(), is(0));
+        verify(second, never()).sendAsync(any(Request.class), any(Class.class));
+        assertThat(service.getHedgeCount(), is(0));
+    }
+
+    @Test
+    public void testSlowResponseIsHedged() throws Exception {
+        NeoBlockCount response = blockCount(2);
+        CompletableFuture<NeoBlockCount> slow = new CompletableFuture<>();
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(slow);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        build(20);
+
+        assertThat(getBlockCount(service).sendAsync().get(5, TimeUnit.SECONDS),
+                is(sameInstance(response)));
+        assertThat(service.getHedgeCount(), is(1));
+    }
+
+    @Test
+    public void testLosingAttemptIsCancelled() throws Exception {
+        NeoBlockCount response = blockCount(2);
+        CompletableFuture<NeoBlockCount> slow = new CompletableFuture<>();
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(slow);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        buildWithManualScheduler();
+
+        CompletableFuture<NeoBlockCount> result = getBlockCount(service).sendAsync();
+        assertThat(scheduler.fire(), is(1));
+
+        assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(response)));
+        assertThat(slow.isCancelled(), is(true));
+    }
+
+    @Test
+    public void testFailureIsHedgedImmediately() throws Exception {
+        NeoBlockCount response = blockCount(3);
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        build(TimeUnit.MINUTES.toMillis(1));
+
+        assertThat(getBlockCount(service).sendAsync().get(5, TimeUnit.SECONDS),
+                is(sameInstance(response)));
+    }
+
+    @Test
+    public void testFailureOfBothAttempts() throws Exception {
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(failed);
+        build(20);
+
+        try {
+            getBlockCount(service).send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("connection refused"));
+        }
+    }
+
+    @Test
+    public void testFailureWhileHedging() throws Exception {
+        NeoBlockCount response = blockCount(4);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<CompletableFuture<NeoBlockCount>> firstAttempt = new AtomicReference<>();
+        // The first attempt of each request stays pending, the duplicate succeeds.
+        Answer<CompletableFuture<NeoBlockCount>> answer = invocation ->
+                calls.getAndIncrement() == 0
+                        ? firstAttempt.get()
+                        : CompletableFuture.completedFuture(response);
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(answer);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(answer);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        // Fires the hedge timer at the same time as the test fails the first attempt.
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                return super.schedule(() -> {
+                    try {
+                        barrier.await(5, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    command.run();
+                }, 0, unit);
+            }
+        };
+        service = new HedgingService.Builder()
+                .endpoints(Arrays.asList(first, second))
+                .scheduler(scheduler)
+                .build();
+
+        try {
+            for (int i = 0; i < 5000; i++) {
+                calls.set(0);
+                firstAttempt.set(new CompletableFuture<>());
+                CompletableFuture<NeoBlockCount> result = getBlockCount(service).sendAsync();
+                barrier.await(5, TimeUnit.SECONDS);
+                firstAttempt.get().completeExceptionally(new IOException("connection reset"));
+
+                assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(response)));
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendRawTransactionIsNeverDuplicated() throws Exception {
+        CompletableFuture<NeoSendRawTransaction> slow = new CompletableFuture<>();
+        when(first.sendAsync(any(Request.class), eq(NeoSendRawTransaction.class)))
+                .thenReturn(slow);
+        buildWithManualScheduler();
+        Request<?, NeoSendRawTransaction> request = new Request<>("sendrawtransaction",
+                Collections.singletonList("00"), service, NeoSendRawTransaction.class);
+
+        CompletableFuture<NeoSendRawTransaction> result = request.sendAsync();
+        assertThat(scheduler.fire(), is(0));
+        slow.completeExceptionally(new IOException("connection reset"));
+
+        try {
+            result.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+        verify(second, never()).sendAsync(any(Request.class), any(Class.class));
+        assertThat(service.getHedgeCount(), is(0));
+    }
+
+    @Test
+    public void testHedgeDelayFollowsLatencies() throws Exception {
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockCount(1)));
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockCount(1)));
+        build(TimeUnit.MINUTES.toMillis(1));
+        assertThat(service.getHedgeDelay(), is(TimeUnit.MINUTES.toMillis(1)));
+
+        for (int i = 0; i < 100; i++) {
+            getBlockCount(service).send();
+        }
+
+        // Completed futures have practically no latency.
+        assertThat(service.getHedgeDelay(), is(HedgingService.DEFAULT_MIN_HEDGE_DELAY));
+    }
+
+    @Test
+    public void testLatencyPercentile() {
+        LatencyTracker tracker = new LatencyTracker(20, 0.95, 20);
+        for (int i = 1; i < 20; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.getPercentile(), is(-1L));
+
+        tracker.record(20);
+        assertThat(tracker.getPercentile(), is(19L));
+
+        // Old samples are replaced by new ones.
+        for (int i = 0; i < 40; i++) {
+            tracker.record(1000);
+        }
+        assertThat(tracker.getPercentile(), is(1000L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuildWithOneEndpoint() {
+        new HedgingService.Builder().endpoint(first).build();
+    }
+
+    /**
+     * A scheduler whose tasks only run when the test fires them.
+     */
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<RunnableScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            RunnableScheduledFuture<?> task = (RunnableScheduledFuture<?>) super.schedule(
+                    command, 1, TimeUnit.DAYS);
+            tasks.add(task);
+            return task;
+        }
+
+        /**
+         * Runs the scheduled tasks that were not cancelled.
+         *
+         * @return the number of tasks that ran.
+         */
+        private int fire() {
+            int count = 0;
+            for (RunnableScheduledFuture<?> task : tasks) {
+                if (!task.isDone()) {
+                    task.run();
+                    count++;
+                }
+            }
+            tasks.clear();
+            return count;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.neow3j.protocol.balancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoadBalancingServiceTest {
+
+    private Neow3jService first;
+    private Neow3jService second;
+    private Neow3jService third;
+
+    @Before
+    public void setUp() {
+        first = mock(Neow3jService.class);
+        second = mock(Neow3jService.class);
+        third = mock(Neow3jService.class);
+    }
+
+    private LoadBalancingService.Builder builder() {
+        return new LoadBalancingService.Builder()
+                .endpoints(Arrays.asList(first, second, third))
+                .policy(LoadBalancingPolicy.roundRobin());
+    }
+
+    private static Request<?, NeoBlockCount> getBlockCount(Neow3jService service) {
+        return new Request<>("getblockcount", Collections.<String>emptyList(), service,
+                NeoBlockCount.class);
+    }
+
+    private static NeoBlockCount blockCount(long count) {
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.valueOf(count));
+        return response;
+    }
+
+    @Test
+    public void testRoundRobin() throws IOException {
+        NeoBlockCount response = blockCount(1);
+        when(first.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        when(second.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        when(third.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        LoadBalancingService service = builder().build();
+
+        for (int i = 0; i < 6; i++) {
+            getBlockCount(service).send();
+        }
+
+        verify(first, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+        verify(second, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+        verify(third, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testRetryReadOnlyRequestOnOtherEndpoint() throws IOException {
+        NeoBlockCount response = blockCount(1);
+        when(first.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenThrow(new IOException("connection refused"));
+        when(second.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        when(third.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        LoadBalancingService service = builder().build();
+
+        assertThat(getBlockCount(service).send(), is(sameInstance(response)));
+        verify(first).send(any(Request.class), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testRetryReadOnlyRequestAsync() throws Exception {
+        NeoBlockCount response = blockCount(1);
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        when(third.sendAsync(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        LoadBalancingService service = builder().build();
+
+        assertThat(getBlockCount(service).sendAsync().get(), is(sameInstance(response)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNoRetryOfSendRawTransaction() throws Exception {
+        when(first.send(any(Request.class), eq(NeoSendRawTransaction.class)))
+                .thenThrow(new IOException("connection reset"));
+        LoadBalancingService service = builder().build();
+        Request<?, NeoSendRawTransaction> request = new Request<>("sendrawtransaction",
+                Collections.singletonList("00"), service, NeoSendRawTransaction.class);
+
+        try {
+            request.send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("connection reset"));
+        }
+        verify(second, never()).send(any(Request.class), any(Class.class));
+        verify(third, never()).send(any(Request.class), any(Class.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNoRetryOfSendRawTransactionAsync() throws Exception {
+        CompletableFuture<NeoSendRawTransaction> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection reset"));
+        when(first.sendAsync(any(Request.class), eq(NeoSendRawTransaction.class)))
+                .thenReturn(failed);
+        LoadBalancingService service = builder().build();
+        Request<?, NeoSendRawTransaction> request = new Request<>("sendrawtransaction",
+                Collections.singletonList("00"), service, NeoSendRawTransaction.class);
+
+        try {
+            request.sendAsync().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+        verify(second, never()).sendAsync(any(Request.class), any(Class.class));
+    }
+
+    @Test
+    public void testEjectionAfterConsecutiveFailures() throws IOException {
+        NeoBlockCount response = blockCount(1);
+        when(first.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenThrow(new IOException("connection refused"));
+        when(second.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        when(third.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(response);
+        LoadBalancingService service = builder().failureThreshold(2).build();
+        Endpoint firstEndpoint = service.getEndpoints().get(0);
+
+        for (int i = 0; i < 6; i++) {
+            getBlockCount(service).send();
+        }
+
+        assertThat(firstEndpoint.isHealthy(), is(false));
+        verify(first, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testEjectedEndpointGetsAnotherChance() throws IOException {
+        when(first.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenThrow(new IOException("connection refused"))
+                .thenReturn(blockCount(1));
+        LoadBalancingService service = new LoadBalancingService.Builder()
+                .endpoint(first)
+                .failureThreshold(1)
+                .ejectionTime(0)
+                .maxAttempts(1)
+                .build();
+
+        try {
+            getBlockCount(service).send();
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        assertThat(getBlockCount(service).send().getBlockIndex(), is(BigInteger.ONE));
+        assertThat(service.getEndpoints().get(0).isHealthy(), is(true));
+    }
+
+    @Test
+    public void testLaggingEndpointIsEjected() throws IOException {
+        when(first.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(100));
+        when(second.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(90));
+        when(third.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(98));
+        LoadBalancingService service = builder().maxBlockLag(5).build();
+
+        service.checkHealth();
+
+        assertThat(service.getEndpoints().get(0).isHealthy(), is(true));
+        assertThat(service.getEndpoints().get(1).isHealthy(), is(false));
+        assertThat(service.getEndpoints().get(2).isHealthy(), is(true));
+        assertThat(service.getEndpoints().get(1).getBlockCount(), is(90L));
+    }
+
+    @Test
+    public void testErrorResponseIsNoFailure() throws IOException {
+        NeoBlockCount error = new NeoBlockCount();
+        error.setError(new Response.Error(-100, "Unknown error"));
+        when(first.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(error);
+        LoadBalancingService service = new LoadBalancingService.Builder()
+                .endpoint(first)
+                .failureThreshold(1)
+                .build();
+
+        assertThat(getBlockCount(service).send().hasError(), is(true));
+        assertThat(service.getEndpoints().get(0).isHealthy(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuildWithoutEndpoints() {
+        new LoadBalancingService.Builder().build();
+    }
+}
@@ -0,0 +1,189 @@
+package io.neow3j.protocol.batch;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingServiceTest {
+
+    private ScheduledExecutorService scheduledExecutorService;
+    private Neow3jService service;
+    private List<Integer> batchSizes;
+
+    @Before
+    public void setUp() {
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        service = mock(Neow3jService.class);
+        batchSizes = new ArrayList<>();
+        // Answers every request with its own id as block count.
+        when(service.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batchRequest = (BatchRequest) invocation.getArguments()[0];
+            batchSizes.add(batchRequest.size());
+            List<Response> responses = new ArrayList<>();
+            for (Request<?, ? extends Response> request : batchRequest.getRequests()) {
+                NeoBlockCount response = new NeoBlockCount();
+                response.setId(request.getId());
+                response.setResult(BigInteger.valueOf(request.getId()));
+                responses.add(response);
+            }
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(batchRequest.getRequests(), responses));
+        });
+    }
+
+    @After
+    public void tearDown() {
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void testSendWhenMaxBatchSizeReached() throws Exception {
+        BatchingService batchingService =
+                new BatchingService(service, 3, 60_000, scheduledExecutorService);
+        Neow3j neow3j = Neow3j.build(batchingService);
+
+        List<Request<?, NeoBlockCount>> requests = new ArrayList<>();
+        List<CompletableFuture<NeoBlockCount>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+            requests.add(request);
+            results.add(request.sendAsync());
+        }
+
+        verify(service, times(1)).sendBatchAsync(any(BatchRequest.class));
+        assertThat(batchSizes.get(0), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(results.get(i).get().getBlockIndex(),
+                    is(BigInteger.valueOf(requests.get(i).getId())));
+        }
+    }
+
+    @Test
+    public void testSendWhenBatchWindowPassed() throws Exception {
+        BatchingService batchingService =
+                new BatchingService(service, 100, 20, scheduledExecutorService);
+        Neow3j neow3j = Neow3j.build(batchingService);
+
+        Request<?, NeoBlockCount> first = neow3j.getBlockCount();
+        Request<?, NeoBlockCount> second = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> firstResult = first.sendAsync();
+        CompletableFuture<NeoBlockCount> secondResult = second.sendAsync();
+
+        assertThat(firstResult.get(5, TimeUnit.SECONDS).getBlockIndex(),
+                is(BigInteger.valueOf(first.getId())));
+        assertThat(secondResult.get(5, TimeUnit.SECONDS).getBlockIndex(),
+                is(BigInteger.valueOf(second.getId())));
+        assertThat(batchSizes.size(), is(1));
+        assertThat(batchSizes.get(0), is(2));
+    }
+
+    @Test
+    public void testFlushOnClose() throws Exception {
+        BatchingService batchingService =
+                new BatchingService(service, 100, 60_000, scheduledExecutorService);
+        Neow3j neow3j = Neow3j.build(batchingService);
+
+        CompletableFuture<NeoBlockCount> result = neow3j.getBlockCount().sendAsync();
+        batchingService.close();
+
+        assertThat(result.isDone(), is(true));
+        verify(service).close();
+    }
+
+    @Test
+    public void testSameRequestTwiceIsSentInSeparateBatches() throws Exception {
+        BatchingService batchingService =
+                new BatchingService(service, 100, 60_000, scheduledExecutorService);
+        Neow3j neow3j = Neow3j.build(batchingService);
+
+        Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> firstResult = request.sendAsync();
+        CompletableFuture<NeoBlockCount> secondResult = request.sendAsync();
+        batchingService.flush();
+
+        assertThat(batchSizes.size(), is(2));
+        assertThat(firstResult.get().getBlockIndex(), is(BigInteger.valueOf(request.getId())));
+        assertThat(secondResult.get().getBlockIndex(), is(BigInteger.valueOf(request.getId())));
+    }
+
+    @Test
+    public void testMissingResponseCompletesExceptionally() throws Exception {
+        doAnswer(invocation -> {
+            BatchRequest batchRequest = (BatchRequest) invocation.getArguments()[0];
+            List<Response> responses = new ArrayList<>();
+            responses.add(null);
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(batchRequest.getRequests(), responses));
+        }).when(service).sendBatchAsync(any(BatchRequest.class));
+        BatchingService batchingService =
+                new BatchingService(service, 1, 60_000, scheduledExecutorService);
+
+        CompletableFuture<NeoBlockCount> result =
+                Neow3j.build(batchingService).getBlockCount().sendAsync();
+
+        try {
+            result.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ClientConnectionException.class));
+        }
+    }
+
+    @Test
+    public void testFailedBatchCompletesAllExceptionally() throws Exception {
+        CompletableFuture<BatchResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("Connection refused"));
+        doReturn(failed).when(service).sendBatchAsync(any(BatchRequest.class));
+        BatchingService batchingService =
+                new BatchingService(service, 2, 60_000, scheduledExecutorService);
+        Neow3j neow3j = Neow3j.build(batchingService);
+
+        CompletableFuture<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        CompletableFuture<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(second.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void testSendIsNotBatched() throws Exception {
+        BatchingService batchingService =
+                new BatchingService(service, 100, 60_000, scheduledExecutorService);
+
+        Neow3j.build(batchingService).getBlockCount().send();
+
+        verify(service).send(any(Request.class), any());
+        verify(service, never()).sendBatchAsync(any(BatchRequest.class));
+    }
+}
@@ -0,0 +1,310 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.RpcErrors;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetContractState;
+import io.neow3j.protocol.core.methods.response.NeoGetRawTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingServiceTest {
+
+    private static final String TX_ID =
+            "0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6";
+
+    private static final String BLOCK_HASH =
+            "0x498b16db3fba92448fac63caeecb91ce38cb4b565de7d717d473f0dd37a1e816";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Neow3jService delegate;
+
+    @Before
+    public void setUp() {
+        delegate = mock(Neow3jService.class);
+    }
+
+    private static NeoGetTransaction transaction(String blockHash) throws IOException {
+        return ObjectMapperFactory.getObjectMapper().readValue("{"
+                + "\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                + "\"txid\":\"" + TX_ID + "\","
+                + "\"size\":283,\"type\":\"ContractTransaction\",\"version\":0,"
+                + "\"attributes\":[],\"vin\":[],\"vout\":[],"
+                + "\"sys_fee\":\"0\",\"net_fee\":\"0\",\"scripts\":[]"
+                + (blockHash == null ? "" : ",\"blockhash\":\"" + blockHash + "\","
+                + "\"confirmations\":10,\"blocktime\":1539968858")
+                + "}}", NeoGetTransaction.class);
+    }
+
+    private static final String NEXT_BLOCK_HASH =
+            "0x3d3d2b4e3f2c1d1bfb5d0a8ad3c2b1f8e1e5c0d79b1d5d8f1b4a7d0c2e9f8a11";
+
+    // Only blocks below the tip have a next block.
+    private static NeoGetBlock block(int confirmations) {
+        NeoGetBlock response = new NeoGetBlock();
+        response.setResult(new NeoBlock(BLOCK_HASH, 0, 0, null, null, 0, 1914006, null, null,
+                null, null, confirmations, confirmations > 1 ? NEXT_BLOCK_HASH : null));
+        return response;
+    }
+
+    @Test
+    public void testConfirmedTransactionIsCached() throws IOException {
+        NeoGetTransaction response = transaction(BLOCK_HASH);
+        when(delegate.send(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(response);
+        CachingService service = new CachingService(delegate);
+        Neow3j neow3j = Neow3j.build(service);
+
+        assertThat(neow3j.getTransaction(TX_ID).send(), is(sameInstance(response)));
+        Request<?, NeoGetTransaction> request = neow3j.getTransaction(TX_ID);
+        NeoGetTransaction cached = request.send();
+        assertThat(cached, is(not(sameInstance(response))));
+        assertThat(cached.getId(), is(request.getId()));
+        assertThat(cached.getTransaction(), is(sameInstance(response.getTransaction())));
+
+        verify(delegate, times(1)).send(any(Request.class), eq(NeoGetTransaction.class));
+        CacheStats stats = service.getStats();
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void testUnconfirmedTransactionIsNotCached() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(transaction(null));
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+
+        neow3j.getTransaction(TX_ID).send();
+        neow3j.getTransaction(TX_ID).send();
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoGetTransaction.class));
+    }
+
+    @Test
+    public void testErrorResponseIsNotCached() throws IOException {
+        NeoGetRawTransaction error = new NeoGetRawTransaction();
+        error.setError(new Response.Error(-100, "Unknown transaction"));
+        when(delegate.send(any(Request.class), eq(NeoGetRawTransaction.class)))
+                .thenReturn(error);
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+
+        neow3j.getRawTransaction(TX_ID).send();
+        neow3j.getRawTransaction(TX_ID).send();
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoGetRawTransaction.class));
+    }
+
+    @Test
+    public void testBlockByIndexIsOnlyCachedBelowTheTip() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetBlock.class)))
+                .thenReturn(block(1))
+                .thenReturn(block(2));
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+        BlockParameterIndex index = new BlockParameterIndex(1914006);
+
+        assertThat(neow3j.getBlock(index, true).send().getBlock().getConfirmations(), is(1));
+        assertThat(neow3j.getBlock(index, true).send().getBlock().getConfirmations(), is(2));
+        assertThat(neow3j.getBlock(index, true).send().getBlock().getConfirmations(), is(2));
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoGetBlock.class));
+    }
+
+    @Test
+    public void testBlockByHashIsCached() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetBlock.class))).thenReturn(block(2));
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+
+        neow3j.getBlock(BLOCK_HASH, true).send();
+        neow3j.getBlock(BLOCK_HASH, true).send();
+
+        verify(delegate, times(1)).send(any(Request.class), eq(NeoGetBlock.class));
+    }
+
+    @Test
+    public void testLatestBlockByHashIsNotCached() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetBlock.class)))
+                .thenReturn(block(1))
+                .thenReturn(block(2));
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+
+        assertThat(neow3j.getBlock(BLOCK_HASH, true).send().getBlock().getNextBlockHash(),
+                is(nullValue()));
+        assertThat(neow3j.getBlock(BLOCK_HASH, true).send().getBlock().getNextBlockHash(),
+                is(NEXT_BLOCK_HASH));
+        assertThat(neow3j.getBlock(BLOCK_HASH, true).send().getBlock().getNextBlockHash(),
+                is(NEXT_BLOCK_HASH));
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoGetBlock.class));
+    }
+
+    @Test
+    public void testContractStateIsNotCached() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetContractState.class)))
+                .thenReturn(new NeoGetContractState());
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate));
+
+        neow3j.getContractState("dc675afc61a7c0f7b3d2682bf6e1d8ed865a0e5f").send();
+        neow3j.getContractState("dc675afc61a7c0f7b3d2682bf6e1d8ed865a0e5f").send();
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoGetContractState.class));
+    }
+
+    @Test
+    public void testOtherRequestsAreNotCached() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenReturn(new NeoBlockCount());
+        CachingService service = new CachingService(delegate);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        verify(delegate, times(2)).send(any(Request.class), eq(NeoBlockCount.class));
+        assertThat(service.getStats().getMissCount(), is(0L));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws IOException {
+        NeoGetRawTransaction response = new NeoGetRawTransaction();
+        response.setResult("00");
+        when(delegate.send(any(Request.class), eq(NeoGetRawTransaction.class)))
+                .thenReturn(response);
+        CachingService service = new CachingService(delegate, 2);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getRawTransaction("01").send();
+        neow3j.getRawTransaction("02").send();
+        neow3j.getRawTransaction("01").send();
+        neow3j.getRawTransaction("03").send();
+        // 02 was evicted, 01 was used more recently.
+        neow3j.getRawTransaction("01").send();
+        neow3j.getRawTransaction("02").send();
+
+        verify(delegate, times(4)).send(any(Request.class), eq(NeoGetRawTransaction.class));
+        assertThat(service.getStats().getEvictionCount(), is(2L));
+        assertThat(service.getStats().getSize(), is(2));
+    }
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        CompletableFuture<NeoGetTransaction> pending = new CompletableFuture<>();
+        when(delegate.sendAsync(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(pending);
+        CachingService service = new CachingService(delegate);
+        Neow3j neow3j = Neow3j.build(service);
+
+        CompletableFuture<NeoGetTransaction> first = neow3j.getTransaction(TX_ID).sendAsync();
+        Request<?, NeoGetTransaction> secondRequest = neow3j.getTransaction(TX_ID);
+        CompletableFuture<NeoGetTransaction> second = secondRequest.sendAsync();
+        NeoGetTransaction response = transaction(BLOCK_HASH);
+        pending.complete(response);
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(sameInstance(response)));
+        assertThat(second.get(5, TimeUnit.SECONDS).getId(), is(secondRequest.getId()));
+        assertThat(second.get().getTransaction(), is(sameInstance(response.getTransaction())));
+        assertThat(neow3j.getTransaction(TX_ID).sendAsync().get().getTransaction(),
+                is(sameInstance(response.getTransaction())));
+        verify(delegate, times(1)).sendAsync(any(Request.class), eq(NeoGetTransaction.class));
+        assertThat(service.getStats().getHitCount(), is(2L));
+    }
+
+    @Test
+    public void testCoalescedErrorAndMissingResponses() throws Exception {
+        CompletableFuture<NeoGetTransaction> pending = new CompletableFuture<>();
+        when(delegate.sendAsync(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(pending);
+        CachingService service = new CachingService(delegate);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getTransaction(TX_ID).sendAsync();
+        CompletableFuture<NeoGetTransaction> second = neow3j.getTransaction(TX_ID).sendAsync();
+        NeoGetTransaction response = new NeoGetTransaction();
+        response.setError(new Response.Error(RpcErrors.INVALID_PARAMS, "Unknown"));
+        pending.complete(response);
+
+        assertThat(second.get(5, TimeUnit.SECONDS).hasError(), is(true));
+        assertThat(second.get().getError().getCode(), is(RpcErrors.INVALID_PARAMS));
+
+        pending = new CompletableFuture<>();
+        when(delegate.sendAsync(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(pending);
+        neow3j.getTransaction(TX_ID).sendAsync();
+        second = neow3j.getTransaction(TX_ID).sendAsync();
+        pending.complete(null);
+
+        assertThat(second.get(5, TimeUnit.SECONDS), is(nullValue()));
+    }
+
+    @Test
+    public void testFailedCoalescedCallIsNoHit() throws Exception {
+        CompletableFuture<NeoGetTransaction> pending = new CompletableFuture<>();
+        when(delegate.sendAsync(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(pending);
+        CachingService service = new CachingService(delegate);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getTransaction(TX_ID).sendAsync();
+        CompletableFuture<NeoGetTransaction> second = neow3j.getTransaction(TX_ID).sendAsync();
+        pending.completeExceptionally(new IOException("Connection reset."));
+
+        try {
+            second.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause() instanceof IOException, is(true));
+        }
+        assertThat(service.getStats().getHitCount(), is(0L));
+        assertThat(service.getStats().getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testDiskTierSurvivesRestart() throws IOException {
+        when(delegate.send(any(Request.class), eq(NeoGetTransaction.class)))
+                .thenReturn(transaction(BLOCK_HASH));
+        Neow3j neow3j = Neow3j.build(new CachingService(delegate, 10, folder.getRoot().toPath()));
+        neow3j.getTransaction(TX_ID).send();
+
+        CachingService restarted = new CachingService(mock(Neow3jService.class), 10,
+                folder.getRoot().toPath());
+        NeoGetTransaction fromDisk = Neow3j.build(restarted).getTransaction(TX_ID).send();
+
+        assertThat(fromDisk.getTransaction(), is(transaction(BLOCK_HASH).getTransaction()));
+        assertThat(restarted.getStats().getDiskHitCount(), is(1L));
+
+        // The second request is answered from memory.
+        Neow3j.build(restarted).getTransaction(TX_ID).send();
+        assertThat(restarted.getStats().getDiskHitCount(), is(1L));
+        assertThat(restarted.getStats().getHitCount(), is(2L));
+    }
+}
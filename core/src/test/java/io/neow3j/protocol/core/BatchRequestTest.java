@@ -0,0 +1,176 @@
+package io.neow3j.protocol.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class BatchRequestTest {
+
+    private BatchInterceptor interceptor;
+    private HttpService httpService;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        interceptor = new BatchInterceptor();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .build();
+        httpService = new HttpService(httpClient);
+        neow3j = Neow3j.build(httpService);
+    }
+
+    @Test
+    public void testSendBatch() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetRawBlock> rawBlock = neow3j.getRawBlock(new BlockParameterIndex(1));
+
+        BatchResponse batchResponse = neow3j.newBatch()
+                .add(blockCount)
+                .add(rawBlock)
+                .send();
+
+        assertThat(interceptor.calls, is(1));
+        assertThat(interceptor.requestsPerCall.get(0), is(2));
+        assertThat(batchResponse.getResponses().size(), is(2));
+        assertThat(batchResponse.getResponse(blockCount).getBlockIndex(),
+                is(BigInteger.valueOf(blockCount.getId())));
+        assertThat(batchResponse.getResponse(rawBlock).getRawBlock(),
+                is(Long.toString(rawBlock.getId())));
+        assertThat(batchResponse.getResponses().get(1), is(batchResponse.getResponse(rawBlock)));
+    }
+
+    @Test
+    public void testSendBatchAsync() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+
+        BatchResponse batchResponse = neow3j.newBatch().add(blockCount).sendAsync().get();
+
+        assertThat(batchResponse.getResponse(blockCount).getBlockIndex(),
+                is(BigInteger.valueOf(blockCount.getId())));
+    }
+
+    @Test
+    public void testSendBatchSplitByMaxBatchSize() throws Exception {
+        httpService.setMaxBatchSize(2);
+        BatchRequest batch = neow3j.newBatch();
+        List<Request<?, NeoBlockCount>> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+            requests.add(request);
+            batch.add(request);
+        }
+
+        BatchResponse batchResponse = batch.send();
+
+        assertThat(interceptor.calls, is(3));
+        assertThat(interceptor.requestsPerCall.get(0), is(2));
+        assertThat(interceptor.requestsPerCall.get(1), is(2));
+        assertThat(interceptor.requestsPerCall.get(2), is(1));
+        for (Request<?, NeoBlockCount> request : requests) {
+            assertThat(batchResponse.getResponse(request).getBlockIndex(),
+                    is(BigInteger.valueOf(request.getId())));
+        }
+    }
+
+    @Test
+    public void testMissingResponseIsNull() throws Exception {
+        interceptor.omitLastResponse = true;
+        Request<?, NeoBlockCount> first = neow3j.getBlockCount();
+        Request<?, NeoBlockCount> second = neow3j.getBlockCount();
+
+        BatchResponse batchResponse = neow3j.newBatch().add(first).add(second).send();
+
+        assertThat(batchResponse.getResponse(first).getBlockIndex(),
+                is(BigInteger.valueOf(first.getId())));
+        assertThat(batchResponse.getResponse(second), is(nullValue()));
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        BatchResponse batchResponse = neow3j.newBatch().send();
+
+        assertThat(interceptor.calls, is(0));
+        assertThat(batchResponse.getResponses().isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddSameRequestTwice() {
+        Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+        neow3j.newBatch().add(request).add(request);
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void testBatchRejectedByNode() throws Exception {
+        interceptor.rejectBatch = true;
+        neow3j.newBatch().add(neow3j.getBlockCount()).send();
+    }
+
+    /**
+     * Answers every request of a batch with its own id as result, in reverse order.
+     */
+    private static class BatchInterceptor implements Interceptor {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private int calls = 0;
+        private List<Integer> requestsPerCall = new ArrayList<>();
+        private boolean omitLastResponse = false;
+        private boolean rejectBatch = false;
+
+        @Override
+        public okhttp3.Response intercept(Chain chain) throws IOException {
+            calls++;
+            Buffer buffer = new Buffer();
+            chain.request().body().writeTo(buffer);
+            JsonNode requests = objectMapper.readTree(buffer.readUtf8());
+            requestsPerCall.add(requests.size());
+
+            StringBuilder json = new StringBuilder();
+            if (rejectBatch) {
+                json.append("{\"jsonrpc\":\"2.0\",\"id\":null,"
+                        + "\"error\":{\"code\":-32600,\"message\":\"Invalid Request\"}}");
+            } else {
+                int responses = omitLastResponse ? requests.size() - 1 : requests.size();
+                json.append("[");
+                for (int i = responses - 1; i >= 0; i--) {
+                    long id = requests.get(i).get("id").asLong();
+                    json.append("{\"jsonrpc\":\"2.0\",\"id\":").append(id)
+                            .append(",\"result\":\"").append(id).append("\"}");
+                    if (i > 0) {
+                        json.append(",");
+                    }
+                }
+                json.append("]");
+            }
+
+            return new okhttp3.Response.Builder()
+                    .body(ResponseBody.create(JSON_MEDIA_TYPE, json.toString()))
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_2)
+                    .code(200)
+                    .message("")
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.neow3j.protocol.core;
 
 import io.neow3j.protocol.ResponseTester;
+import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetVersion;
 import org.junit.Test;
 
@@ -37,6 +38,26 @@ public class RawResponseTest extends ResponseTester {
         assertThat(web3ClientVersion.getRawResponse(), nullValue());
     }
 
+    @Test
+    public void testRawResponseOfLargeResponse() {
+        StringBuilder rawResponse = new StringBuilder(
+                "{\"id\":67,\"jsonrpc\":\"2.0\",\"result\":[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                rawResponse.append(",");
+            }
+            rawResponse.append("\"0x").append(String.format("%064x", i)).append("\"");
+        }
+        rawResponse.append("]}");
+        configureWeb3Service(true);
+        buildResponse(rawResponse.toString() + "\n");
+
+        NeoGetRawMemPool rawMemPool = deserialiseResponse(NeoGetRawMemPool.class);
+
+        assertThat(rawMemPool.getAddresses().size(), is(5000));
+        assertThat(rawMemPool.getRawResponse(), is(rawResponse.toString()));
+    }
+
     private NeoGetVersion deserialiseWeb3ClientVersionResponse() {
         buildResponse(RAW_RESPONSE);
 
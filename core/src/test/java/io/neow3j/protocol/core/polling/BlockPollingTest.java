@@ -0,0 +1,136 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockPollingTest {
+
+    private static final long MIN_INTERVAL = 250;
+    private static final long MAX_INTERVAL = 15_000;
+
+    private AtomicLong blockCount;
+    private AtomicLong now;
+    private List<BigInteger> blocks;
+    private BlockPolling blockPolling;
+    private ScheduledExecutorService executorService;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        blockCount = new AtomicLong();
+        now = new AtomicLong(1_000_000);
+        blocks = new ArrayList<>();
+        executorService = Executors.newSingleThreadScheduledExecutor();
+
+        Neow3j neow3j = mock(Neow3j.class);
+        Request<?, NeoBlockCount> request = mock(Request.class);
+        when(neow3j.getBlockCount()).thenAnswer(invocation -> request);
+        when(request.send()).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        blockPolling = new BlockPolling(neow3j, blocks::add, now::get);
+    }
+
+    @After
+    public void tearDown() {
+        blockPolling.cancel();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testIndexesBeyondIntegerRange() throws IOException {
+        long start = Integer.MAX_VALUE - 1L;
+        blockCount.set(start + 1);
+        blockPolling.poll();
+        blockCount.set(start + 4);
+        blockPolling.poll();
+
+        assertThat(blocks, is(Arrays.asList(
+                BigInteger.valueOf(start + 1),
+                BigInteger.valueOf(start + 2),
+                BigInteger.valueOf(start + 3))));
+        assertThat(blockPolling.getCurrentBlock(), is(BigInteger.valueOf(start + 3)));
+    }
+
+    @Test
+    public void testAdaptiveDelay() throws Exception {
+        // The polls are triggered manually.
+        blockPolling.runAdaptive(mock(ScheduledExecutorService.class), MIN_INTERVAL,
+                MAX_INTERVAL);
+
+        // No block observed yet, backs off from the minimum interval.
+        blockCount.set(100);
+        blockPolling.poll();
+        assertThat(blockPolling.nextDelay(), is(250L));
+        assertThat(blockPolling.nextDelay(), is(500L));
+
+        // Two blocks 10 seconds apart.
+        blockCount.set(101);
+        blockPolling.poll();
+        now.addAndGet(10_000);
+        blockCount.set(102);
+        blockPolling.poll();
+        // 0.2 * 10s + 0.8 * 15s
+        assertThat(blockPolling.getExpectedBlockTime(), is(14_000L));
+
+        // Sleeps until shortly before the next block is expected.
+        assertThat(blockPolling.nextDelay(), is(14_000L - 1_400L));
+
+        // Polls aggressively around the expected block time.
+        now.addAndGet(13_000);
+        assertThat(blockPolling.nextDelay(), is(MIN_INTERVAL));
+        now.addAndGet(2_000);
+        assertThat(blockPolling.nextDelay(), is(MIN_INTERVAL));
+
+        // Backs off when the block is overdue.
+        now.addAndGet(5_000);
+        assertThat(blockPolling.nextDelay(), is(250L));
+        assertThat(blockPolling.nextDelay(), is(500L));
+        assertThat(blockPolling.nextDelay(), is(1000L));
+    }
+
+    @Test
+    public void testRunAdaptive() throws Exception {
+        blockCount.set(10);
+        blockPolling.runAdaptive(executorService, 5, 50);
+        // Wait for the initial poll.
+        while (blockPolling.getCurrentBlock() == null) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        blockCount.set(12);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (blockPolling.getCurrentBlock().longValue() < 11
+                && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        assertThat(blocks, is(Arrays.asList(BigInteger.valueOf(10), BigInteger.valueOf(11))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRunAdaptiveWithInvalidIntervals() {
+        blockPolling.runAdaptive(executorService, 100, 50);
+    }
+}
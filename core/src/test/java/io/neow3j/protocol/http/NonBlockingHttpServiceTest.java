@@ -0,0 +1,160 @@
+package io.neow3j.protocol.http;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.MethodMetrics;
+import io.neow3j.protocol.metrics.MetricsCollector;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class NonBlockingHttpServiceTest {
+
+    private ResponseInterceptor interceptor;
+    private NonBlockingHttpService httpService;
+
+    @Before
+    public void setUp() {
+        interceptor = new ResponseInterceptor();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .build();
+        httpService = new NonBlockingHttpService(HttpService.DEFAULT_URL, httpClient);
+    }
+
+    @Test
+    public void testSendAsyncRunsOnHttpClientDispatcher() throws Exception {
+        interceptor.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+
+        NeoBlockCount blockCount = Neow3j.build(httpService).getBlockCount().sendAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(blockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(interceptor.threadName, startsWith("OkHttp"));
+    }
+
+    @Test
+    public void testSendAsyncWithHttpError() throws Exception {
+        interceptor.code = 500;
+        interceptor.response = "Internal Server Error";
+
+        try {
+            Neow3j.build(httpService).getBlockCount().sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ClientConnectionException.class));
+        }
+    }
+
+    @Test
+    public void testSendBatchAsync() throws Exception {
+        Neow3j neow3j = Neow3j.build(httpService);
+        Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+        interceptor.response = "[{\"jsonrpc\":\"2.0\",\"id\":" + request.getId()
+                + ",\"result\":42}]";
+
+        BatchResponse batchResponse = neow3j.newBatch().add(request).sendAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(batchResponse.getResponse(request).getBlockIndex(),
+                is(BigInteger.valueOf(42)));
+        assertThat(interceptor.threadName, startsWith("OkHttp"));
+    }
+
+    @Test
+    public void testSendIsSynchronous() throws Exception {
+        interceptor.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+
+        NeoBlockCount blockCount = Neow3j.build(httpService).getBlockCount().send();
+
+        assertThat(blockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(interceptor.threadName, is(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testListenersAreNotified() throws Exception {
+        MetricsCollector metrics = new MetricsCollector();
+        httpService.addListener(metrics);
+        Neow3j neow3j = Neow3j.build(httpService);
+        interceptor.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+
+        neow3j.getBlockCount().sendAsync().get(5, TimeUnit.SECONDS);
+
+        MethodMetrics blockCount = metrics.getMetrics("getblockcount");
+        assertThat(blockCount.getCallCount(), is(1L));
+        assertThat(blockCount.getFailureCount(), is(0L));
+        assertThat(blockCount.getInFlight(), is(0));
+        assertThat(blockCount.getResponseBytes(), is((long) interceptor.response.length()));
+
+        Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+        interceptor.response = "[{\"jsonrpc\":\"2.0\",\"id\":" + request.getId()
+                + ",\"result\":42}]";
+        neow3j.newBatch().add(request).sendAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(blockCount.getCallCount(), is(2L));
+
+        interceptor.code = 500;
+        interceptor.response = "Internal Server Error";
+        try {
+            neow3j.getBlockCount().sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            // expected
+        }
+
+        assertThat(blockCount.getCallCount(), is(3L));
+        assertThat(blockCount.getFailureCount(), is(1L));
+        assertThat(blockCount.getInFlight(), is(0));
+        assertThat(httpService.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void testDispatcherLimits() {
+        NonBlockingHttpService service = new NonBlockingHttpService(HttpService.DEFAULT_URL, 8);
+        assertThat(service.getHttpClient().dispatcher().getMaxRequestsPerHost(), is(8));
+
+        service.setMaxRequestsPerHost(16);
+        service.setMaxRequests(32);
+        assertThat(service.getHttpClient().dispatcher().getMaxRequestsPerHost(), is(16));
+        assertThat(service.getHttpClient().dispatcher().getMaxRequests(), is(32));
+    }
+
+    private static class ResponseInterceptor implements Interceptor {
+
+        private String response;
+        private int code = 200;
+        private String threadName;
+
+        @Override
+        public okhttp3.Response intercept(Chain chain) throws IOException {
+            threadName = Thread.currentThread().getName();
+            chain.request().body().writeTo(new Buffer());
+            return new okhttp3.Response.Builder()
+                    .body(ResponseBody.create(JSON_MEDIA_TYPE, response))
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_2)
+                    .code(code)
+                    .message("")
+                    .build();
+        }
+    }
+}
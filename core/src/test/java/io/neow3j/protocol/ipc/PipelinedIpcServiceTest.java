@@ -0,0 +1,217 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.utils.Async;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PipelinedIpcServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Pipe requests;
+    private Pipe responses;
+    private BlockingQueue<JsonNode> receivedRequests;
+    private PipelinedIpcService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws IOException {
+        requests = Pipe.open();
+        responses = Pipe.open();
+        receivedRequests = new LinkedBlockingQueue<>();
+        service = new PipelinedIpcService(new PipeChannel(responses.source(), requests.sink()),
+                false, Async.sharedScheduler());
+        neow3j = Neow3j.build(service);
+        Thread node = new Thread(this::readRequests);
+        node.setDaemon(true);
+        node.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        service.close();
+        responses.sink().close();
+        requests.source().close();
+    }
+
+    @Test
+    public void testSend() throws Exception {
+        CompletableFuture<NeoBlockCount> response = neow3j.getBlockCount().sendAsync();
+        JsonNode request = nextRequest();
+        assertThat(request.get("method").asText(), is("getblockcount"));
+
+        respond("{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id") + ",\"result\":1000}\n");
+
+        assertThat(response.get(5, TimeUnit.SECONDS).getBlockIndex().intValue(), is(1000));
+    }
+
+    @Test
+    public void testPipelinedRequestsAnsweredOutOfOrder() throws Exception {
+        List<CompletableFuture<NeoBlockCount>> futures = new ArrayList<>();
+        List<JsonNode> sent = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(neow3j.getBlockCount().sendAsync());
+            sent.add(nextRequest());
+        }
+        assertThat(service.getPendingRequestCount(), is(3));
+
+        // Two responses in one write without delimiter and one split across writes.
+        respond(blockCount(sent.get(2), 3) + blockCount(sent.get(0), 1));
+        String last = blockCount(sent.get(1), 2);
+        respond(last.substring(0, 10));
+        respond(last.substring(10));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getBlockIndex().intValue(),
+                    is(i + 1));
+        }
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        Request<?, ?> first = neow3j.getBlockCount();
+        Request<?, ?> second = neow3j.getBlockCount();
+        BatchRequest batch = neow3j.newBatch();
+        batch.add(first);
+        batch.add(second);
+
+        CompletableFuture<BatchResponse> response = batch.sendAsync();
+        JsonNode request = nextRequest();
+        assertThat(request.isArray(), is(true));
+        respond("[" + blockCount(request.get(1), 2) + "," + blockCount(request.get(0), 1)
+                + "]");
+
+        List<?> responses = response.get(5, TimeUnit.SECONDS).getResponses();
+        assertThat(((NeoBlockCount) responses.get(0)).getBlockIndex().intValue(), is(1));
+        assertThat(((NeoBlockCount) responses.get(1)).getBlockIndex().intValue(), is(2));
+    }
+
+    @Test
+    public void testCloseFailsPendingRequests() throws Exception {
+        CompletableFuture<NeoBlockCount> response = neow3j.getBlockCount().sendAsync();
+        nextRequest();
+
+        service.close();
+
+        try {
+            response.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(ClientConnectionException.class)));
+        }
+        assertThat(service.isOpen(), is(false));
+    }
+
+    @Test
+    public void testFrameDecoder() throws IOException {
+        JsonFrameDecoder decoder = new JsonFrameDecoder();
+        List<String> frames = new ArrayList<>();
+        String input = " {\"a\":\"}\\\"{\",\"b\":[1,{}]}\n[{\"c\":\"ä\"}]{\"d\":";
+
+        decoder.decode(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)),
+                (bytes, length) -> frames.add(new String(bytes, 0, length,
+                        StandardCharsets.UTF_8)));
+        assertThat(frames.size(), is(2));
+        decoder.decode(ByteBuffer.wrap("1}".getBytes(StandardCharsets.UTF_8)),
+                (bytes, length) -> frames.add(new String(bytes, 0, length,
+                        StandardCharsets.UTF_8)));
+
+        assertThat(frames.get(0), is("{\"a\":\"}\\\"{\",\"b\":[1,{}]}"));
+        assertThat(frames.get(1), is("[{\"c\":\"ä\"}]"));
+        assertThat(frames.get(2), is("{\"d\":1}"));
+    }
+
+    private static String blockCount(JsonNode request, int count) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id") + ",\"result\":" + count + "}";
+    }
+
+    private JsonNode nextRequest() throws InterruptedException {
+        JsonNode request = receivedRequests.poll(5, TimeUnit.SECONDS);
+        if (request == null) {
+            fail("No request received.");
+        }
+        return request;
+    }
+
+    private void respond(String message) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            responses.sink().write(buffer);
+        }
+    }
+
+    private void readRequests() {
+        JsonFrameDecoder decoder = new JsonFrameDecoder();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        try {
+            while (requests.source().read(buffer) >= 0) {
+                buffer.flip();
+                decoder.decode(buffer, (bytes, length) ->
+                        receivedRequests.add(MAPPER.readTree(
+                                new String(bytes, 0, length, StandardCharsets.UTF_8))));
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            // The test is finished.
+        }
+    }
+
+    private static class PipeChannel implements ByteChannel {
+
+        private final Pipe.SourceChannel source;
+        private final Pipe.SinkChannel sink;
+
+        PipeChannel(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+            this.source = source;
+            this.sink = sink;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return source.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return sink.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return source.isOpen() && sink.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.RpcErrors;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MetricsCollectorTest {
+
+    private StubService service;
+    private MetricsCollector metrics;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        service = new StubService();
+        metrics = new MetricsCollector();
+        service.addListener(metrics);
+        neow3j = Neow3j.build(service);
+    }
+
+    @Test
+    public void testSingleRequest() throws IOException {
+        service.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}";
+
+        neow3j.getBlockCount().send();
+
+        MethodMetrics blockCount = metrics.getMetrics("getblockcount");
+        assertThat(blockCount.getCallCount(), is(1L));
+        assertThat(blockCount.getFailureCount(), is(0L));
+        assertThat(blockCount.getInFlight(), is(0));
+        assertThat(blockCount.getRequestBytes(), is((long) service.payloads.get(0).length()));
+        assertThat(blockCount.getResponseBytes(), is((long) service.response.length()));
+        assertThat(blockCount.getLatencies().getCount(), is(1L));
+        assertThat(blockCount.getErrorCodes().isEmpty(), is(true));
+        assertThat(service.getInFlightCount(), is(0));
+        assertThat(metrics.getMetrics("getblock"), is(nullValue()));
+    }
+
+    @Test
+    public void testErrorCodes() throws IOException {
+        service.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":"
+                + RpcErrors.INVALID_PARAMS + ",\"message\":\"Invalid params\"}}";
+
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        assertThat(metrics.getMetrics("getblockcount").getErrorCodes(),
+                is(Collections.singletonMap(RpcErrors.INVALID_PARAMS, 2L)));
+    }
+
+    @Test
+    public void testFailure() {
+        service.failure = new ClientConnectionException("connection refused");
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (IOException | ClientConnectionException e) {
+            // expected
+        }
+
+        MethodMetrics blockCount = metrics.getMetrics("getblockcount");
+        assertThat(blockCount.getCallCount(), is(1L));
+        assertThat(blockCount.getFailureCount(), is(1L));
+        assertThat(blockCount.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testBatch() throws IOException {
+        service.response = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"hash\"}]";
+        Request<?, ?> blockCount = neow3j.getBlockCount();
+        blockCount.setId(1);
+        Request<?, ?> bestBlockHash = neow3j.getBestBlockHash();
+        bestBlockHash.setId(2);
+        BatchRequest batch = neow3j.newBatch();
+        batch.add(blockCount);
+        batch.add(bestBlockHash);
+
+        batch.send();
+
+        assertThat(metrics.getMetrics(RequestEvent.BATCH).getCallCount(), is(1L));
+        assertThat(metrics.getMetrics("getblockcount"), is(nullValue()));
+    }
+
+    @Test
+    public void testEvent() throws IOException {
+        List<RequestEvent> events = new ArrayList<>();
+        service.addListener(events::add);
+        service.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}";
+
+        neow3j.getBlockCount().send();
+
+        RequestEvent event = events.get(0);
+        assertThat(event.getMethod(), is("getblockcount"));
+        assertThat(event.getRequestCount(), is(1));
+        assertThat(event.getInFlight(), is(1));
+        assertThat(event.getSerializationTime(), is(greaterThanOrEqualTo(0L)));
+        assertThat(event.getNetworkTime(), is(greaterThanOrEqualTo(0L)));
+        assertThat(event.getDeserializationTime(), is(greaterThanOrEqualTo(0L)));
+        assertThat(event.getTotalTime(), is(event.getSerializationTime()
+                + event.getNetworkTime() + event.getDeserializationTime()));
+        assertThat(event.isFailed(), is(false));
+    }
+
+    @Test
+    public void testRemoveListener() throws IOException {
+        service.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}";
+        service.removeListener(metrics);
+
+        neow3j.getBlockCount().send();
+
+        assertThat(metrics.getMetrics().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testListenersChangedWhileInFlight() throws IOException {
+        service.response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}";
+        MetricsCollector added = new MetricsCollector();
+        service.duringIO = () -> {
+            service.addListener(added);
+            service.removeListener(metrics);
+        };
+
+        neow3j.getBlockCount().send();
+
+        // Only the listeners that saw the start of the call see its completion.
+        assertThat(metrics.getMetrics("getblockcount").getCallCount(), is(1L));
+        assertThat(metrics.getMetrics("getblockcount").getInFlight(), is(0));
+        assertThat(added.getMetrics().isEmpty(), is(true));
+
+        service.duringIO = null;
+        neow3j.getBlockCount().send();
+
+        assertThat(added.getMetrics("getblockcount").getCallCount(), is(1L));
+        assertThat(added.getMetrics("getblockcount").getInFlight(), is(0));
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), is(1000L));
+        assertThat(histogram.getPercentile(0.5), is(greaterThanOrEqualTo(500L)));
+        assertThat(histogram.getPercentile(0.5), is(lessThanOrEqualTo(563L)));
+        assertThat(histogram.getPercentile(0.99), is(greaterThanOrEqualTo(990L)));
+        assertThat(histogram.getPercentile(0.99), is(lessThanOrEqualTo(1023L)));
+        assertThat(histogram.getPercentile(1), is(1023L));
+        assertThat(new LatencyHistogram().getPercentile(0.5), is(0L));
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 100, 1000, 123456789,
+                Long.MAX_VALUE}) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertThat(upperBound, is(greaterThanOrEqualTo(value)));
+            // The relative error is at most 12.5%.
+            assertThat((double) upperBound - value, is(lessThanOrEqualTo(value / 8.0)));
+        }
+        assertThat(LatencyHistogram.bucketOf(16),
+                is(greaterThan(LatencyHistogram.bucketOf(15))));
+    }
+
+    private static class StubService extends Service {
+
+        private final List<String> payloads = new ArrayList<>();
+        private String response;
+        private RuntimeException failure;
+        private Runnable duringIO;
+
+        StubService() {
+            super(false);
+        }
+
+        @Override
+        protected InputStream performIO(String payload) {
+            payloads.add(payload);
+            if (duringIO != null) {
+                duringIO.run();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.neow3j.protocol.rx;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class FileBlockCheckpointStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testLoadWithoutCheckpoint() throws IOException {
+        FileBlockCheckpointStore store = new FileBlockCheckpointStore(
+                temporaryFolder.getRoot().toPath().resolve("checkpoint"));
+
+        assertThat(store.load(), is(nullValue()));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("checkpoint");
+        new FileBlockCheckpointStore(file).save(BigInteger.valueOf(3_000_000));
+        new FileBlockCheckpointStore(file, false).save(BigInteger.valueOf(3_000_001));
+
+        assertThat(new FileBlockCheckpointStore(file).load(), is(BigInteger.valueOf(3_000_001)));
+        assertThat(Files.exists(file.resolveSibling("checkpoint.tmp")), is(false));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadCorruptedCheckpoint() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("checkpoint");
+        Files.write(file, "not a number".getBytes(StandardCharsets.UTF_8));
+
+        new FileBlockCheckpointStore(file).load();
+    }
+}
@@ -0,0 +1,284 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.BlockParameterName;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class JsonRpc2_0RxTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ScheduledExecutorService executorService;
+    private Neow3jService service;
+    private Neow3j neow3j;
+    private AtomicInteger inFlight;
+    private AtomicInteger maxInFlight;
+    private List<Integer> batchSizes;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newScheduledThreadPool(8);
+        service = mock(Neow3jService.class);
+        neow3j = Neow3j.build(service, 1000, executorService);
+        inFlight = new AtomicInteger();
+        maxInFlight = new AtomicInteger();
+        batchSizes = new ArrayList<>();
+        random = new Random(42);
+
+        // Completes every request after a random delay, so that responses arrive out of order.
+        doAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            return respondLater(() -> toNeoGetBlock(request));
+        }).when(service).sendAsync(any(Request.class), any());
+        doAnswer(invocation -> {
+            BatchRequest batchRequest = (BatchRequest) invocation.getArguments()[0];
+            synchronized (batchSizes) {
+                batchSizes.add(batchRequest.size());
+            }
+            return respondLater(() -> {
+                List<Response> responses = batchRequest.getRequests().stream()
+                        .map(JsonRpc2_0RxTest::toNeoGetBlock)
+                        .collect(Collectors.toList());
+                return new BatchResponse(batchRequest.getRequests(), responses);
+            });
+        }).when(service).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testParallelReplayEmitsBlocksInOrder() {
+        List<Long> indexes = replay(true, 4, 1);
+
+        assertThat(indexes, is(range(10, 110)));
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(4));
+        assertThat(batchSizes.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testParallelReplayInDescendingOrder() {
+        List<Long> indexes = replay(false, 4, 1);
+
+        List<Long> expected = range(10, 110);
+        Collections.reverse(expected);
+        assertThat(indexes, is(expected));
+    }
+
+    @Test
+    public void testParallelReplayWithBatches() {
+        List<Long> indexes = replay(true, 3, 7);
+
+        assertThat(indexes, is(range(10, 110)));
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(3));
+        // 101 blocks in batches of 7 leave 3 blocks for the last request, which is batched, too.
+        assertThat(batchSizes.size(), is(15));
+    }
+
+    @Test
+    public void testSubscriptionResumesAfterCheckpoint() throws Exception {
+        stubSend(120);
+        BlockCheckpointStore checkpointStore = new FileBlockCheckpointStore(
+                temporaryFolder.getRoot().toPath().resolve("checkpoint"));
+        checkpointStore.save(BigInteger.valueOf(104));
+
+        List<Long> indexes = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                BlockParameterName.EARLIEST, true, checkpointStore)
+                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex())
+                .take(3)
+                .toList()
+                .toBlocking()
+                .single();
+
+        assertThat(indexes, is(range(105, 107)));
+        assertThat(awaitCheckpoint(checkpointStore, 107), is(BigInteger.valueOf(107)));
+    }
+
+    @Test
+    public void testSubscriptionStartsWithStartBlockWithoutCheckpoint() throws Exception {
+        stubSend(120);
+        BlockCheckpointStore checkpointStore = new FileBlockCheckpointStore(
+                temporaryFolder.getRoot().toPath().resolve("checkpoint"));
+
+        List<Long> indexes = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                new BlockParameterIndex(0), true, checkpointStore)
+                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex())
+                .take(2)
+                .toList()
+                .toBlocking()
+                .single();
+
+        assertThat(indexes, is(range(0, 1)));
+        assertThat(awaitCheckpoint(checkpointStore, 1), is(BigInteger.ONE));
+    }
+
+    @Test
+    public void testSubscriptionResumesWithLatestBlock() throws Exception {
+        stubSend(120);
+        BlockCheckpointStore checkpointStore = new FileBlockCheckpointStore(
+                temporaryFolder.getRoot().toPath().resolve("checkpoint"));
+        checkpointStore.save(BigInteger.valueOf(118));
+
+        // No new blocks are polled, so the latest block 119 has to come from the catch-up.
+        List<Long> indexes = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                BlockParameterName.EARLIEST, true, checkpointStore)
+                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex())
+                .take(1)
+                .timeout(5, TimeUnit.SECONDS)
+                .toList()
+                .toBlocking()
+                .single();
+
+        assertThat(indexes, is(range(119, 119)));
+        assertThat(awaitCheckpoint(checkpointStore, 119), is(BigInteger.valueOf(119)));
+    }
+
+    @Test
+    public void testSubscriptionFailsOnErrorResponse() throws Exception {
+        doAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            if (request.getMethod().equals("getblockcount")) {
+                NeoBlockCount neoBlockCount = new NeoBlockCount();
+                neoBlockCount.setResult(BigInteger.valueOf(120));
+                return neoBlockCount;
+            }
+            if (request.getParams().get(0).equals(BigInteger.valueOf(106))) {
+                NeoGetBlock neoGetBlock = new NeoGetBlock();
+                neoGetBlock.setId(request.getId());
+                neoGetBlock.setError(new Response.Error(-100, "Unknown block"));
+                return neoGetBlock;
+            }
+            return toNeoGetBlock(request);
+        }).when(service).send(any(Request.class), any());
+        BlockCheckpointStore checkpointStore = new FileBlockCheckpointStore(
+                temporaryFolder.getRoot().toPath().resolve("checkpoint"));
+        checkpointStore.save(BigInteger.valueOf(104));
+        List<Long> indexes = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                    BlockParameterName.EARLIEST, true, checkpointStore)
+                    .map(neoGetBlock -> neoGetBlock.getBlock().getIndex())
+                    .doOnNext(indexes::add)
+                    .timeout(5, TimeUnit.SECONDS)
+                    .toBlocking()
+                    .last();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getMessage(), is("Failed to fetch block: Unknown block"));
+        }
+        assertThat(indexes, is(range(105, 105)));
+        assertThat(checkpointStore.load(), is(BigInteger.valueOf(105)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelReplayWithInvalidConcurrency() {
+        neow3j.replayBlocksObservable(
+                new BlockParameterIndex(0), new BlockParameterIndex(1), true, true, 0, 1);
+    }
+
+    private List<Long> replay(boolean ascending, int maxConcurrentRequests,
+            int blocksPerRequest) {
+        return neow3j.replayBlocksObservable(
+                new BlockParameterIndex(10), new BlockParameterIndex(110), true, ascending,
+                maxConcurrentRequests, blocksPerRequest)
+                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex())
+                .toList()
+                .toBlocking()
+                .single();
+    }
+
+    // The checkpoint of the last block is saved after take() already completed the subscriber.
+    private static BigInteger awaitCheckpoint(BlockCheckpointStore checkpointStore,
+            long expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        BigInteger checkpoint = checkpointStore.load();
+        while (!BigInteger.valueOf(expected).equals(checkpoint)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            checkpoint = checkpointStore.load();
+        }
+        return checkpoint;
+    }
+
+    private void stubSend(long blockCount) throws IOException {
+        doAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            if (request.getMethod().equals("getblockcount")) {
+                NeoBlockCount neoBlockCount = new NeoBlockCount();
+                neoBlockCount.setResult(BigInteger.valueOf(blockCount));
+                return neoBlockCount;
+            }
+            return toNeoGetBlock(request);
+        }).when(service).send(any(Request.class), any());
+    }
+
+    private <T> CompletableFuture<T> respondLater(Supplier<T> response) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        int delay;
+        synchronized (random) {
+            delay = random.nextInt(5);
+        }
+        executorService.schedule(() -> {
+            inFlight.decrementAndGet();
+            future.complete(response.get());
+        }, delay, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private static NeoGetBlock toNeoGetBlock(Request<?, ?> request) {
+        BigInteger index = (BigInteger) request.getParams().get(0);
+        NeoBlock block = new NeoBlock(null, 0, 0, null, null, 0, index.longValue(), null, null,
+                null, null, 0, null);
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setId(request.getId());
+        neoGetBlock.setResult(block);
+        return neoGetBlock;
+    }
+
+    private static List<Long> range(long start, long end) {
+        return LongStream.rangeClosed(start, end).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,316 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.NewBlockNotification;
+import io.neow3j.protocol.rx.JsonRpc2_0Rx;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Subscription;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class WebSocketServiceTest {
+
+    private StubServer server;
+    private WebSocketService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.start();
+        server.started.await(5, TimeUnit.SECONDS);
+
+        service = new WebSocketService(new WebSocketClient(
+                new URI("ws://localhost:" + server.getPort())), false);
+        service.connect();
+        neow3j = Neow3j.build(service);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        service.close();
+        server.stop();
+    }
+
+    @Test
+    public void testSend() throws IOException {
+        NeoBlockCount blockCount = neow3j.getBlockCount().send();
+
+        assertThat(blockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testResponsesAreMatchedById() throws Exception {
+        server.holdResponses = true;
+        Request<?, NeoBlockCount> first = neow3j.getBlockCount();
+        Request<?, NeoBlockCount> second = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> firstResult = first.sendAsync();
+        CompletableFuture<NeoBlockCount> secondResult = second.sendAsync();
+
+        // Answer the second request first.
+        server.awaitHeldResponses(2);
+        server.releaseHeldResponsesReversed();
+
+        assertThat(firstResult.get(5, TimeUnit.SECONDS).getId(), is(first.getId()));
+        assertThat(secondResult.get(5, TimeUnit.SECONDS).getId(), is(second.getId()));
+    }
+
+    @Test
+    public void testSendBatch() throws IOException {
+        Request<?, NeoBlockCount> first = neow3j.getBlockCount();
+        Request<?, NeoBlockCount> second = neow3j.getBlockCount();
+
+        BatchResponse batchResponse = neow3j.newBatch().add(first).add(second).send();
+
+        assertThat(batchResponse.getResponse(first).getId(), is(first.getId()));
+        assertThat(batchResponse.getResponse(second).getId(), is(second.getId()));
+    }
+
+    @Test
+    public void testSubscribe() throws Exception {
+        BlockingQueue<NewBlockNotification> notifications = new LinkedBlockingQueue<>();
+        Subscription subscription = neow3j.newBlockNotifications().subscribe(notifications::add);
+
+        NewBlockNotification notification = notifications.poll(5, TimeUnit.SECONDS);
+        assertThat(notification.getParams().getSubsciption(), is("0x2a"));
+        assertThat(notification.getParams().getResult().getIndex(), is(100L));
+        assertThat(notifications.poll(5, TimeUnit.SECONDS).getParams().getResult().getIndex(),
+                is(101L));
+
+        subscription.unsubscribe();
+        String unsubscribe = server.unsubscribeRequests.poll(5, TimeUnit.SECONDS);
+        assertThat(unsubscribe, is("0x2a"));
+    }
+
+    @Test
+    public void testPendingRequestFailsOnClose() throws Exception {
+        server.holdResponses = true;
+        CompletableFuture<NeoBlockCount> result = neow3j.getBlockCount().sendAsync();
+        server.awaitHeldResponses(1);
+
+        service.close();
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ClientConnectionException.class));
+        }
+    }
+
+    @Test
+    public void testRequestTimeout() throws Exception {
+        server.holdResponses = true;
+        service.setRequestTimeout(50);
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getMessage().contains("timed out"), is(true));
+        }
+    }
+
+    // Without the fix, the test hangs.
+    @Test(timeout = 10000)
+    public void testPollingWithLostResponseOnSingleThreadScheduler() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        WebSocketService pollingService = new WebSocketService(new WebSocketClient(
+                new URI("ws://localhost:" + server.getPort())), false, scheduler);
+        try {
+            pollingService.connect();
+            pollingService.setRequestTimeout(100);
+            Neow3j pollingNeow3j = Neow3j.build(pollingService, 50, scheduler);
+            BlockingQueue<BigInteger> blocks = new LinkedBlockingQueue<>();
+            server.lostResponses.set(1);
+
+            Subscription subscription = new JsonRpc2_0Rx(pollingNeow3j, scheduler)
+                    .neoBlockObservable(50)
+                    .subscribe(blocks::add);
+            // The timeout of the lost poll must not be queued behind the poll itself.
+            server.awaitAnsweredBlockCounts(1);
+            server.blockCount.set(1236);
+
+            assertThat(blocks.poll(5, TimeUnit.SECONDS), is(BigInteger.valueOf(1234)));
+            assertThat(blocks.poll(5, TimeUnit.SECONDS), is(BigInteger.valueOf(1235)));
+            subscription.unsubscribe();
+        } finally {
+            pollingService.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Without the fix, the test hangs.
+    @Test(timeout = 10000)
+    public void testSendTimesOutWhileSchedulerIsBusy() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketService busyService = new WebSocketService(new WebSocketClient(
+                new URI("ws://localhost:" + server.getPort())), false, scheduler);
+        try {
+            busyService.connect();
+            busyService.setRequestTimeout(100);
+            server.holdResponses = true;
+            // Delays the timeout of the request.
+            scheduler.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            Neow3j.build(busyService).getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getMessage().contains("Timed out"), is(true));
+        } finally {
+            release.countDown();
+            busyService.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static class StubServer extends WebSocketServer {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final List<String> heldResponses = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<String> unsubscribeRequests = new LinkedBlockingQueue<>();
+        private volatile WebSocket connection;
+        private volatile boolean holdResponses;
+        private final AtomicInteger lostResponses = new AtomicInteger();
+        private final AtomicInteger answeredBlockCounts = new AtomicInteger();
+        private final AtomicLong blockCount = new AtomicLong(1234);
+
+        private StubServer() {
+            super(new InetSocketAddress("localhost", 0));
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+            connection = conn;
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            try {
+                JsonNode request = objectMapper.readTree(message);
+                if (request.isArray()) {
+                    StringBuilder response = new StringBuilder("[");
+                    // Answer the requests of a batch in reverse order.
+                    for (int i = request.size() - 1; i >= 0; i--) {
+                        response.append(respond(request.get(i)));
+                        response.append(i > 0 ? "," : "]");
+                    }
+                    conn.send(response.toString());
+                    return;
+                }
+                String method = request.get("method").asText();
+                if (method.equals("subscribe")) {
+                    conn.send(respond(request));
+                    conn.send(blockNotification(100));
+                    conn.send(blockNotification(101));
+                } else if (method.equals("unsubscribe")) {
+                    unsubscribeRequests.add(request.get("params").get(0).asText());
+                    conn.send(respond(request));
+                } else if (holdResponses) {
+                    heldResponses.add(respond(request));
+                } else if (lostResponses.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+                    // The response is lost.
+                } else {
+                    if (method.equals("getblockcount")) {
+                        answeredBlockCounts.incrementAndGet();
+                    }
+                    conn.send(respond(request));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private String respond(JsonNode request) {
+            String method = request.get("method").asText();
+            String result;
+            if (method.equals("subscribe")) {
+                result = "\"0x2a\"";
+            } else if (method.equals("unsubscribe")) {
+                result = "true";
+            } else {
+                result = Long.toString(blockCount.get());
+            }
+            return "{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id").asLong()
+                    + ",\"result\":" + result + "}";
+        }
+
+        private static String blockNotification(long index) {
+            return "{\"jsonrpc\":\"2.0\",\"method\":\"block\",\"params\":"
+                    + "{\"subscription\":\"0x2a\",\"result\":{\"index\":" + index + "}}}";
+        }
+
+        private void awaitHeldResponses(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (heldResponses.size() < count && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        }
+
+        private void awaitAnsweredBlockCounts(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (answeredBlockCounts.get() < count && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        }
+
+        private void releaseHeldResponsesReversed() {
+            for (int i = heldResponses.size() - 1; i >= 0; i--) {
+                connection.send(heldResponses.get(i));
+            }
+            heldResponses.clear();
+        }
+    }
+}
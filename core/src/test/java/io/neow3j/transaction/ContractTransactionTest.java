@@ -1,9 +1,11 @@
 package io.neow3j.transaction;
 
+import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.Sign;
 import io.neow3j.crypto.Sign.SignatureData;
 import io.neow3j.crypto.WIF;
+import io.neow3j.crypto.WitnessVerifier;
 import io.neow3j.crypto.transaction.RawInvocationScript;
 import io.neow3j.crypto.transaction.RawScript;
 import io.neow3j.crypto.transaction.RawTransaction;
@@ -26,7 +28,9 @@ import java.util.List;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class ContractTransactionTest {
 
@@ -150,6 +154,45 @@ public class ContractTransactionTest {
         );
     }
 
+    @Test
+    public void verifyWitnesses() {
+        ECKeyPair keyPair1 = ECKeyPair.create(WIF.getPrivateKeyFromWIF("Kx9xMQVipBYAAjSxYEoZVatdVQfhYHbMFWSYPinSgAVd1d4Qgbpf"));
+        ECKeyPair keyPair2 = ECKeyPair.create(WIF.getPrivateKeyFromWIF("KzbKux44feMetfqdA5Cze9FNAkydRmphoFKnK5TGDdEQ8Nv1poXV"));
+        ECKeyPair keyPair3 = ECKeyPair.create(WIF.getPrivateKeyFromWIF("L3hxLFUsNDmkzW6QoLH2PGc2DqGG5Kj1gCVwmr7duWJ9FReYWnjU"));
+
+        RawTransaction singleSig = new ContractTransaction.Builder()
+                .input(new RawTransactionInput("65827ac7308f401dfe110555b41b967e3c1177134bd977a21ca036e703ab05d4", 0))
+                .output(new RawTransactionOutput(NEOAsset.HASH_ID, "10.0", "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y"))
+                .build();
+        singleSig.addScript(RawScript.createWitness(singleSig.toArrayWithoutScripts(), keyPair1));
+
+        RawTransaction multiSig = new ContractTransaction.Builder()
+                .input(new RawTransactionInput("9feac4774eb0f01ab5d6817c713144b7c020b98f257c30b1105062d434e6f254", 0))
+                .output(new RawTransactionOutput(NEOAsset.HASH_ID, "90.0", "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ"))
+                .build();
+        byte[] multiSigArray = multiSig.toArrayWithoutScripts();
+        RawVerificationScript verificationScript = RawVerificationScript.fromPublicKeys(2,
+                Arrays.asList(keyPair1.getPublicKey(), keyPair2.getPublicKey(), keyPair3.getPublicKey()));
+        List<SignatureData> signatures = new ArrayList<>();
+        signatures.add(Sign.signMessage(multiSigArray, keyPair1));
+        signatures.add(Sign.signMessage(multiSigArray, keyPair3));
+        multiSig.addScript(RawScript.createMultiSigWitness(signatures, verificationScript));
+
+        RawTransaction unsigned = new ContractTransaction.Builder()
+                .input(new RawTransactionInput("9feac4774eb0f01ab5d6817c713144b7c020b98f257c30b1105062d434e6f254", 1))
+                .build();
+
+        WitnessVerifier verifier = new WitnessVerifier();
+        assertTrue(verifier.verify(singleSig));
+        assertTrue(verifier.verify(multiSig));
+        assertEquals(Arrays.asList(true, true, false),
+                verifier.verifyAll(Arrays.asList(singleSig, multiSig, unsigned)));
+
+        // Changing the transaction invalidates the signatures.
+        multiSig.getOutputs().remove(0);
+        assertFalse(verifier.verify(multiSig));
+    }
+
     @Test
     public void deserialize_CheckSig() throws IllegalAccessException, InstantiationException {
         String rawTransaction = "80000001d405ab03e736a01ca277d94b1377113c7e961bb4550511fe1d408f30c77a82650000029b7cffdaa674beae0f930ebe6085af9093e5fe56b34a5c220ccdcf6efc336fc500ca9a3b0000000023ba2703c53263e8d6e522dc32203339dcd8eee99b7cffdaa674beae0f930ebe6085af9093e5fe56b34a5c220ccdcf6efc336fc5001a711802000000295f83f83fc439f56e6e1fb062d89c6f538263d70141403711e366fc99e77a110b6c96b5f8828ef956a6d5cfa5cb63273419149011b0f30dc5458faa59e4867d0ac7537e324c98124bb691feca5c5ddf6ed20f4adb778223210265bf906bf385fbf3f777832e55a87991bcfbe19b097fb7c5ca2e4025a4d5e5d6ac";
@@ -211,6 +254,31 @@ public class ContractTransactionTest {
         assertEquals(expectedTxId, tx.getTxId());
     }
 
+    @Test
+    public void testGetTxIdAfterChange() {
+        RawTransactionInput in = new RawTransactionInput("7aadf91ca8ac1e2c323c025a7e492bee2dd90c783b86ebfc3b18db66b530a76d", 0);
+        RawTransactionOutput out = new RawTransactionOutput("c56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b", "100000000", "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y");
+        ContractTransaction tx = new ContractTransaction.Builder().input(in).build();
+        String txIdWithoutOutput = tx.getTxId();
+        byte[] unsigned = tx.toArrayWithoutScripts();
+
+        tx.getOutputs().add(out);
+        assertEquals("dc44739e2f97743f2ed258988327560e2185ed13eec0097938eef4aea584bf04", tx.getTxId());
+
+        tx.getOutputs().removeIf(o -> true);
+        assertEquals(txIdWithoutOutput, tx.getTxId());
+        assertArrayEquals(unsigned, tx.toArrayWithoutScripts());
+
+        // Witnesses are not part of the transaction id.
+        byte[] m = Numeric.hexStringToByteArray("01a402d8");
+        tx.addScript(new RawScript(m, ScriptHash.fromScript(m)));
+        assertEquals(txIdWithoutOutput, tx.getTxId());
+
+        // The returned array is a copy of the cached one.
+        tx.toArrayWithoutScripts()[0] = 0;
+        assertArrayEquals(unsigned, tx.toArrayWithoutScripts());
+    }
+
 
     @Test
     public void serialize_without_scripts() {
@@ -227,6 +295,7 @@ public class ContractTransactionTest {
                 "c439f56e6e1fb062d89c6f538263d700";
 
         assertEquals(expectedTx, Numeric.toHexStringNoPrefix(tx));
+        assertEquals(tx.length, tUnsigned.getSize());
 
     }
 
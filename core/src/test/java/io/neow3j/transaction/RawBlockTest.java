@@ -0,0 +1,142 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.transaction.RawBlockHeader;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RawBlockTest {
+
+    private static final String PREV_HASH =
+            "d42561e3d30e15be6400b6df2f328e02d2bf6354c41dce433bc57687c82144bf";
+    private static final String MERKLE_ROOT =
+            "803ff4abe3ea6533bcc0be574efa02f83ae8fdc651c879056b0d9be336c01bf4";
+
+    private static final String UNSIGNED_HEADER = ""
+            + "00000000"                                                            // version
+            + Numeric.toHexStringNoPrefix(reverse(PREV_HASH))
+            + Numeric.toHexStringNoPrefix(reverse(MERKLE_ROOT))
+            + "65fc8857"                                                            // timestamp
+            + "01000000"                                                            // index
+            + "1dac2b7c00000000"                                                    // consensus data
+            + "59e75d652b5d3827bf04c165bbe9ef95cca4bf55";                           // next consensus
+
+    private static final String WITNESS = "01" + "0151" + "0151";
+
+    private static final String MINER_TX = "0000" + "78563412" + "00000000";
+
+    private static final String INVOCATION_TX_V0 = "d100" + "0151" + "00000000";
+
+    private static final String INVOCATION_TX_V1 = "d1013d1423ba2703c53263e8d6e522dc32203339dc"
+            + "d8eee9076e656f2e636f6d52c108726567697374657267d42cf7a931ce3c46550fd90de482583fc5ea"
+            + "701a00e1f50500000000012023ba2703c53263e8d6e522dc32203339dcd8eee90141ebfe0b717ca2e1"
+            + "a14da323c630ffa16643586e46aca00d670e6fadb72b8ed2000001e72d286979ee6cb1b7e65dfddfb2"
+            + "e384100b8d148e7758de42e4168b71792c60b80548cd0900000023ba2703c53263e8d6e522dc322033"
+            + "39dcd8eee9" + "00";
+
+    private static final String BLOCK = UNSIGNED_HEADER + WITNESS
+            + "03" + MINER_TX + INVOCATION_TX_V0 + INVOCATION_TX_V1;
+
+    @Test
+    public void deserialize_block() throws IOException {
+        RawBlock block = getRawBlock(BLOCK).toRawBlock();
+
+        assertThat(block.getVersion(), is(0L));
+        assertThat(block.getPrevHash(), is(PREV_HASH));
+        assertThat(block.getMerkleRoot(), is(MERKLE_ROOT));
+        assertThat(block.getTimestamp(), is(0x5788fc65L));
+        assertThat(block.getIndex(), is(1L));
+        assertThat(block.getConsensusData(), is(0x7c2bac1dL));
+        assertThat(block.getNextConsensus().toString(),
+                is("55bfa4cc95efe9bb65c104bf27385d2b655de759"));
+        assertThat(block.getTransactions().size(), is(3));
+
+        RawTransaction minerTx = block.getTransactions().get(0);
+        assertThat(minerTx, instanceOf(MinerTransaction.class));
+        assertThat(((MinerTransaction) minerTx).getNonce(), is(0x12345678L));
+
+        InvocationTransaction invocationTxV0 =
+                (InvocationTransaction) block.getTransactions().get(1);
+        assertThat(invocationTxV0.getSystemFee(), is(BigDecimal.ZERO));
+        assertThat(invocationTxV0.getContractScript(), is(new byte[]{0x51}));
+
+        InvocationTransaction invocationTxV1 =
+                (InvocationTransaction) block.getTransactions().get(2);
+        assertThat(invocationTxV1.getSystemFee().compareTo(BigDecimal.ONE), is(0));
+        assertThat(invocationTxV1.getOutputs().size(), is(1));
+    }
+
+    @Test
+    public void serialize_block() throws IOException {
+        RawBlock block = getRawBlock(BLOCK).toRawBlock();
+
+        assertThat(Numeric.toHexStringNoPrefix(block.toArray()), is(BLOCK));
+    }
+
+    @Test
+    public void block_size() throws IOException {
+        RawBlock block = getRawBlock(BLOCK).toRawBlock();
+
+        assertThat(block.getSize(), is(BLOCK.length() / 2));
+        for (RawTransaction tx : block.getTransactions()) {
+            assertThat(tx.getSize(), is(tx.toArray().length));
+        }
+        RawBlockHeader header = getRawBlock(UNSIGNED_HEADER + WITNESS + "00").toRawBlockHeader();
+        assertThat(header.getSize(), is(header.toArray().length));
+    }
+
+    @Test
+    public void block_hash() throws IOException {
+        RawBlock block = getRawBlock(BLOCK).toRawBlock();
+
+        byte[] hash = Hash.sha256(Hash.sha256(Numeric.hexStringToByteArray(UNSIGNED_HEADER)));
+        assertThat(block.getHash(), is(Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash))));
+    }
+
+    @Test
+    public void deserialize_block_header() throws IOException {
+        String header = UNSIGNED_HEADER + WITNESS + "00";
+
+        RawBlockHeader blockHeader = getRawBlock(header).toRawBlockHeader();
+
+        assertThat(blockHeader.getIndex(), is(1L));
+        assertThat(blockHeader.getHash(), is(getRawBlock(BLOCK).toRawBlock().getHash()));
+        assertThat(Numeric.toHexStringNoPrefix(blockHeader.toArray()), is(header));
+    }
+
+    @Test(expected = IOException.class)
+    public void deserialize_block_with_unsupported_transaction() throws IOException {
+        getRawBlock(UNSIGNED_HEADER + WITNESS + "01" + "1200" + "00000000").toRawBlock();
+    }
+
+    @Test
+    public void deserialize_transaction() throws IOException {
+        RawTransaction tx = TransactionDeserializer.deserialize(
+                Numeric.hexStringToByteArray(INVOCATION_TX_V1));
+
+        assertThat(tx, instanceOf(InvocationTransaction.class));
+        assertThat(Numeric.toHexStringNoPrefix(tx.toArray()), is(INVOCATION_TX_V1));
+    }
+
+    private static NeoGetRawBlock getRawBlock(String hex) {
+        NeoGetRawBlock neoGetRawBlock = new NeoGetRawBlock();
+        neoGetRawBlock.setResult(hex);
+        return neoGetRawBlock;
+    }
+
+    private static byte[] reverse(String hash) {
+        byte[] bytes = Numeric.hexStringToByteArray(hash);
+        return ArrayUtils.reverseArray(Arrays.copyOf(bytes, bytes.length));
+    }
+}
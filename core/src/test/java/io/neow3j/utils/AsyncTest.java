@@ -2,10 +2,20 @@ package io.neow3j.utils;
 
 import org.junit.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.fail;
 
 public class AsyncTest {
 
@@ -24,4 +34,120 @@ public class AsyncTest {
         }).get();
     }
 
+    @Test
+    public void testBoundedRunsOnCallerWhenSaturated() throws Exception {
+        ExecutorService executor = AsyncExecutors.bounded(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Async.run(() -> release.await(10, TimeUnit.SECONDS), executor);
+            Async.run(() -> "queued", executor);
+
+            String thread = Async.run(() -> Thread.currentThread().getName(), executor).get();
+
+            assertThat(thread, is(Thread.currentThread().getName()));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedWithAbortPolicy() throws Exception {
+        ExecutorService executor = AsyncExecutors.bounded(1, 1,
+                new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Async.run(() -> release.await(10, TimeUnit.SECONDS), executor);
+            CompletableFuture<String> queued = Async.run(() -> "queued", executor);
+            CompletableFuture<String> rejected = Async.run(() -> "rejected", executor);
+
+            try {
+                rejected.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), is(instanceOf(RejectedExecutionException.class)));
+            }
+            release.countDown();
+            assertThat(queued.get(), is("queued"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedThreadsAreDaemons() throws Exception {
+        ExecutorService executor = AsyncExecutors.bounded(2, 10);
+        try {
+            Thread thread = Async.run(Thread::currentThread, executor).get();
+
+            assertThat(thread.isDaemon(), is(true));
+            assertThat(thread.getName(), startsWith("neow3j-async-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedWithoutThreads() {
+        AsyncExecutors.bounded(0, 10);
+    }
+
+    @Test
+    public void testVirtualThreadPerTask() throws Exception {
+        if (!AsyncExecutors.isVirtualThreadSupported()) {
+            try {
+                AsyncExecutors.virtualThreadPerTask();
+                fail();
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            return;
+        }
+        ExecutorService executor = AsyncExecutors.virtualThreadPerTask();
+        try {
+            assertThat(Async.run(() -> "virtual", executor).get(), is("virtual"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskOrFallback() {
+        ExecutorService fallback = AsyncExecutors.bounded(1, 1);
+        ExecutorService executor = AsyncExecutors.virtualThreadPerTaskOr(fallback);
+
+        assertThat(executor == fallback, is(!AsyncExecutors.isVirtualThreadSupported()));
+        executor.shutdown();
+        fallback.shutdown();
+    }
+
+    @Test
+    public void testSetDefaultExecutor() throws Exception {
+        ExecutorService previous = Async.getDefaultExecutor();
+        ExecutorService executor = AsyncExecutors.bounded(1, 10);
+        try {
+            Async.setDefaultExecutor(executor);
+
+            assertThat(Async.getDefaultExecutor(), is(sameInstance(executor)));
+            assertThat(Async.run(() -> Thread.currentThread().getName()).get(),
+                    startsWith("neow3j-async-"));
+        } finally {
+            Async.setDefaultExecutor(previous);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSharedScheduler() throws Exception {
+        assertThat(Async.sharedScheduler(), is(sameInstance(Async.sharedScheduler())));
+        assertThat(Async.sharedScheduler().isShutdown(), is(false));
+        // Scheduled tasks keep the JVM running, idle threads do not.
+        assertThat(Async.sharedScheduler()
+                .schedule(() -> Thread.currentThread().isDaemon(), 0, TimeUnit.MILLISECONDS)
+                .get(5, TimeUnit.SECONDS), is(false));
+        assertThat(((ThreadPoolExecutor) Async.sharedScheduler()).allowsCoreThreadTimeOut(),
+                is(true));
+    }
+
 }
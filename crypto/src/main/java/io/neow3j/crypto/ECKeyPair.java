@@ -28,12 +28,19 @@ import static io.neow3j.crypto.SecurityProviderChecker.addBouncyCastle;
 
 
 /**
- * Elliptic Curve SECP-256r1 generated key pair.
+ * <p>Elliptic Curve SECP-256r1 generated key pair.</p>
+ * <br>
+ * <p>Instances are thread-safe. The key parameters needed for signing are created once per key
+ * pair. A new signer is created for every signature, so that no signer keeps state derived from
+ * the private key once the key pair is discarded.</p>
  */
 public class ECKeyPair {
+
     private final BigInteger privateKey;
     private final BigInteger publicKey;
 
+    private volatile ECPrivateKeyParameters privateKeyParameters;
+
     static {
         addBouncyCastle();
     }
@@ -69,12 +76,21 @@ public class ECKeyPair {
      * @return A raw {@link BigInteger} array with the signature
      */
     public BigInteger[] sign(byte[] transactionHash) {
+        // The deterministic k calculator does not need a SecureRandom.
         ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-        ECPrivateKeyParameters privKey = new ECPrivateKeyParameters(privateKey, NeoConstants.CURVE);
-        signer.init(true, privKey);
+        signer.init(true, getPrivateKeyParameters());
         return signer.generateSignature(transactionHash);
     }
 
+    private ECPrivateKeyParameters getPrivateKeyParameters() {
+        ECPrivateKeyParameters parameters = this.privateKeyParameters;
+        if (parameters == null) {
+            parameters = new ECPrivateKeyParameters(privateKey, NeoConstants.CURVE);
+            this.privateKeyParameters = parameters;
+        }
+        return parameters;
+    }
+
     /**
      * Sign a hash with the private key of this key pair.
      *
@@ -88,10 +104,12 @@ public class ECKeyPair {
     }
 
     /**
-     * Sign a hash with the private key of this key pair.
+     * Sign a hash with the private key of this key pair. In contrast to
+     * {@link Sign#signMessage(byte[], ECKeyPair, boolean)} no recovery id is computed.
      *
      * @param transactionHash the hash to sign
-     * @return A byte array with the canonicalized signature
+     * @return A byte array with the canonicalized signature, i.e. the 32 bytes of r followed by
+     * the 32 bytes of s
      */
     public byte[] signAndGetArrayBytes(byte[] transactionHash) {
         BigInteger[] components = sign(transactionHash);
@@ -155,7 +173,7 @@ public class ECKeyPair {
                 Numeric.toBytesPadded(getPrivateKey(), PRIVATE_KEY_SIZE),
                 new byte[]{(byte) 0x01}
         );
-        byte[] checksum = Hash.sha256(Hash.sha256(data, 0, data.length));
+        byte[] checksum = Hash.hash256(data);
         byte[] first4Bytes = Arrays.copyOfRange(checksum, 0, 4);
         data = ArrayUtils.concatenate(data, first4Bytes);
         String wif = Base58.encode(data);
@@ -0,0 +1,284 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.crypto.transaction.RawScript;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.crypto.transaction.RawVerificationScript;
+import io.neow3j.utils.Keys;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Collects the signatures of a multi-signature witness in parallel.</p>
+ * <br>
+ * <p>A signer is registered for each public key of the verification script that can sign,
+ * either with its {@link ECKeyPair} or with a {@link Signer} callback, e.g. for a key held by
+ * a hardware security module or another party. When signing, all signers are started at the
+ * same time and the witness is created as soon as the signing threshold is reached. The
+ * signatures are put in the order of their public keys in the verification script, as required
+ * by the NEO VM. Signers that have not started by then are skipped and the signatures of
+ * signers that are still running are ignored.</p>
+ * <br>
+ * <p>The signatures returned by {@link Signer} callbacks are verified before they are used, so
+ * that a faulty signer counts as failed instead of invalidating the witness. If too many
+ * signers fail to reach the threshold, signing fails with an {@link IllegalStateException}.</p>
+ * <br>
+ * <p>Registering signers is not thread-safe. Once they are registered, the coordinator can
+ * sign any number of messages concurrently.</p>
+ */
+public class MultiSigCoordinator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MultiSigCoordinator.class);
+
+    private final RawVerificationScript verificationScript;
+    private final int signingThreshold;
+    private final List<byte[]> publicKeys = new ArrayList<>();
+    private final Executor executor;
+
+    // Indexed like the public keys in the verification script.
+    private final Signer[] signers;
+    private final boolean[] trusted;
+
+    /**
+     * A callback that signs a message with the private key of one of the public keys.
+     */
+    @FunctionalInterface
+    public interface Signer {
+
+        /**
+         * Signs the given message. Like {@link Sign#signMessage(byte[], ECKeyPair)}, the
+         * signature is created for the SHA-256 hash of the message.
+         *
+         * @param message the message, e.g. the serialization of a transaction without scripts.
+         * @return the signature.
+         * @throws IOException if the signature could not be obtained.
+         */
+        SignatureData sign(byte[] message) throws IOException;
+    }
+
+    /**
+     * Creates a coordinator that runs the signers in the common fork join pool.
+     *
+     * @param verificationScript the multi-signature verification script.
+     * @see #MultiSigCoordinator(RawVerificationScript, Executor)
+     */
+    public MultiSigCoordinator(RawVerificationScript verificationScript) {
+        this(verificationScript, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a coordinator that runs the signers with the given executor. Use an executor with
+     * a thread per signer if the {@link Signer} callbacks block, e.g. on network requests.
+     *
+     * @param verificationScript the multi-signature verification script.
+     * @param executor           the executor that runs the signers.
+     */
+    public MultiSigCoordinator(RawVerificationScript verificationScript, Executor executor) {
+        try {
+            this.signingThreshold = WitnessVerifier.readPublicKeys(
+                    verificationScript.getScript(), publicKeys);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Not a signature verification script.", e);
+        }
+        this.verificationScript = verificationScript;
+        this.executor = executor;
+        this.signers = new Signer[publicKeys.size()];
+        this.trusted = new boolean[publicKeys.size()];
+    }
+
+    /**
+     * Adds a key pair that signs for its public key.
+     *
+     * @param keyPair the key pair.
+     * @return this coordinator.
+     * @throws IllegalArgumentException if the public key is not part of the verification script.
+     */
+    public MultiSigCoordinator addKeyPair(ECKeyPair keyPair) {
+        int index = indexOf(Keys.publicKeyIntegerToByteArray(keyPair.getPublicKey()));
+        signers[index] = message -> SignatureData.fromByteArray(
+                Sign.signMessageToBytes(message, keyPair));
+        trusted[index] = true;
+        return this;
+    }
+
+    /**
+     * Adds a signer for the given public key.
+     *
+     * @param publicKey the encoded public key.
+     * @param signer    the signer.
+     * @return this coordinator.
+     * @throws IllegalArgumentException if the public key is not part of the verification script.
+     */
+    public MultiSigCoordinator addSigner(byte[] publicKey, Signer signer) {
+        int index = indexOf(publicKey);
+        signers[index] = signer;
+        trusted[index] = false;
+        return this;
+    }
+
+    private int indexOf(byte[] publicKey) {
+        for (int i = 0; i < publicKeys.size(); i++) {
+            if (Arrays.equals(publicKeys.get(i), publicKey)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("The public key is not part of the verification " +
+                "script.");
+    }
+
+    /**
+     * Collects the signatures for the given transaction.
+     *
+     * @param transaction the transaction.
+     * @return the witness.
+     * @throws IllegalStateException if not enough signatures could be collected.
+     * @see #sign(byte[])
+     */
+    public RawScript sign(RawTransaction transaction) {
+        return sign(transaction.toArrayWithoutScripts());
+    }
+
+    /**
+     * Collects the signatures for the given message and waits until the signing threshold is
+     * reached.
+     *
+     * @param message the message, e.g. the serialization of a transaction without scripts.
+     * @return the witness.
+     * @throws IllegalStateException if not enough signatures could be collected.
+     */
+    public RawScript sign(byte[] message) {
+        try {
+            return signAsync(message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Collects the signatures for the given message.
+     *
+     * @param message the message, e.g. the serialization of a transaction without scripts.
+     * @return the witness. It completes with an {@link IllegalStateException} if not enough
+     * signatures could be collected.
+     */
+    public CompletableFuture<RawScript> signAsync(byte[] message) {
+        Round round = new Round(message);
+        int signerCount = 0;
+        for (Signer signer : signers) {
+            if (signer != null) {
+                signerCount++;
+            }
+        }
+        if (signerCount < signingThreshold) {
+            round.result.completeExceptionally(new IllegalStateException("Only " + signerCount
+                    + " signers were added for a signing threshold of " + signingThreshold
+                    + "."));
+            return round.result;
+        }
+        round.remaining = signerCount;
+        for (int i = 0; i < signers.length; i++) {
+            if (signers[i] != null) {
+                int index = i;
+                executor.execute(() -> round.run(index));
+            }
+        }
+        return round.result;
+    }
+
+    /**
+     * The state of collecting the signatures for one message.
+     */
+    private class Round {
+
+        private final byte[] message;
+        private final CompletableFuture<RawScript> result = new CompletableFuture<>();
+
+        // Guarded by this.
+        private final SignatureData[] signatures = new SignatureData[signers.length];
+        private int collected;
+        private int remaining;
+        private Exception failure;
+
+        private Round(byte[] message) {
+            this.message = message;
+        }
+
+        private void run(int index) {
+            if (result.isDone()) {
+                return;
+            }
+            SignatureData signature;
+            try {
+                signature = signers[index].sign(message);
+                if (!trusted[index] && !isValid(index, signature)) {
+                    throw new IllegalStateException("The signer returned an invalid signature.");
+                }
+            } catch (Exception e) {
+                if (!result.isDone()) {
+                    LOG.warn("Failed to get the signature of a multi-signature witness.", e);
+                }
+                onFailure(e);
+                return;
+            }
+            onSignature(index, signature);
+        }
+
+        private boolean isValid(int index, SignatureData signature) {
+            byte[] bytes = signature.getConcatenated();
+            ECPublicKeyParameters publicKey = Sign.decodePublicKey(publicKeys.get(index));
+            return Sign.verifySignature(Hash.sha256(message), bytes, publicKey);
+        }
+
+        private void onSignature(int index, SignatureData signature) {
+            List<SignatureData> ordered;
+            synchronized (this) {
+                remaining--;
+                if (collected == signingThreshold) {
+                    return;
+                }
+                signatures[index] = signature;
+                if (++collected < signingThreshold) {
+                    return;
+                }
+                ordered = new ArrayList<>(signingThreshold);
+                for (SignatureData s : signatures) {
+                    if (s != null) {
+                        ordered.add(s);
+                    }
+                }
+            }
+            result.complete(RawScript.createMultiSigWitness(signingThreshold, ordered,
+                    verificationScript));
+        }
+
+        private void onFailure(Exception e) {
+            int collectedSignatures;
+            synchronized (this) {
+                remaining--;
+                if (failure == null) {
+                    failure = e;
+                }
+                if (collected == signingThreshold || collected + remaining >= signingThreshold) {
+                    return;
+                }
+                collectedSignatures = collected;
+            }
+            result.completeExceptionally(new IllegalStateException("Only " + collectedSignatures
+                    + " of " + signingThreshold + " required signatures could be collected.",
+                    failure));
+        }
+    }
+}
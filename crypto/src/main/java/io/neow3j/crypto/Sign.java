@@ -6,9 +6,12 @@ import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Keys;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
 import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
 import org.bouncycastle.math.ec.custom.sec.SecP256R1Curve;
 
 import java.math.BigInteger;
@@ -30,10 +33,57 @@ public class Sign {
 
     private static final int LOWER_REAL_V = 27;
 
+    // Verifying signers are not thread-safe, but can be initialized with another key before
+    // every verification.
+    private static final ThreadLocal<ECDSASigner> VERIFIER = ThreadLocal.withInitial(
+            ECDSASigner::new);
+
+    // Stateless. It uses the precomputed multiples of the generator, which are stored with the
+    // generator point and are shared by all multipliers, including those of signers.
+    private static final FixedPointCombMultiplier GENERATOR_MULTIPLIER =
+            new FixedPointCombMultiplier();
+
+    /**
+     * <p>Precomputes the multiples of the secp256r1 generator point that speed up signing and
+     * deriving public keys.</p>
+     * <br>
+     * <p>The precomputation is done only once and shared by all threads. Without calling this
+     * method, it is done by the first signature or public key derivation, which is therefore
+     * considerably slower than the following ones. Call it on startup to avoid that delay.</p>
+     */
+    public static void precomputeGenerator() {
+        FixedPointUtil.precompute(NeoConstants.CURVE.getG());
+    }
+
+    /**
+     * <p>Signs the SHA-256 hash of the given message and computes the recovery id of the
+     * signature.</p>
+     * <br>
+     * <p>Finding the recovery id requires recovering the public key up to four times, which costs
+     * several times more than the signing itself. NEO witnesses do not contain the recovery id,
+     * so use {@link #signMessageToBytes(byte[], ECKeyPair)} unless the public key has to be
+     * recovered from the signature later on, e.g. with
+     * {@link #signedMessageToKey(byte[], SignatureData)}.</p>
+     *
+     * @param message the message to sign.
+     * @param keyPair the key pair to sign with.
+     * @return the signature with recovery id.
+     */
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair) {
         return signMessage(message, keyPair, true);
     }
 
+    /**
+     * <p>Signs the given message and computes the recovery id of the signature.</p>
+     * <br>
+     * <p>Use {@link #signMessageToBytes(byte[], ECKeyPair, boolean)} if the recovery id is not
+     * needed.</p>
+     *
+     * @param message    the message to sign.
+     * @param keyPair    the key pair to sign with.
+     * @param needToHash whether the SHA-256 hash of the message is signed or the message itself.
+     * @return the signature with recovery id.
+     */
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
         BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
@@ -68,6 +118,79 @@ public class Sign {
         return new SignatureData(v, r, s);
     }
 
+    /**
+     * <p>Signs the SHA-256 hash of the given message without computing a recovery id.</p>
+     * <br>
+     * <p>This is the signature format of NEO witnesses, i.e. the 32 bytes of r followed by the
+     * 32 bytes of s.</p>
+     *
+     * @param message the message to sign.
+     * @param keyPair the key pair to sign with.
+     * @return the 64-byte signature.
+     */
+    public static byte[] signMessageToBytes(byte[] message, ECKeyPair keyPair) {
+        return signMessageToBytes(message, keyPair, true);
+    }
+
+    /**
+     * <p>Signs the given message without computing a recovery id.</p>
+     * <br>
+     * <p>This is the signature format of NEO witnesses, i.e. the 32 bytes of r followed by the
+     * 32 bytes of s.</p>
+     *
+     * @param message    the message to sign.
+     * @param keyPair    the key pair to sign with.
+     * @param needToHash whether the SHA-256 hash of the message is signed or the message itself.
+     * @return the 64-byte signature.
+     */
+    public static byte[] signMessageToBytes(byte[] message, ECKeyPair keyPair,
+            boolean needToHash) {
+
+        byte[] messageHash = needToHash ? Hash.sha256(message) : message;
+        return keyPair.signAndGetArrayBytes(messageHash);
+    }
+
+    /**
+     * <p>Verifies a signature created with {@link #signMessageToBytes(byte[], ECKeyPair)}, e.g.
+     * the signature of a NEO witness.</p>
+     * <br>
+     * <p>Use a {@link WitnessVerifier} to verify many signatures of the same public keys. It
+     * does not decode the keys again for every signature.</p>
+     *
+     * @param message   the signed message. Its SHA-256 hash is verified.
+     * @param signature the 64-byte signature, i.e. r followed by s.
+     * @param publicKey the encoded public key.
+     * @return true if the signature is valid. False if it is invalid or the public key is not a
+     * valid point on the curve.
+     */
+    public static boolean verifySignature(byte[] message, byte[] signature, byte[] publicKey) {
+        ECPublicKeyParameters key;
+        try {
+            key = decodePublicKey(publicKey);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return verifySignature(Hash.sha256(message), signature, key);
+    }
+
+    static ECPublicKeyParameters decodePublicKey(byte[] encodedPublicKey) {
+        ECPoint point = NeoConstants.CURVE.getCurve().decodePoint(encodedPublicKey);
+        return new ECPublicKeyParameters(point, NeoConstants.CURVE);
+    }
+
+    static boolean verifySignature(byte[] messageHash, byte[] signature,
+            ECPublicKeyParameters publicKey) {
+
+        if (signature.length != NeoConstants.SIGNATURE_SIZE_BYTES) {
+            return false;
+        }
+        BigInteger r = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32));
+        BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+        ECDSASigner verifier = VERIFIER.get();
+        verifier.init(false, publicKey);
+        return verifier.verifySignature(messageHash, r, s);
+    }
+
     /**
      * <p>Given the components of a signature and a selector value, recover and return the public
      * key that generated the signature according to the algorithm in SEC1v2 section 4.1.6.</p>
@@ -225,7 +348,7 @@ public class Sign {
         if (privKey.bitLength() > NeoConstants.CURVE.getN().bitLength()) {
             privKey = privKey.mod(NeoConstants.CURVE.getN());
         }
-        return new FixedPointCombMultiplier().multiply(NeoConstants.CURVE.getG(), privKey).normalize();
+        return GENERATOR_MULTIPLIER.multiply(NeoConstants.CURVE.getG(), privKey).normalize();
     }
 
     /**
@@ -0,0 +1,241 @@
+package io.neow3j.crypto;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import io.neow3j.crypto.transaction.RawScript;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.io.BinaryReader;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Verifies the signatures of NEO witnesses, i.e. of an invocation script containing
+ * signatures and a single- or multi-signature verification script containing the public
+ * keys.</p>
+ * <br>
+ * <p>The decoded public keys are cached, so verifying further signatures of the same keys
+ * neither decodes the key again nor recomputes the multiples of its point that speed up the
+ * verification. Share one instance to share the cache. Instances are thread-safe.</p>
+ */
+public class WitnessVerifier {
+
+    /**
+     * The default maximum number of cached public keys.
+     */
+    public static final int DEFAULT_MAX_CACHED_KEYS = 1024;
+
+    private final Map<ByteBuffer, ECPublicKeyParameters> publicKeys;
+
+    /**
+     * Creates a verifier that caches up to {@link #DEFAULT_MAX_CACHED_KEYS} public keys.
+     */
+    public WitnessVerifier() {
+        this(DEFAULT_MAX_CACHED_KEYS);
+    }
+
+    /**
+     * Creates a verifier that caches up to the given number of public keys. The least recently
+     * used keys are evicted first.
+     *
+     * @param maxCachedKeys the maximum number of cached public keys.
+     */
+    public WitnessVerifier(int maxCachedKeys) {
+        // Access order makes the eldest entry the least recently used one.
+        this.publicKeys = new LinkedHashMap<ByteBuffer, ECPublicKeyParameters>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<ByteBuffer, ECPublicKeyParameters> eldest) {
+                return size() > maxCachedKeys;
+            }
+        };
+    }
+
+    /**
+     * <p>Verifies the signatures of all witnesses of the given transaction against its
+     * serialization without scripts.</p>
+     *
+     * @param transaction the transaction.
+     * @return true if the transaction has at least one witness and all witnesses are valid.
+     */
+    public boolean verify(RawTransaction transaction) {
+        List<RawScript> witnesses = transaction.getScripts();
+        if (witnesses.isEmpty()) {
+            return false;
+        }
+        byte[] messageHash = Hash.sha256(transaction.toArrayWithoutScripts());
+        for (RawScript witness : witnesses) {
+            if (!verifyHash(messageHash, witness)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Verifies the transactions on all available cores.</p>
+     * <br>
+     * <p>The transactions are verified with {@link #verify(RawTransaction)} in a parallel stream,
+     * i.e. in the common fork join pool.</p>
+     *
+     * @param transactions the transactions.
+     * @return whether each transaction is valid, in the order of the given transactions.
+     */
+    public List<Boolean> verifyAll(List<? extends RawTransaction> transactions) {
+        return transactions.parallelStream()
+                .map(this::verify)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * <p>Verifies the signatures of the given witness.</p>
+     * <br>
+     * <p>A single-signature witness is valid if its signature belongs to the public key of the
+     * verification script. A multi-signature witness needs as many signatures as the signing
+     * threshold of its verification script. Like the NEO VM, the signatures need to be in the
+     * order of their public keys in the verification script.</p>
+     *
+     * @param message the signed message, e.g. the serialization of a transaction without
+     *                scripts. Its SHA-256 hash is verified.
+     * @param witness the witness.
+     * @return true if the witness is valid. False if a signature is invalid or if the scripts
+     * are not standard signature scripts.
+     */
+    public boolean verify(byte[] message, RawScript witness) {
+        return verifyHash(Hash.sha256(message), witness);
+    }
+
+    private boolean verifyHash(byte[] messageHash, RawScript witness) {
+        if (witness.getInvocationScript() == null || witness.getVerificationScript() == null) {
+            return false;
+        }
+        List<byte[]> signatures;
+        List<byte[]> keys = new ArrayList<>();
+        int threshold;
+        try {
+            signatures = readSignatures(witness.getInvocationScript().getScript());
+            threshold = readPublicKeys(witness.getVerificationScript().getScript(), keys);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+        if (signatures.size() != threshold) {
+            return false;
+        }
+        // Every signature has to match one of the remaining keys, keeping their order.
+        int signature = 0;
+        for (int key = 0; key < keys.size() && signature < signatures.size(); key++) {
+            if (keys.size() - key < signatures.size() - signature) {
+                return false;
+            }
+            ECPublicKeyParameters publicKey = getPublicKey(keys.get(key));
+            if (publicKey != null
+                    && Sign.verifySignature(messageHash, signatures.get(signature), publicKey)) {
+                signature++;
+            }
+        }
+        return signature == signatures.size();
+    }
+
+    private static List<byte[]> readSignatures(byte[] invocationScript) throws IOException {
+        BinaryReader reader = new BinaryReader(invocationScript);
+        List<byte[]> signatures = new ArrayList<>();
+        while (reader.available() > 0) {
+            byte[] signature = reader.readPushData();
+            if (signature.length != NeoConstants.SIGNATURE_SIZE_BYTES) {
+                throw new IllegalArgumentException("Not a signature.");
+            }
+            signatures.add(signature);
+        }
+        return signatures;
+    }
+
+    /**
+     * Reads the public keys of a single- or multi-signature verification script.
+     *
+     * @return the signing threshold.
+     */
+    static int readPublicKeys(byte[] verificationScript, List<byte[]> keys)
+            throws IOException {
+
+        if (verificationScript.length == 0) {
+            throw new IllegalArgumentException("Empty verification script.");
+        }
+        BinaryReader reader = new BinaryReader(verificationScript);
+        byte lastOpCode = verificationScript[verificationScript.length - 1];
+        if (lastOpCode == OpCode.CHECKSIG.getValue()) {
+            keys.add(readPublicKey(reader));
+            checkEnd(reader);
+            return 1;
+        }
+        if (lastOpCode != OpCode.CHECKMULTISIG.getValue()) {
+            throw new IllegalArgumentException("Not a signature verification script.");
+        }
+        int threshold = reader.readPushInteger();
+        while (nextByte(reader) == OpCode.PUSHBYTES33.getValue()) {
+            keys.add(readPublicKey(reader));
+        }
+        int keyCount = reader.readPushInteger();
+        checkEnd(reader);
+        if (keyCount != keys.size() || threshold < 1 || threshold > keyCount) {
+            throw new IllegalArgumentException("Invalid multi-signature verification script.");
+        }
+        return threshold;
+    }
+
+    private static byte[] readPublicKey(BinaryReader reader) throws IOException {
+        byte[] key = reader.readPushData();
+        if (key.length != NeoConstants.PUBLIC_KEY_SIZE) {
+            throw new IllegalArgumentException("Not a public key.");
+        }
+        return key;
+    }
+
+    private static byte nextByte(BinaryReader reader) throws IOException {
+        reader.mark(1);
+        byte next = reader.readByte();
+        reader.reset();
+        return next;
+    }
+
+    // Only the final CHECKSIG or CHECKMULTISIG may follow.
+    private static void checkEnd(BinaryReader reader) {
+        if (reader.available() != 1) {
+            throw new IllegalArgumentException("Not a signature verification script.");
+        }
+    }
+
+    private ECPublicKeyParameters getPublicKey(byte[] encodedKey) {
+        ByteBuffer cacheKey = ByteBuffer.wrap(encodedKey);
+        synchronized (publicKeys) {
+            ECPublicKeyParameters publicKey = publicKeys.get(cacheKey);
+            if (publicKey != null) {
+                return publicKey;
+            }
+        }
+        ECPublicKeyParameters publicKey;
+        try {
+            publicKey = Sign.decodePublicKey(encodedKey);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        synchronized (publicKeys) {
+            publicKeys.put(cacheKey, publicKey);
+        }
+        return publicKey;
+    }
+
+    /**
+     * @return the number of cached public keys.
+     */
+    public int getCachedKeyCount() {
+        synchronized (publicKeys) {
+            return publicKeys.size();
+        }
+    }
+}
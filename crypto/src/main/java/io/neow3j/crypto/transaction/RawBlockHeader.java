@@ -0,0 +1,204 @@
+package io.neow3j.crypto.transaction;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Hash;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>A block header in its binary form, as returned by the <tt>getblockheader</tt> RPC method
+ * with <tt>verbose = 0</tt>.</p>
+ * <br>
+ * <p>Decoding the binary form is considerably cheaper than deserializing the verbose JSON
+ * representation of a block.</p>
+ */
+public class RawBlockHeader extends NeoSerializable {
+
+    private static final int HASH_SIZE = 32;
+
+    private long version;
+    private String prevHash;
+    private String merkleRoot;
+    private long timestamp;
+    private long index;
+    private long consensusData;
+    private ScriptHash nextConsensus;
+    private RawScript script;
+
+    public RawBlockHeader() {
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the hash of the previous block in big-endian order.
+     */
+    public String getPrevHash() {
+        return prevHash;
+    }
+
+    /**
+     * @return the merkle root of the block's transactions in big-endian order.
+     */
+    public String getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    /**
+     * @return the block time in seconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public long getConsensusData() {
+        return consensusData;
+    }
+
+    public ScriptHash getNextConsensus() {
+        return nextConsensus;
+    }
+
+    public RawScript getScript() {
+        return script;
+    }
+
+    /**
+     * Calculates the hash of this block, i.e. the double SHA-256 hash of the header without its
+     * witness.
+     *
+     * @return the block hash in big-endian order.
+     */
+    public String getHash() {
+        try (BinaryWriter writer = new BinaryWriter()) {
+            serializeUnsigned(writer);
+            byte[] hash = Hash.hash256(writer.toByteArray());
+            return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws IOException {
+        deserializeBase(reader);
+        // A header is serialized like a block without transactions.
+        if (reader.readByte() != 0) {
+            throw new IOException("The block header must not contain any transactions.");
+        }
+    }
+
+    /**
+     * Deserializes the fields that are common to blocks and block headers.
+     *
+     * @param reader the reader to read from.
+     * @throws IOException if the data is not a valid block header.
+     */
+    protected void deserializeBase(BinaryReader reader) throws IOException {
+        this.version = Integer.toUnsignedLong(reader.readInt());
+        this.prevHash = readHash(reader);
+        this.merkleRoot = readHash(reader);
+        this.timestamp = Integer.toUnsignedLong(reader.readInt());
+        this.index = Integer.toUnsignedLong(reader.readInt());
+        this.consensusData = reader.readLong();
+        this.nextConsensus = new ScriptHash(reader.readBytes(20));
+        if (reader.readByte() != 1) {
+            throw new IOException("The block header must contain exactly one witness.");
+        }
+        this.script = new RawScript();
+        this.script.deserialize(reader);
+    }
+
+    private static String readHash(BinaryReader reader) throws IOException {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(reader.readBytes(HASH_SIZE)));
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeBase(writer);
+        writer.writeByte((byte) 0);
+    }
+
+    @Override
+    public int getSize() {
+        // No transactions.
+        return getBaseSize() + Byte.BYTES;
+    }
+
+    /**
+     * Serializes the fields that are common to blocks and block headers.
+     *
+     * @param writer the writer to write to.
+     * @throws IOException if the data could not be written.
+     */
+    protected void serializeBase(BinaryWriter writer) throws IOException {
+        serializeUnsigned(writer);
+        writer.writeByte((byte) 1);
+        script.serialize(writer);
+    }
+
+    /**
+     * Gets the size of the fields that are common to blocks and block headers.
+     *
+     * @return the size in bytes.
+     */
+    protected int getBaseSize() {
+        // version, previous hash, merkle root, timestamp, index, consensus data, next consensus
+        // and exactly one witness.
+        return 4 + HASH_SIZE + HASH_SIZE + 4 + 4 + 8 + 20 + Byte.BYTES + script.getSize();
+    }
+
+    private void serializeUnsigned(BinaryWriter writer) throws IOException {
+        writer.writeInt((int) version);
+        writer.write(ArrayUtils.reverseArray(Numeric.hexStringToByteArray(prevHash)));
+        writer.write(ArrayUtils.reverseArray(Numeric.hexStringToByteArray(merkleRoot)));
+        writer.writeInt((int) timestamp);
+        writer.writeInt((int) index);
+        writer.writeLong(consensusData);
+        writer.write(nextConsensus.toArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RawBlockHeader)) return false;
+        RawBlockHeader that = (RawBlockHeader) o;
+        return getVersion() == that.getVersion() &&
+                getTimestamp() == that.getTimestamp() &&
+                getIndex() == that.getIndex() &&
+                getConsensusData() == that.getConsensusData() &&
+                Objects.equals(getPrevHash(), that.getPrevHash()) &&
+                Objects.equals(getMerkleRoot(), that.getMerkleRoot()) &&
+                Objects.equals(getNextConsensus(), that.getNextConsensus()) &&
+                Objects.equals(getScript(), that.getScript());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getVersion(), getPrevHash(), getMerkleRoot(), getTimestamp(),
+                getIndex(), getConsensusData(), getNextConsensus(), getScript());
+    }
+
+    @Override
+    public String toString() {
+        return "BlockHeader{" +
+                "index=" + index +
+                ", prevHash='" + prevHash + '\'' +
+                ", merkleRoot='" + merkleRoot + '\'' +
+                ", timestamp=" + timestamp +
+                ", nextConsensus=" + nextConsensus +
+                '}';
+    }
+}
@@ -6,6 +6,7 @@ import io.neow3j.crypto.Sign;
 import io.neow3j.crypto.Sign.SignatureData;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.utils.Numeric;
 
@@ -67,8 +68,9 @@ public class RawInvocationScript extends NeoSerializable {
      * @return the constructed invocation script.
      */
     public static RawInvocationScript fromMessageAndKeyPair(byte[] message, ECKeyPair keyPair) {
-        SignatureData signature = Sign.signMessage(message, keyPair);
-        return fromSignature(signature);
+        // The recovery id is not part of the script, so it is not computed.
+        byte[] signature = Sign.signMessageToBytes(message, keyPair);
+        return new RawInvocationScript(new ScriptBuilder().pushData(signature).toArray());
     }
 
     public static RawInvocationScript fromSignatures(List<SignatureData> sigs) {
@@ -109,4 +111,9 @@ public class RawInvocationScript extends NeoSerializable {
     public void serialize(BinaryWriter writer) throws IOException {
         writer.writeVarBytes(script);
     }
+
+    @Override
+    public int getSize() {
+        return IOUtils.getVarSize(script);
+    }
 }
@@ -3,6 +3,7 @@ package io.neow3j.crypto.transaction;
 import io.neow3j.crypto.Hash;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.model.types.TransactionType;
 import io.neow3j.utils.ArrayUtils;
@@ -10,15 +11,21 @@ import io.neow3j.utils.Numeric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * <p>Transaction class used for signing transactions locally.</p>
+ * <br>
+ * <p>The serialization without scripts and the transaction id are computed once and cached.
+ * Changing the attributes, inputs or outputs through the lists returned by their getters
+ * invalidates the cache, adding scripts does not. Subclasses must pass any mutable list they
+ * serialize in {@link #serializeExclusive(BinaryWriter)} through {@link #tracked(List)}.</p>
  */
 @SuppressWarnings("unchecked")
 public abstract class RawTransaction extends NeoSerializable {
@@ -32,15 +39,20 @@ public abstract class RawTransaction extends NeoSerializable {
     private List<RawTransactionOutput> outputs;
     private List<RawScript> scripts;
 
+    // Both are reset to null whenever a part of the transaction changes that is included in the
+    // serialization without scripts.
+    private volatile byte[] unsignedArray;
+    private volatile String txId;
+
     public RawTransaction() {
     }
 
     protected RawTransaction(Builder builder) {
         this.transactionType = builder.transactionType;
         this.version = builder.version;
-        this.attributes = builder.attributes;
-        this.inputs = builder.inputs;
-        this.outputs = builder.outputs;
+        this.attributes = tracked(builder.attributes);
+        this.inputs = tracked(builder.inputs);
+        this.outputs = tracked(builder.outputs);
         this.scripts = builder.scripts;
     }
 
@@ -88,28 +100,64 @@ public abstract class RawTransaction extends NeoSerializable {
         this.scripts.sort(Comparator.comparing(RawScript::getScriptHash));
     }
 
+    /**
+     * Gets the id of this transaction, i.e. the reversed double SHA-256 hash of its
+     * serialization without scripts. It is only computed again after the transaction changed.
+     *
+     * @return the transaction id as hexadecimal string.
+     */
     public String getTxId() {
-        byte[] hash = Hash.sha256(Hash.sha256(toArrayWithoutScripts()));
-        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        String id = this.txId;
+        if (id == null) {
+            byte[] hash = Hash.hash256(getUnsignedArray());
+            id = Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+            this.txId = id;
+        }
+        return id;
+    }
+
+    /**
+     * Discards the cached serialization without scripts and the transaction id. Subclasses must
+     * call it when a field changes that is written by {@link #serializeExclusive(BinaryWriter)}.
+     */
+    protected void invalidateCache() {
+        this.unsignedArray = null;
+        this.txId = null;
+    }
+
+    /**
+     * Wraps the given list, so that any change to it invalidates the cached serialization of
+     * this transaction. The returned list writes through to the given one.
+     *
+     * @param list the list to wrap.
+     * @param <E>  the element type.
+     * @return the wrapping list.
+     */
+    protected <E> List<E> tracked(List<E> list) {
+        return new TrackedList<>(list);
     }
 
+    @Override
     public int getSize() {
-        // TODO 2019-08-05 claude:
-        // Implement more efficiently, e.g. with fixed byte values and calls to the getSize() of
-        // the transaction components.
-        return toArray().length;
+        // The transaction type and version.
+        return 2 + getSizeExclusive()
+                + IOUtils.getVarSize(this.attributes)
+                + IOUtils.getVarSize(this.inputs)
+                + IOUtils.getVarSize(this.outputs)
+                + IOUtils.getVarSize(this.scripts);
     }
 
     @Override
     public void deserialize(BinaryReader reader) throws IOException {
+        invalidateCache();
         this.transactionType = TransactionType.valueOf(reader.readByte());
         this.version = reader.readByte();
         try {
             deserializeExclusive(reader);
-            this.attributes = reader.readSerializableList(RawTransactionAttribute.class);
-            this.inputs = reader.readSerializableList(RawTransactionInput.class);
-            this.outputs = reader.readSerializableList(RawTransactionOutput.class);
-            this.scripts = reader.readSerializableList(RawScript.class);
+            this.attributes = tracked(reader.readSerializableList(RawTransactionAttribute::new));
+            this.inputs = tracked(reader.readSerializableList(RawTransactionInput::new));
+            this.outputs = tracked(reader.readSerializableList(RawTransactionOutput::new));
+            this.scripts = reader.readSerializableList(RawScript::new);
         } catch (IllegalAccessException e) {
             LOG.error("Can't access the specified object.", e);
         } catch (InstantiationException e) {
@@ -134,6 +182,22 @@ public abstract class RawTransaction extends NeoSerializable {
 
     public abstract void serializeExclusive(BinaryWriter writer) throws IOException;
 
+    /**
+     * Gets the size of the fields that are written by {@link #serializeExclusive(BinaryWriter)}.
+     * Subclasses should compute it from their fields. By default, the fields are serialized to
+     * count their bytes.
+     *
+     * @return the size in bytes.
+     */
+    protected int getSizeExclusive() {
+        try (BinaryWriter writer = new BinaryWriter()) {
+            serializeExclusive(writer);
+            return writer.toByteArray().length;
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
     public abstract void deserializeExclusive(BinaryReader reader) throws IOException, IllegalAccessException, InstantiationException;
 
     /**
@@ -143,15 +207,22 @@ public abstract class RawTransaction extends NeoSerializable {
      * @return the serialized transaction
      */
     public byte[] toArrayWithoutScripts() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
+        return getUnsignedArray().clone();
+    }
+
+    // Returns the cached array itself. It must not be modified.
+    private byte[] getUnsignedArray() {
+        byte[] array = this.unsignedArray;
+        if (array == null) {
+            try (BinaryWriter writer = new BinaryWriter()) {
                 serializeWithoutScripts(writer);
-                writer.flush();
-                return ms.toByteArray();
+                array = writer.toByteArray();
+            } catch (IOException ex) {
+                throw new UnsupportedOperationException(ex);
             }
-        } catch (IOException ex) {
-            throw new UnsupportedOperationException(ex);
+            this.unsignedArray = array;
         }
+        return array;
     }
 
     /**
@@ -165,6 +236,53 @@ public abstract class RawTransaction extends NeoSerializable {
         return super.toArray();
     }
 
+    /**
+     * A list that invalidates the cache of the transaction when it is modified. All modifying
+     * operations of {@link AbstractList}, including those of its iterators and sub lists, are
+     * implemented by {@link #set(int, Object)}, {@link #add(int, Object)} and
+     * {@link #remove(int)}.
+     */
+    private final class TrackedList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final List<E> list;
+
+        private TrackedList(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            E previous = list.set(index, element);
+            invalidateCache();
+            return previous;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list.add(index, element);
+            modCount++;
+            invalidateCache();
+        }
+
+        @Override
+        public E remove(int index) {
+            E removed = list.remove(index);
+            modCount++;
+            invalidateCache();
+            return removed;
+        }
+    }
+
     protected static abstract class Builder<T extends Builder<T>> {
 
         private TransactionType transactionType;
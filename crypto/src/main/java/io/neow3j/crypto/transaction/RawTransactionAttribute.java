@@ -2,6 +2,7 @@ package io.neow3j.crypto.transaction;
 
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.model.types.TransactionAttributeUsageType;
 import io.neow3j.utils.Numeric;
@@ -93,4 +94,12 @@ public class RawTransactionAttribute extends NeoSerializable {
             writer.writeVarBytes(data);
         }
     }
+
+    @Override
+    public int getSize() {
+        if (usage.fixedDataLength() != null) {
+            return Byte.BYTES + data.length;
+        }
+        return Byte.BYTES + IOUtils.getVarSize(data);
+    }
 }
@@ -100,4 +100,10 @@ public class RawTransactionOutput extends NeoSerializable {
         writer.write(Numeric.fromDecimalToFixed8ByteArray(this.value));
         writer.write(ScriptHash.fromAddress(this.address).toArray());
     }
+
+    @Override
+    public int getSize() {
+        // The asset id, the fixed8 value and the script hash of the address.
+        return 32 + 8 + 20;
+    }
 }
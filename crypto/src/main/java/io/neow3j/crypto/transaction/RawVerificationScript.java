@@ -4,6 +4,7 @@ import io.neow3j.constants.OpCode;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.utils.Keys;
 import io.neow3j.utils.Numeric;
@@ -112,4 +113,9 @@ public class RawVerificationScript extends NeoSerializable {
         writer.writeVarBytes(script);
     }
 
+    @Override
+    public int getSize() {
+        return IOUtils.getVarSize(script);
+    }
+
 }
@@ -0,0 +1,67 @@
+package io.neow3j.crypto;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import io.neow3j.constants.NeoConstants;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares signing with a key pair, which reuses its key parameters, with creating the key
+ * parameters for every signature as it was done before.
+ */
+@BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 3)
+public class ECKeyPairBenchmark extends AbstractBenchmark {
+
+    private static final int SIGNATURES = 200;
+
+    private static final byte[] HASH = Hash.sha256("A test message".getBytes());
+
+    @BeforeClass
+    public static void precompute() {
+        Sign.precomputeGenerator();
+    }
+
+    @Test
+    public void signWithKeyPair() {
+        for (int i = 0; i < SIGNATURES; i++) {
+            assertEquals(2, SampleKeys.KEY_PAIR_1.sign(HASH).length);
+        }
+    }
+
+    @Test
+    public void signWithNewSigner() {
+        for (int i = 0; i < SIGNATURES; i++) {
+            assertEquals(2, signWithNewSigner(SampleKeys.PRIVATE_KEY_1).length);
+        }
+    }
+
+    @Test
+    public void derivePublicKey() {
+        for (int i = 0; i < SIGNATURES; i++) {
+            assertEquals(SampleKeys.PUBLIC_KEY_1,
+                    Sign.publicKeyFromPrivate(SampleKeys.PRIVATE_KEY_1));
+        }
+    }
+
+    @Test
+    public void sameSignatures() {
+        assertArrayEquals(signWithNewSigner(SampleKeys.PRIVATE_KEY_1),
+                SampleKeys.KEY_PAIR_1.sign(HASH));
+    }
+
+    private static BigInteger[] signWithNewSigner(BigInteger privateKey) {
+        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, new ECPrivateKeyParameters(privateKey, NeoConstants.CURVE));
+        return signer.generateSignature(HASH);
+    }
+}
@@ -0,0 +1,126 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.transaction.RawScript;
+import io.neow3j.crypto.transaction.RawVerificationScript;
+import io.neow3j.utils.Keys;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MultiSigCoordinatorTest {
+
+    private static final byte[] MESSAGE = "A test message".getBytes();
+
+    private static final ECKeyPair KEY_PAIR_3 = ECKeyPair.create(BigInteger.valueOf(42));
+
+    private static final RawVerificationScript VERIFICATION_SCRIPT =
+            RawVerificationScript.fromPublicKeys(2, Arrays.asList(SampleKeys.PUBLIC_KEY_1,
+                    SampleKeys.PUBLIC_KEY_2, KEY_PAIR_3.getPublicKey()));
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final WitnessVerifier verifier = new WitnessVerifier();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void signWithKeyPairs() {
+        RawScript witness = new MultiSigCoordinator(VERIFICATION_SCRIPT, executor)
+                .addKeyPair(SampleKeys.KEY_PAIR_1)
+                .addKeyPair(SampleKeys.KEY_PAIR_2)
+                .addKeyPair(KEY_PAIR_3)
+                .sign(MESSAGE);
+
+        assertThat(witness.getVerificationScript(), is(VERIFICATION_SCRIPT));
+        assertThat(witness.getInvocationScript().getScript().length, is(2 * 65));
+        assertThat(verifier.verify(MESSAGE, witness), is(true));
+    }
+
+    @Test
+    public void signWithoutWaitingForSlowSigner() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean slowSignerFinished = new AtomicBoolean();
+        RawScript witness = new MultiSigCoordinator(VERIFICATION_SCRIPT, executor)
+                .addKeyPair(SampleKeys.KEY_PAIR_1)
+                .addSigner(publicKey(SampleKeys.KEY_PAIR_2), message -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    slowSignerFinished.set(true);
+                    return Sign.signMessage(message, SampleKeys.KEY_PAIR_2);
+                })
+                .addSigner(publicKey(KEY_PAIR_3),
+                        message -> Sign.signMessage(message, KEY_PAIR_3))
+                .signAsync(MESSAGE)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(slowSignerFinished.get(), is(false));
+        assertThat(verifier.verify(MESSAGE, witness), is(true));
+        release.countDown();
+    }
+
+    @Test
+    public void signWithFailingSigners() {
+        RawScript witness = new MultiSigCoordinator(VERIFICATION_SCRIPT, executor)
+                .addKeyPair(SampleKeys.KEY_PAIR_1)
+                .addSigner(publicKey(SampleKeys.KEY_PAIR_2), message -> {
+                    throw new IOException("Not available.");
+                })
+                .addKeyPair(KEY_PAIR_3)
+                .sign(MESSAGE);
+
+        assertThat(verifier.verify(MESSAGE, witness), is(true));
+
+        MultiSigCoordinator coordinator = new MultiSigCoordinator(VERIFICATION_SCRIPT, executor)
+                .addKeyPair(SampleKeys.KEY_PAIR_1)
+                .addSigner(publicKey(SampleKeys.KEY_PAIR_2), message -> {
+                    throw new IOException("Not available.");
+                })
+                // Signs with the wrong key.
+                .addSigner(publicKey(KEY_PAIR_3),
+                        message -> Sign.signMessage(message, SampleKeys.KEY_PAIR_2));
+        try {
+            coordinator.sign(MESSAGE);
+            fail();
+        } catch (IllegalStateException e) {
+            // The key pair may still be signing when both other signers have failed.
+            assertThat(e.getMessage().endsWith(" of 2 required signatures could be collected."),
+                    is(true));
+            assertThat(e.getCause() instanceof IOException
+                    || e.getCause() instanceof IllegalStateException, is(true));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void signWithTooFewSigners() {
+        new MultiSigCoordinator(VERIFICATION_SCRIPT)
+                .addKeyPair(SampleKeys.KEY_PAIR_1)
+                .sign(MESSAGE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addKeyPairNotInVerificationScript() {
+        new MultiSigCoordinator(VERIFICATION_SCRIPT)
+                .addKeyPair(ECKeyPair.create(BigInteger.valueOf(43)));
+    }
+
+    private static byte[] publicKey(ECKeyPair keyPair) {
+        return Keys.publicKeyIntegerToByteArray(keyPair.getPublicKey());
+    }
+}
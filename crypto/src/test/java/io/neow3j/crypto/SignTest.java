@@ -5,6 +5,12 @@ import org.junit.Test;
 
 import java.math.BigInteger;
 import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -29,6 +35,41 @@ public class SignTest {
         assertThat(signatureData, is(expected));
     }
 
+    @Test
+    public void testSignMessageToBytes() {
+        byte[] signature = Sign.signMessageToBytes(TEST_MESSAGE, SampleKeys.KEY_PAIR_1);
+
+        assertThat(Numeric.toHexStringNoPrefix(signature), is(
+                "147e5f3c929dd830d961626551dbea6b70e4b2837ed2fe9089eed2072ab3a655"
+                        + "523ae0fa8711eee4769f1913b180b9b3410bbb2cf770f529c85f6886f22cbaaf"));
+        assertThat(Sign.signMessageToBytes(Hash.sha256(TEST_MESSAGE), SampleKeys.KEY_PAIR_1,
+                false), is(signature));
+    }
+
+    @Test
+    public void testSignConcurrently() throws Exception {
+        byte[] expected = Sign.signMessageToBytes(TEST_MESSAGE, SampleKeys.KEY_PAIR_1);
+        ECKeyPair otherKeyPair = ECKeyPair.create(BigInteger.valueOf(42));
+        byte[] expectedOther = Sign.signMessageToBytes(TEST_MESSAGE, otherKeyPair);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                // Alternate the keys, so that each thread signs with both of them.
+                ECKeyPair keyPair = i % 2 == 0 ? SampleKeys.KEY_PAIR_1 : otherKeyPair;
+                byte[] expectedSignature = i % 2 == 0 ? expected : expectedOther;
+                results.add(executor.submit(() -> Arrays.equals(expectedSignature,
+                        Sign.signMessageToBytes(TEST_MESSAGE, keyPair))));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData = Sign.signMessage(TEST_MESSAGE, SampleKeys.KEY_PAIR_1);
@@ -0,0 +1,106 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.crypto.transaction.RawInvocationScript;
+import io.neow3j.crypto.transaction.RawScript;
+import io.neow3j.crypto.transaction.RawVerificationScript;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WitnessVerifierTest {
+
+    private static final byte[] MESSAGE = "A test message".getBytes();
+
+    private static final ECKeyPair KEY_PAIR_3 = ECKeyPair.create(BigInteger.valueOf(42));
+
+    private final WitnessVerifier verifier = new WitnessVerifier();
+
+    @Test
+    public void verifySignature() {
+        byte[] signature = Sign.signMessageToBytes(MESSAGE, SampleKeys.KEY_PAIR_1);
+        byte[] publicKey = Numeric.hexStringToByteArray(SampleKeys.PUBLIC_KEY_STRING_1);
+
+        assertThat(Sign.verifySignature(MESSAGE, signature, publicKey), is(true));
+        assertThat(Sign.verifySignature("Other".getBytes(), signature, publicKey), is(false));
+        assertThat(Sign.verifySignature(MESSAGE, signature,
+                Numeric.hexStringToByteArray(SampleKeys.PUBLIC_KEY_STRING_2)), is(false));
+        assertThat(Sign.verifySignature(MESSAGE, new byte[64], publicKey), is(false));
+        assertThat(Sign.verifySignature(MESSAGE, signature, new byte[33]), is(false));
+    }
+
+    @Test
+    public void verifySingleSignatureWitness() {
+        RawScript witness = RawScript.createWitness(MESSAGE, SampleKeys.KEY_PAIR_1);
+
+        assertThat(verifier.verify(MESSAGE, witness), is(true));
+        assertThat(verifier.verify("Other".getBytes(), witness), is(false));
+        assertThat(verifier.getCachedKeyCount(), is(1));
+    }
+
+    @Test
+    public void verifyWitnessWithWrongKey() {
+        RawScript witness = new RawScript(
+                RawInvocationScript.fromMessageAndKeyPair(MESSAGE, SampleKeys.KEY_PAIR_1),
+                RawVerificationScript.fromPublicKey(SampleKeys.PUBLIC_KEY_2));
+
+        assertThat(verifier.verify(MESSAGE, witness), is(false));
+    }
+
+    @Test
+    public void verifyMultiSignatureWitness() {
+        RawVerificationScript verificationScript = RawVerificationScript.fromPublicKeys(2,
+                Arrays.asList(SampleKeys.PUBLIC_KEY_1, SampleKeys.PUBLIC_KEY_2,
+                        KEY_PAIR_3.getPublicKey()));
+        SignatureData signature1 = Sign.signMessage(MESSAGE, SampleKeys.KEY_PAIR_1);
+        SignatureData signature2 = Sign.signMessage(MESSAGE, SampleKeys.KEY_PAIR_2);
+        SignatureData signature3 = Sign.signMessage(MESSAGE, KEY_PAIR_3);
+
+        assertThat(verifier.verify(MESSAGE, RawScript.createMultiSigWitness(
+                Arrays.asList(signature1, signature2), verificationScript)), is(true));
+        assertThat(verifier.verify(MESSAGE, RawScript.createMultiSigWitness(
+                Arrays.asList(signature1, signature3), verificationScript)), is(true));
+        assertThat(verifier.verify(MESSAGE, RawScript.createMultiSigWitness(
+                Arrays.asList(signature2, signature3), verificationScript)), is(true));
+        assertThat(verifier.getCachedKeyCount(), is(3));
+
+        // Signatures must be in the order of the keys.
+        assertThat(verifier.verify(MESSAGE, RawScript.createMultiSigWitness(
+                Arrays.asList(signature2, signature1), verificationScript)), is(false));
+        // The same signature must not count twice.
+        assertThat(verifier.verify(MESSAGE, RawScript.createMultiSigWitness(
+                Arrays.asList(signature1, signature1), verificationScript)), is(false));
+        // Too few signatures.
+        assertThat(verifier.verify(MESSAGE, new RawScript(
+                RawInvocationScript.fromSignatures(Arrays.asList(signature1)),
+                verificationScript)), is(false));
+    }
+
+    @Test
+    public void verifyNonSignatureScripts() {
+        RawScript witness = new RawScript(new byte[]{0x00},
+                Numeric.hexStringToByteArray("51"));
+        assertThat(verifier.verify(MESSAGE, witness), is(false));
+
+        witness = new RawScript(
+                RawInvocationScript.fromMessageAndKeyPair(MESSAGE, SampleKeys.KEY_PAIR_1)
+                        .getScript(),
+                Numeric.hexStringToByteArray("21" + SampleKeys.PUBLIC_KEY_STRING_1 + "51ac"));
+        assertThat(verifier.verify(MESSAGE, witness), is(false));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedKey() {
+        WitnessVerifier smallVerifier = new WitnessVerifier(1);
+        assertThat(smallVerifier.verify(MESSAGE,
+                RawScript.createWitness(MESSAGE, SampleKeys.KEY_PAIR_1)), is(true));
+        assertThat(smallVerifier.verify(MESSAGE,
+                RawScript.createWitness(MESSAGE, SampleKeys.KEY_PAIR_2)), is(true));
+        assertThat(smallVerifier.getCachedKeyCount(), is(1));
+    }
+}
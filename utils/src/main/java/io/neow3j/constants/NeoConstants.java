@@ -63,6 +63,12 @@ public class NeoConstants {
      */
     public static final int ADDRESS_SIZE = 34;
 
+    /**
+     * Number of bytes of a decoded NEO address, i.e. the version byte, the script hash and the
+     * 4-byte checksum.
+     */
+    public static final int DECODED_ADDRESS_SIZE = 1 + SCRIPTHASH_LENGHT_BYTES + 4;
+
     /**
      * Standard size of a signature used in NEO.
      */
@@ -0,0 +1,40 @@
+package io.neow3j.contract;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size-bounded map from addresses to their script hashes that evicts the least recently used
+ * entry when it is full.
+ */
+class AddressCache {
+
+    private final LinkedHashMap<String, byte[]> entries;
+
+    AddressCache(int maxEntries) {
+        // Access order makes the eldest entry the least recently used one.
+        this.entries = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param address the address.
+     * @return the script hash of the address in little-endian order, or null if the address is
+     * not cached. The array must not be modified.
+     */
+    synchronized byte[] get(String address) {
+        return entries.get(address);
+    }
+
+    synchronized void put(String address, byte[] scriptHash) {
+        entries.put(address, scriptHash);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
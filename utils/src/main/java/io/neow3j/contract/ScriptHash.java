@@ -3,6 +3,7 @@ package io.neow3j.contract;
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.crypto.Base58;
 import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.exceptions.AddressFormatException;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Keys;
 import io.neow3j.utils.Numeric;
@@ -17,6 +18,8 @@ public class ScriptHash implements Comparable<ScriptHash> {
      */
     private byte[] scriptHash;
 
+    private static volatile AddressCache addressCache;
+
     /**
      * Constructs a new script hash from the given byte array. The array must represent the
      * script hash in little-endian order and can be 160 (contract script hash) or 256
@@ -78,14 +81,12 @@ public class ScriptHash implements Comparable<ScriptHash> {
      * @return the address.
      */
     public String toAddress() {
-        byte[] data = new byte[1];
+        byte[] data = new byte[1 + scriptHash.length + 4];
         data[0] = NeoConstants.COIN_VERSION;
-        byte[] dataAndScriptHash = ArrayUtils.concatenate(data, scriptHash);
-        byte[] checksum = Hash.sha256(Hash.sha256(dataAndScriptHash));
-        byte[] first4BytesCheckSum = new byte[4];
-        System.arraycopy(checksum, 0, first4BytesCheckSum, 0, 4);
-        byte[] dataToEncode = ArrayUtils.concatenate(dataAndScriptHash, first4BytesCheckSum);
-        return Base58.encode(dataToEncode);
+        System.arraycopy(scriptHash, 0, data, 1, scriptHash.length);
+        byte[] checksum = Hash.hash256(data, 0, 1 + scriptHash.length);
+        System.arraycopy(checksum, 0, data, 1 + scriptHash.length, 4);
+        return Base58.encode(data);
     }
 
     @Override
@@ -103,14 +104,62 @@ public class ScriptHash implements Comparable<ScriptHash> {
      * @return the script hash.
      */
     public static ScriptHash fromAddress(String address) {
-        if (!Keys.isValidAddress(address)) {
+        AddressCache cache = addressCache;
+        if (cache != null) {
+            byte[] cached = cache.get(address);
+            if (cached != null) {
+                return new ScriptHash(cached.clone());
+            }
+        }
+        byte[] data = new byte[NeoConstants.DECODED_ADDRESS_SIZE];
+        try {
+            Base58.decode(address, data);
+        } catch (AddressFormatException e) {
+            throw new IllegalArgumentException("Not a valid NEO address.", e);
+        }
+        if (!Keys.hasValidVersionAndChecksum(data)) {
             throw new IllegalArgumentException("Not a valid NEO address.");
         }
-        byte[] buffer = new byte[20];
-        System.arraycopy(Base58.decode(address), 1, buffer, 0, 20);
+        byte[] buffer = Arrays.copyOfRange(data, 1, 1 + NeoConstants.SCRIPTHASH_LENGHT_BYTES);
+        if (cache != null) {
+            cache.put(address, buffer.clone());
+        }
         return new ScriptHash(buffer);
     }
 
+    /**
+     * <p>Caches the script hashes of up to the given number of addresses that were converted
+     * with {@link #fromAddress(String)}, so that converting the same address again neither
+     * decodes it nor verifies its checksum. The least recently used addresses are evicted first.
+     * </p>
+     * <br>
+     * <p>The cache is disabled by default. Enabling it again replaces the current cache with an
+     * empty one.</p>
+     *
+     * @param maxEntries the maximum number of cached addresses.
+     */
+    public static void enableAddressCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The maximum number of entries must be positive.");
+        }
+        addressCache = new AddressCache(maxEntries);
+    }
+
+    /**
+     * Disables and clears the cache enabled with {@link #enableAddressCache(int)}.
+     */
+    public static void disableAddressCache() {
+        addressCache = null;
+    }
+
+    /**
+     * @return the number of cached addresses, or 0 if the cache is disabled.
+     */
+    public static int getAddressCacheSize() {
+        AddressCache cache = addressCache;
+        return cache == null ? 0 : cache.size();
+    }
+
     /**
      * Creates a script hash from the given public key.
      * <p>
@@ -147,7 +196,7 @@ public class ScriptHash implements Comparable<ScriptHash> {
     public static ScriptHash fromScript(byte[] script) {
         // There is no need to reverse the hash. The hashing method returns the script hash in
         // little-endian format.
-        return new ScriptHash(Hash.sha256AndThenRipemd160(script));
+        return new ScriptHash(Hash.hash160(script));
     }
 
     /**
@@ -43,10 +43,20 @@ import java.util.Arrays;
  * base-256 digits, convert the number to be represented using base-58 digits, preserve the exact
  * number of leading zeros (which are otherwise lost during the mathematical operations on the
  * numbers), and finally represent the resulting base-58 digits as alphanumeric ASCII characters.
+ * <p>
+ * The number is held in 32-bit words and converted five base-58 digits at a time, i.e. by
+ * dividing by or multiplying with 58<sup>5</sup>, which still fits into 32 bits. Compared to
+ * converting single digits and bytes this needs about 20 times fewer operations, e.g. 7 long
+ * divisions over at most 7 words to encode a 25-byte address.
  */
 public class Base58 {
     public static final char[] ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
     private static final char ENCODED_ZERO = ALPHABET[0];
+    // The number of base-58 digits that are converted at once.
+    private static final int DIGITS_PER_WORD = 5;
+    // 58^5, the largest power of 58 that fits into 32 bits.
+    private static final long WORD_BASE = 58L * 58 * 58 * 58 * 58;
+    private static final long[] POWERS = {1, 58, 58 * 58, 58 * 58 * 58, 58 * 58 * 58 * 58};
     private static final int[] INDEXES = new int[128];
     static {
         Arrays.fill(INDEXES, -1);
@@ -70,14 +80,19 @@ public class Base58 {
         while (zeros < input.length && input[zeros] == 0) {
             ++zeros;
         }
-        // Convert base-256 digits to base-58 digits (plus conversion to ASCII characters)
-        input = Arrays.copyOf(input, input.length); // since we modify it in-place
-        char[] encoded = new char[input.length * 2]; // upper bound
+        int[] number = toWords(input, zeros);
+        // Convert the words to base-58 digits (plus conversion to ASCII characters), five digits
+        // per division.
+        char[] encoded = new char[input.length * 2 + DIGITS_PER_WORD]; // upper bound
         int outputStart = encoded.length;
-        for (int inputStart = zeros; inputStart < input.length; ) {
-            encoded[--outputStart] = ALPHABET[divmod(input, inputStart, 256, 58)];
-            if (input[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
+        for (int firstWord = 0; firstWord < number.length; ) {
+            long remainder = divmod(number, firstWord);
+            for (int i = 0; i < DIGITS_PER_WORD; i++) {
+                encoded[--outputStart] = ALPHABET[(int) (remainder % 58)];
+                remainder /= 58;
+            }
+            while (firstWord < number.length && number[firstWord] == 0) {
+                ++firstWord; // optimization - skip leading zeros
             }
         }
         // Preserve exactly as many leading encoded zeros in output as there were leading zeros in input.
@@ -102,36 +117,34 @@ public class Base58 {
         if (input.length() == 0) {
             return new byte[0];
         }
-        // Convert the base58-encoded ASCII chars to a base58 byte sequence (base58 digits).
-        byte[] input58 = new byte[input.length()];
-        for (int i = 0; i < input.length(); ++i) {
-            char c = input.charAt(i);
-            int digit = c < 128 ? INDEXES[c] : -1;
-            if (digit < 0) {
-                throw new AddressFormatException.InvalidCharacter(c, i);
-            }
-            input58[i] = (byte) digit;
-        }
-        // Count leading zeros.
-        int zeros = 0;
-        while (zeros < input58.length && input58[zeros] == 0) {
-            ++zeros;
-        }
-        // Convert base-58 digits to base-256 digits.
-        byte[] decoded = new byte[input.length()];
-        int outputStart = decoded.length;
-        for (int inputStart = zeros; inputStart < input58.length; ) {
-            decoded[--outputStart] = divmod(input58, inputStart, 58, 256);
-            if (input58[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
-            }
-        }
-        // Ignore extra leading zeroes that were added during the calculation.
-        while (outputStart < decoded.length && decoded[outputStart] == 0) {
-            ++outputStart;
+        int[] number = decodeToWords(input);
+        int zeros = countEncodedZeros(input);
+        int firstByte = firstNonZeroByte(number);
+        byte[] decoded = new byte[zeros + number.length * 4 - firstByte];
+        copyBytes(number, firstByte, decoded, zeros);
+        return decoded;
+    }
+
+    /**
+     * <p>Decodes the given base58 string into the given array, which must have exactly the
+     * length of the decoded data. This avoids the allocation of the result for data of fixed
+     * length, e.g. the 25 bytes of an address.</p>
+     *
+     * @param input  the base58-encoded string to decode
+     * @param output the array to fill with the decoded data bytes
+     * @throws AddressFormatException if the given string is not a valid base58 string or does
+     *                                not decode to {@code output.length} bytes
+     */
+    public static void decode(String input, byte[] output) throws AddressFormatException {
+        int[] number = decodeToWords(input);
+        int zeros = countEncodedZeros(input);
+        int firstByte = firstNonZeroByte(number);
+        if (zeros + number.length * 4 - firstByte != output.length) {
+            throw new AddressFormatException.InvalidDataLength(
+                    "Input does not decode to " + output.length + " bytes.");
         }
-        // Return decoded data (including original number of leading zeros).
-        return Arrays.copyOfRange(decoded, outputStart - zeros, decoded.length);
+        Arrays.fill(output, 0, zeros, (byte) 0);
+        copyBytes(number, firstByte, output, zeros);
     }
 
     public static BigInteger decodeToBigInteger(String input) throws AddressFormatException {
@@ -139,31 +152,103 @@ public class Base58 {
     }
 
     /**
-     * Divides a number, represented as an array of bytes each containing a single digit
-     * in the specified base, by the given divisor. The given number is modified in-place
-     * to contain the quotient, and the return value is the remainder.
+     * Converts the given bytes, starting at the given index, to a big-endian array of 32-bit
+     * words. The first word is padded with leading zero bytes.
+     */
+    private static int[] toWords(byte[] input, int offset) {
+        int length = input.length - offset;
+        int[] words = new int[(length + 3) / 4];
+        int padding = words.length * 4 - length;
+        for (int i = 0; i < length; i++) {
+            int position = padding + i;
+            words[position >>> 2] |= (input[offset + i] & 0xFF) << (24 - 8 * (position & 3));
+        }
+        return words;
+    }
+
+    private static byte byteAt(int[] words, int index) {
+        return (byte) (words[index >>> 2] >>> (24 - 8 * (index & 3)));
+    }
+
+    private static int firstNonZeroByte(int[] words) {
+        int index = 0;
+        while (index < words.length * 4 && byteAt(words, index) == 0) {
+            ++index;
+        }
+        return index;
+    }
+
+    private static void copyBytes(int[] words, int from, byte[] dest, int destOffset) {
+        for (int i = destOffset; i < dest.length; i++) {
+            dest[i] = byteAt(words, from++);
+        }
+    }
+
+    /**
+     * Divides a number, represented as a big-endian array of 32-bit words, by 58<sup>5</sup>.
+     * The given number is modified in-place to contain the quotient, and the return value is the
+     * remainder.
      *
-     * @param number the number to divide
-     * @param firstDigit the index within the array of the first non-zero digit
-     *        (this is used for optimization by skipping the leading zeros)
-     * @param base the base in which the number's digits are represented (up to 256)
-     * @param divisor the number to divide by (up to 256)
+     * @param number    the number to divide
+     * @param firstWord the index within the array of the first non-zero word
+     *                  (this is used for optimization by skipping the leading zeros)
      * @return the remainder of the division operation
      */
-    private static byte divmod(byte[] number, int firstDigit, int base, int divisor) {
-        // this is just long division which accounts for the base of the input digits
-        int remainder = 0;
-        for (int i = firstDigit; i < number.length; i++) {
-            int digit = (int) number[i] & 0xFF;
-            int temp = remainder * base + digit;
-            number[i] = (byte) (temp / divisor);
-            remainder = temp % divisor;
-        }
-        return (byte) remainder;
+    private static long divmod(int[] number, int firstWord) {
+        // this is just long division with 32-bit digits
+        long remainder = 0;
+        for (int i = firstWord; i < number.length; i++) {
+            long temp = (remainder << 32) | (number[i] & 0xFFFFFFFFL);
+            number[i] = (int) (temp / WORD_BASE);
+            remainder = temp % WORD_BASE;
+        }
+        return remainder;
+    }
+
+    /**
+     * Converts the base58-encoded ASCII characters to a number, represented as a big-endian array
+     * of 32-bit words, five characters at a time.
+     */
+    private static int[] decodeToWords(String input) throws AddressFormatException {
+        // Every base-58 digit adds less than 6 bits.
+        int[] number = new int[(input.length() * 6 + 31) / 32];
+        int firstWord = number.length;
+        for (int i = 0; i < input.length(); ) {
+            int count = Math.min(DIGITS_PER_WORD, input.length() - i);
+            long chunk = 0;
+            for (int end = i + count; i < end; i++) {
+                char c = input.charAt(i);
+                int digit = c < 128 ? INDEXES[c] : -1;
+                if (digit < 0) {
+                    throw new AddressFormatException.InvalidCharacter(c, i);
+                }
+                chunk = chunk * 58 + digit;
+            }
+            // number = number * 58^count + chunk
+            long multiplier = count == DIGITS_PER_WORD ? WORD_BASE : POWERS[count];
+            long carry = chunk;
+            for (int j = number.length - 1; j >= firstWord; j--) {
+                long temp = (number[j] & 0xFFFFFFFFL) * multiplier + carry;
+                number[j] = (int) temp;
+                carry = temp >>> 32;
+            }
+            if (carry != 0) {
+                number[--firstWord] = (int) carry;
+            }
+        }
+        return number;
+    }
+
+    private static int countEncodedZeros(String input) {
+        int zeros = 0;
+        while (zeros < input.length() && input.charAt(zeros) == ENCODED_ZERO) {
+            ++zeros;
+        }
+        return zeros;
     }
 
     public static String base58CheckEncode(byte[] data) {
-        byte[] checksum = Hash.sha256(Hash.sha256(data));
+        byte[] checksum = Hash.hash256(data);
         byte[] buffer = new byte[data.length + 4];
         System.arraycopy(data, 0, buffer, 0, data.length);
         System.arraycopy(checksum, 0, buffer, data.length, 4);
@@ -179,7 +264,7 @@ public class Base58 {
         byte[] data = ArrayUtils.getFirstNBytes(buffer, buffer.length - 4);
         byte[] givenChecksum = ArrayUtils.getLastNBytes(buffer, 4);
 
-        byte[] calculatedChecksum = Hash.sha256(Hash.sha256(data));
+        byte[] calculatedChecksum = Hash.hash256(data);
         byte[] first4BytesCalculatedChecksum = ArrayUtils.getFirstNBytes(calculatedChecksum, 4);
 
         if (!Arrays.equals(givenChecksum, first4BytesCalculatedChecksum)) {
@@ -3,15 +3,25 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.jcajce.provider.digest.Keccak;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
- * Cryptographic hash functions.
+ * <p>Cryptographic hash functions.</p>
+ * <br>
+ * <p>The SHA-256 and RipeMD-160 digests are created once per thread and reused, because looking
+ * up the provider of a digest costs more than hashing the few bytes of a script or a
+ * transaction.</p>
  */
 public class Hash {
 
+    private static final int SHA256_SIZE = 32;
+
+    private static final ThreadLocal<Digests> DIGESTS = ThreadLocal.withInitial(Digests::new);
+
     static {
         SecurityProviderChecker.addBouncyCastle();
     }
@@ -24,10 +34,76 @@ public class Hash {
      *
      * @param input byte array with the input to be hashed
      * @return hash value as byte array
+     * @see #hash160(byte[])
      */
     public static byte[] sha256AndThenRipemd160(byte[] input) {
-        byte[] sha256 = sha256(input);
-        return ripemd160(sha256);
+        return hash160(input);
+    }
+
+    /**
+     * Performs a SHA256 followed by a RIPEMD160, e.g. to get the script hash of a verification
+     * script.
+     *
+     * @param input the input to be hashed
+     * @return hash value
+     */
+    public static byte[] hash160(byte[] input) {
+        return hash160(input, 0, input.length);
+    }
+
+    /**
+     * Performs a SHA256 followed by a RIPEMD160 on a part of the given input.
+     *
+     * @param input  the input to be hashed
+     * @param offset of start of data
+     * @param length of data
+     * @return hash value
+     */
+    public static byte[] hash160(byte[] input, int offset, int length) {
+        Digests digests = DIGESTS.get();
+        digests.sha256.update(input, offset, length);
+        digests.digestSha256IntoScratch();
+        digests.ripemd160.update(digests.scratch);
+        return digests.ripemd160.digest();
+    }
+
+    /**
+     * Performs SHA256 twice, e.g. to get the id of a transaction or the checksum of an address.
+     *
+     * @param input the input to be hashed
+     * @return hash value
+     */
+    public static byte[] hash256(byte[] input) {
+        return hash256(input, 0, input.length);
+    }
+
+    /**
+     * Performs SHA256 twice on a part of the given input.
+     *
+     * @param input  the input to be hashed
+     * @param offset of start of data
+     * @param length of data
+     * @return hash value
+     */
+    public static byte[] hash256(byte[] input, int offset, int length) {
+        Digests digests = DIGESTS.get();
+        digests.sha256.update(input, offset, length);
+        digests.digestSha256IntoScratch();
+        return digests.sha256.digest(digests.scratch);
+    }
+
+    /**
+     * Performs SHA256 twice on the remaining bytes of the given buffer. The position of the
+     * buffer is advanced to its limit.
+     *
+     * @param input the input to be hashed
+     * @return hash value
+     */
+    public static byte[] hash256(ByteBuffer input) {
+        Digests digests = DIGESTS.get();
+        digests.sha256.update(input);
+        digests.digestSha256IntoScratch();
+        return digests.sha256.digest(digests.scratch);
     }
 
     /**
@@ -50,12 +126,7 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any RipeMD160 provider
      */
     public static byte[] ripemd160(byte[] input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("RipeMD160");
-            return md.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a RipeMD160 provider", e);
-        }
+        return DIGESTS.get().ripemd160.digest(input);
     }
 
     /**
@@ -112,21 +183,63 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any SHA-256 provider
      */
     public static byte[] sha256(byte[] input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
-        }
+        return DIGESTS.get().sha256.digest(input);
     }
 
+    /**
+     * Generates SHA-256 digest for a part of the given {@code input} without copying it.
+     *
+     * @param input  The input to digest
+     * @param offset of start of data
+     * @param length of data
+     * @return The hash value for the given input
+     * @throws RuntimeException If we couldn't find any SHA-256 provider
+     */
     public static byte[] sha256(byte[] input, int offset, int length) {
-        if (offset != 0 || length != input.length) {
-            byte[] array = new byte[length];
-            System.arraycopy(input, offset, array, 0, length);
-            input = array;
-        }
-        return sha256(input);
+        MessageDigest digest = DIGESTS.get().sha256;
+        digest.update(input, offset, length);
+        return digest.digest();
     }
 
+    /**
+     * Generates SHA-256 digest for the remaining bytes of the given buffer. The position of the
+     * buffer is advanced to its limit.
+     *
+     * @param input The input to digest
+     * @return The hash value for the given input
+     * @throws RuntimeException If we couldn't find any SHA-256 provider
+     */
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest digest = DIGESTS.get().sha256;
+        digest.update(input);
+        return digest.digest();
+    }
+
+    /**
+     * The digests of one thread. A digest is reset after each completed hash, so it can be used
+     * by the next call on the same thread.
+     */
+    private static class Digests {
+
+        private final MessageDigest sha256 = getDigest("SHA-256");
+        private final MessageDigest ripemd160 = getDigest("RipeMD160");
+        // Holds the intermediate hash of hash256 and hash160.
+        private final byte[] scratch = new byte[SHA256_SIZE];
+
+        private static MessageDigest getDigest(String algorithm) {
+            try {
+                return MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("Couldn't find a " + algorithm + " provider", e);
+            }
+        }
+
+        private void digestSha256IntoScratch() {
+            try {
+                sha256.digest(scratch, 0, SHA256_SIZE);
+            } catch (DigestException e) {
+                throw new IllegalStateException("The SHA-256 hash does not fit.", e);
+            }
+        }
+    }
 }
@@ -18,7 +18,7 @@ public class WIF {
             throw new IllegalArgumentException();
         }
 
-        byte[] checksum = Hash.sha256(Hash.sha256(data, 0, data.length - 4));
+        byte[] checksum = Hash.hash256(data, 0, data.length - 4);
 
         for (int i = 0; i < 4; i++) {
             if (data[data.length - 4 + i] != checksum[i]) {
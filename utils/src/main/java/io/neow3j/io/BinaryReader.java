@@ -31,6 +31,7 @@ import org.bouncycastle.math.ec.ECPoint;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
@@ -38,9 +39,19 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static io.neow3j.utils.Numeric.toBigInt;
-
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>Reads the binary format of NEO objects.</p>
+ * <br>
+ * <p>A reader created from a byte array or a {@link ByteBuffer} reads directly from the buffer.
+ * It needs no stream buffering for {@link #mark(int)} and {@link #reset()}, and
+ * {@link #readSlice(int)} returns views of the buffer without copying them. A reader created
+ * from an {@link InputStream} reads from the stream as it did before.</p>
+ */
 public class BinaryReader implements AutoCloseable {
 
     private DataInputStream reader;
@@ -49,15 +60,34 @@ public class BinaryReader implements AutoCloseable {
     private int position = 0;
     private int mark = -1;
 
+    // Only set if this reader reads from a buffer. Then, the position is the buffer's position
+    // relative to the origin.
+    private ByteBuffer input;
+    private int origin;
+
     public BinaryReader(InputStream stream) {
         this.reader = new DataInputStream(stream);
     }
 
     public BinaryReader(byte[] input) {
-        this(new ByteArrayInputStream(input, 0, input.length));
+        this(ByteBuffer.wrap(input));
+    }
+
+    /**
+     * Creates a reader that reads the remaining bytes of the given buffer, which can be a heap,
+     * direct or memory-mapped buffer. The position of the given buffer is not changed.
+     *
+     * @param input the buffer to read.
+     */
+    public BinaryReader(ByteBuffer input) {
+        this.input = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.origin = this.input.position();
     }
 
     public int getPosition() {
+        if (input != null) {
+            return input.position() - origin;
+        }
         return position;
     }
 
@@ -67,48 +97,74 @@ public class BinaryReader implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
-        reader.close();
+        if (reader != null) {
+            reader.close();
+        }
     }
 
     public void mark(int readlimit) {
-        reader.mark(readlimit);
+        if (input != null) {
+            input.mark();
+        } else {
+            reader.mark(readlimit);
+        }
         mark = getPosition();
     }
 
     public void reset() throws IOException {
+        if (input != null) {
+            input.reset();
+            return;
+        }
         reader.reset();
         position = getMark();
     }
 
+    /**
+     * @return the number of bytes that are left to read, or -1 if this reader reads from a
+     * stream.
+     */
+    public int available() {
+        return input != null ? input.remaining() : -1;
+    }
 
     public void read(byte[] buffer) throws IOException {
-        reader.readFully(buffer);
-        position += buffer.length;
+        read(buffer, 0, buffer.length);
     }
 
     public void read(byte[] buffer, int index, int length) throws IOException {
+        if (input != null) {
+            require(length);
+            input.get(buffer, index, length);
+            return;
+        }
         reader.readFully(buffer, index, length);
         position += length;
     }
 
     public boolean readBoolean() throws IOException {
-        boolean result = reader.readBoolean();
-        position += Byte.BYTES;
-        return result;
+        return readByte() != 0;
     }
 
     public int readUnsignedByte() throws IOException {
-        int result = reader.readUnsignedByte();
-        position += Byte.BYTES;
-        return result;
+        return Byte.toUnsignedInt(readByte());
     }
 
     public byte readByteKeepPosition() throws IOException {
+        if (input != null) {
+            require(Byte.BYTES);
+            origin++;
+            return input.get();
+        }
         byte result = reader.readByte();
         return result;
     }
 
     public byte readByte() throws IOException {
+        if (input != null) {
+            require(Byte.BYTES);
+            return input.get();
+        }
         byte result = reader.readByte();
         position += Byte.BYTES;
         return result;
@@ -116,22 +172,80 @@ public class BinaryReader implements AutoCloseable {
 
     public byte[] readBytes(int count) throws IOException {
         byte[] buffer = new byte[count];
-        reader.readFully(buffer);
-        position += buffer.length;
+        read(buffer);
         return buffer;
     }
 
+    /**
+     * <p>Reads the given number of bytes without copying them.</p>
+     * <br>
+     * <p>If this reader reads from a buffer, the returned buffer is a read-only view of it and
+     * only valid as long as the underlying data is not changed. Otherwise, the bytes are read
+     * into a new buffer.</p>
+     *
+     * @param count the number of bytes.
+     * @return the bytes, from the position to the limit of the returned buffer.
+     * @throws IOException if there are less bytes left.
+     */
+    public ByteBuffer readSlice(int count) throws IOException {
+        if (input == null) {
+            return ByteBuffer.wrap(readBytes(count)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        require(count);
+        ByteBuffer slice = input.slice();
+        slice.limit(count);
+        input.position(input.position() + count);
+        return slice.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads a byte array prefixed with its length as var int without copying it.
+     *
+     * @return the bytes.
+     * @throws IOException if the length is invalid or there are less bytes left.
+     * @see #readSlice(int)
+     */
+    public ByteBuffer readVarSlice() throws IOException {
+        return readVarSlice(0x7fffffc7);
+    }
+
+    /**
+     * Reads a byte array prefixed with its length as var int without copying it.
+     *
+     * @param max the maximum length.
+     * @return the bytes.
+     * @throws IOException if the length is invalid or there are less bytes left.
+     * @see #readSlice(int)
+     */
+    public ByteBuffer readVarSlice(int max) throws IOException {
+        return readSlice((int) readVarInt(max));
+    }
+
     public double readDouble() throws IOException {
+        if (input != null) {
+            require(Double.BYTES);
+            return input.getDouble();
+        }
         reader.readFully(array, 0, 8);
         position += 8;
         return buffer.getDouble(0);
     }
 
     public ECPoint readECPoint() throws IOException {
+        return NeoConstants.CURVE.getCurve().decodePoint(readEncodedECPoint());
+    }
+
+    /**
+     * Reads an EC point in its encoded form without decoding it, e.g. to skip over a public key
+     * or to keep it as byte array.
+     *
+     * @return the encoded EC point.
+     * @throws IOException if the point is not correctly encoded or the stream ends early.
+     */
+    public byte[] readEncodedECPoint() throws IOException {
         // based on: https://tools.ietf.org/html/rfc5480#section-2.2
         byte[] encoded;
-        byte fb = reader.readByte();
-        position += Byte.BYTES;
+        byte fb = readByte();
         switch (fb) {
             case 0x00:
                 encoded = new byte[1];
@@ -140,34 +254,44 @@ public class BinaryReader implements AutoCloseable {
             case 0x03:
                 encoded = new byte[33];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 32);
-                position += 32;
+                read(encoded, 1, 32);
                 break;
             case 0x04:
                 encoded = new byte[65];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 64);
-                position += 64;
+                read(encoded, 1, 64);
                 break;
             default:
                 throw new IOException();
         }
-        return NeoConstants.CURVE.getCurve().decodePoint(encoded);
+        return encoded;
     }
 
     public float readFloat() throws IOException {
+        if (input != null) {
+            require(Float.BYTES);
+            return input.getFloat();
+        }
         reader.readFully(array, 0, 4);
         position += 4;
         return buffer.getFloat(0);
     }
 
     public int readInt() throws IOException {
+        if (input != null) {
+            require(Integer.BYTES);
+            return input.getInt();
+        }
         reader.readFully(array, 0, 4);
         position += 4;
         return buffer.getInt(0);
     }
 
     public long readLong() throws IOException {
+        if (input != null) {
+            require(Long.BYTES);
+            return input.getLong();
+        }
         reader.readFully(array, 0, 8);
         position += 8;
         return buffer.getLong(0);
@@ -179,6 +303,23 @@ public class BinaryReader implements AutoCloseable {
         return obj;
     }
 
+    /**
+     * Reads a serializable object. Prefer this method over {@link #readSerializable(Class)},
+     * which creates the object by reflection.
+     *
+     * @param constructor creates the empty object to deserialize, e.g.
+     *                    <tt>RawTransactionInput::new</tt>.
+     * @param <T>         the type of the object.
+     * @return the object.
+     * @throws IOException if the object could not be read.
+     */
+    public <T extends NeoSerializable> T readSerializable(Supplier<T> constructor)
+            throws IOException {
+        T obj = constructor.get();
+        obj.deserialize(this);
+        return obj;
+    }
+
     public <T extends NeoSerializable> List<T> readSerializableListVarBytes(Class<T> t) throws IOException, IllegalAccessException, InstantiationException {
         int length = (int) readVarInt(0x10000000);
         int bytesRead = 0;
@@ -194,6 +335,26 @@ public class BinaryReader implements AutoCloseable {
         return list;
     }
 
+    /**
+     * Reads a list of serializable objects that is prefixed with its length in bytes.
+     *
+     * @param constructor creates the empty objects to deserialize.
+     * @param <T>         the type of the objects.
+     * @return the objects.
+     * @throws IOException if the objects could not be read.
+     * @see #readSerializable(Supplier)
+     */
+    public <T extends NeoSerializable> List<T> readSerializableListVarBytes(
+            Supplier<T> constructor) throws IOException {
+        int length = (int) readVarInt(0x10000000);
+        int initialOffset = getPosition();
+        List<T> list = new ArrayList<>();
+        while (getPosition() - initialOffset < length) {
+            list.add(readSerializable(constructor));
+        }
+        return list;
+    }
+
     public <T extends NeoSerializable> List<T> readSerializableList(Class<T> t) throws IOException, IllegalAccessException, InstantiationException {
         int length = (int) readVarInt(0x10000000);
         List<T> list = new ArrayList<>(length);
@@ -205,7 +366,31 @@ public class BinaryReader implements AutoCloseable {
         return list;
     }
 
+    /**
+     * Reads a list of serializable objects that is prefixed with the number of objects.
+     *
+     * @param constructor creates the empty objects to deserialize.
+     * @param <T>         the type of the objects.
+     * @return the objects.
+     * @throws IOException if the objects could not be read.
+     * @see #readSerializable(Supplier)
+     */
+    public <T extends NeoSerializable> List<T> readSerializableList(Supplier<T> constructor)
+            throws IOException {
+        int length = (int) readVarInt(0x10000000);
+        // Don't trust the length for the initial capacity, it is not verified yet.
+        List<T> list = new ArrayList<>(Math.min(length, 1024));
+        for (int i = 0; i < length; i++) {
+            list.add(readSerializable(constructor));
+        }
+        return list;
+    }
+
     public short readShort() throws IOException {
+        if (input != null) {
+            require(Short.BYTES);
+            return input.getShort();
+        }
         reader.readFully(array, 0, 2);
         position += 2;
         return buffer.getShort(0);
@@ -244,6 +429,10 @@ public class BinaryReader implements AutoCloseable {
         return readBytes((int) readVarInt(max));
     }
 
+    public String readVarString() throws IOException {
+        return new String(readVarBytes(), UTF_8);
+    }
+
     public long readVarInt() throws IOException {
         return readVarInt(Long.MAX_VALUE);
     }
@@ -293,4 +482,10 @@ public class BinaryReader implements AutoCloseable {
         }
     }
 
+    private void require(int count) throws EOFException {
+        if (count < 0 || input.remaining() < count) {
+            throw new EOFException();
+        }
+    }
+
 }
@@ -31,52 +31,124 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+/**
+ * <p>Writes the binary format of NEO objects.</p>
+ * <br>
+ * <p>A writer created with {@link #BinaryWriter()} writes into a growable buffer that is reused
+ * by all such writers of the same thread. The result is copied out once with
+ * {@link #toByteArray()}, and the buffer is handed back when the writer is closed.</p>
+ */
 public class BinaryWriter implements AutoCloseable {
 
+    private static final int INITIAL_POOLED_BUFFER_SIZE = 1024;
+
+    // Buffers that grew larger are dropped instead of being kept for the lifetime of the thread.
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+    // Holds the buffer of each thread while no writer uses it.
+    private static final ThreadLocal<ByteBuffer> POOL = new ThreadLocal<>();
+
     private DataOutputStream writer;
     private byte[] array = new byte[8];
     private ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
 
+    // Only set if this writer writes into a pooled buffer.
+    private ByteBuffer output;
+    private final boolean pooled;
+
     public BinaryWriter(OutputStream stream) {
         this.writer = new DataOutputStream(stream);
+        this.pooled = false;
+    }
+
+    /**
+     * Creates a writer that writes into a pooled buffer. It must be closed after use, so that
+     * the buffer can be reused.
+     */
+    public BinaryWriter() {
+        ByteBuffer pooledBuffer = POOL.get();
+        if (pooledBuffer != null) {
+            // Nested writers of the same thread get a buffer of their own.
+            POOL.remove();
+            pooledBuffer.clear();
+        } else {
+            pooledBuffer = ByteBuffer.allocate(INITIAL_POOLED_BUFFER_SIZE);
+        }
+        this.output = pooledBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.pooled = true;
+    }
+
+    /**
+     * Gets the bytes written so far by a writer created with {@link #BinaryWriter()}.
+     *
+     * @return a copy of the written bytes.
+     */
+    public byte[] toByteArray() {
+        if (!pooled) {
+            throw new IllegalStateException("Only a writer without output stream holds its "
+                    + "bytes.");
+        }
+        return Arrays.copyOf(output().array(), output.position());
     }
 
     @Override
     public void close() throws IOException {
-        writer.close();
+        if (!pooled) {
+            writer.close();
+            return;
+        }
+        if (output != null && output.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+            POOL.set(output);
+        }
+        output = null;
     }
 
     public void flush() throws IOException {
-        writer.flush();
+        if (!pooled) {
+            writer.flush();
+        }
     }
 
     public void write(byte[] buffer) throws IOException {
-        writer.write(buffer);
+        write(buffer, 0, buffer.length);
     }
 
     public void write(byte[] buffer, int index, int length) throws IOException {
+        if (pooled) {
+            ensureCapacity(length).put(buffer, index, length);
+            return;
+        }
         writer.write(buffer, index, length);
     }
 
     public void writeBoolean(boolean v) throws IOException {
-        writer.writeBoolean(v);
+        writeByte((byte) (v ? 1 : 0));
     }
 
     public void writeByte(byte v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Byte.BYTES).put(v);
+            return;
+        }
         writer.writeByte(v);
     }
 
     public void writeDouble(double v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Double.BYTES).putDouble(v);
+            return;
+        }
         buffer.putDouble(0, v);
         writer.write(array, 0, 8);
     }
 
     public void writeECPoint(ECPoint v) throws IOException {
-        writer.write(v.getEncoded(true));
+        write(v.getEncoded(true));
     }
 
     public void writeFixedString(String v, int length) throws IOException {
@@ -90,29 +162,41 @@ public class BinaryWriter implements AutoCloseable {
         if (bytes.length > length) {
             throw new IllegalArgumentException();
         }
-        writer.write(bytes);
+        write(bytes);
         if (bytes.length < length) {
-            writer.write(new byte[length - bytes.length]);
+            write(new byte[length - bytes.length]);
         }
     }
 
     public void writeFloat(float v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Float.BYTES).putFloat(v);
+            return;
+        }
         buffer.putFloat(0, v);
         writer.write(array, 0, 4);
     }
 
     public void writeInt(int v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Integer.BYTES).putInt(v);
+            return;
+        }
         buffer.putInt(0, v);
         writer.write(array, 0, 4);
     }
 
     public void writeLong(long v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Long.BYTES).putLong(v);
+            return;
+        }
         buffer.putLong(0, v);
         writer.write(array, 0, 8);
     }
 
     public void writeSerializableVariableBytes(NeoSerializable v) throws IOException {
-        writeVarInt(v.toArray().length);
+        writeVarInt(v.getSize());
         v.serialize(this);
     }
 
@@ -122,11 +206,7 @@ public class BinaryWriter implements AutoCloseable {
     }
 
     public void writeSerializableVariableBytes(List<? extends NeoSerializable> v) throws IOException {
-        int sumLength = 0;
-        for (int i = 0; i < v.size(); i++) {
-            sumLength += v.get(i).toArray().length;
-        }
-        writeVarInt(sumLength);
+        writeVarInt(IOUtils.getSize(v));
         writeSerializableFixed(v);
     }
 
@@ -141,13 +221,21 @@ public class BinaryWriter implements AutoCloseable {
     }
 
     public void writeShort(short v) throws IOException {
+        if (pooled) {
+            ensureCapacity(Short.BYTES).putShort(v);
+            return;
+        }
         buffer.putShort(0, v);
         writer.write(array, 0, 2);
     }
 
     public void writeVarBytes(byte[] v) throws IOException {
         writeVarInt(v.length);
-        writer.write(v);
+        write(v);
+    }
+
+    public void writeVarString(String v) throws IOException {
+        writeVarBytes(v.getBytes(UTF_8));
     }
 
     public void writeVarInt(long v) throws IOException {
@@ -159,7 +247,7 @@ public class BinaryWriter implements AutoCloseable {
         } else if (v <= 0xFFFF) {
             writeByte((byte) 0xFD);
             writeShort((short) v);
-        } else if (v <= 0xFFFFFFFF) {
+        } else if (v <= 0xFFFFFFFFL) {
             writeByte((byte) 0xFE);
             writeInt((int) v);
         } else {
@@ -168,4 +256,24 @@ public class BinaryWriter implements AutoCloseable {
         }
     }
 
+    private ByteBuffer output() {
+        if (output == null) {
+            throw new IllegalStateException("The writer is closed.");
+        }
+        return output;
+    }
+
+    private ByteBuffer ensureCapacity(int count) {
+        ByteBuffer current = output();
+        if (current.remaining() < count) {
+            int capacity = Math.max(current.capacity() * 2, current.position() + count);
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            current.flip();
+            grown.put(current);
+            output = grown;
+            return grown;
+        }
+        return current;
+    }
+
 }
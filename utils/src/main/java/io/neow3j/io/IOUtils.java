@@ -0,0 +1,99 @@
+package io.neow3j.io;
+
+import java.util.List;
+
+/**
+ * Helpers to compute the serialized size of NEO objects without serializing them.
+ */
+public final class IOUtils {
+
+    private IOUtils() {
+    }
+
+    /**
+     * Gets the size of the given value when written with {@link BinaryWriter#writeVarInt(long)}.
+     *
+     * @param value the value.
+     * @return the size in bytes.
+     */
+    public static int getVarSize(long value) {
+        if (value < 0xFD) {
+            return Byte.BYTES;
+        } else if (value <= 0xFFFF) {
+            return Byte.BYTES + Short.BYTES;
+        } else if (value <= 0xFFFFFFFFL) {
+            return Byte.BYTES + Integer.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
+    /**
+     * Gets the size of the given bytes when written with
+     * {@link BinaryWriter#writeVarBytes(byte[])}.
+     *
+     * @param value the bytes.
+     * @return the size in bytes.
+     */
+    public static int getVarSize(byte[] value) {
+        return getVarSize(value.length) + value.length;
+    }
+
+    /**
+     * Gets the size of the given string when written with
+     * {@link BinaryWriter#writeVarString(String)}.
+     *
+     * @param value the string.
+     * @return the size in bytes.
+     */
+    public static int getVarSize(String value) {
+        int length = getUtf8Length(value);
+        return getVarSize(length) + length;
+    }
+
+    /**
+     * Gets the size of the given objects when written with
+     * {@link BinaryWriter#writeSerializableVariable(List)}.
+     *
+     * @param values the objects.
+     * @return the size in bytes.
+     */
+    public static int getVarSize(List<? extends NeoSerializableInterface> values) {
+        return getVarSize(values.size()) + getSize(values);
+    }
+
+    /**
+     * Gets the size of the given objects when written with
+     * {@link BinaryWriter#writeSerializableFixed(List)}.
+     *
+     * @param values the objects.
+     * @return the size in bytes.
+     */
+    public static int getSize(List<? extends NeoSerializableInterface> values) {
+        int size = 0;
+        for (int i = 0; i < values.size(); i++) {
+            size += values.get(i).getSize();
+        }
+        return size;
+    }
+
+    private static int getUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Includes unpaired surrogates, which are encoded as '?'.
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+}
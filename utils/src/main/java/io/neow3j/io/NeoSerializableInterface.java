@@ -1,7 +1,5 @@
 package io.neow3j.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 
@@ -11,33 +9,36 @@ public interface NeoSerializableInterface {
 
     void serialize(BinaryWriter writer) throws IOException;
 
+    /**
+     * Gets the size of this object when serialized. Implementations should compute it from
+     * their fields. By default, the object is serialized to count its bytes.
+     *
+     * @return the size in bytes.
+     */
+    default int getSize() {
+        return toArray().length;
+    }
+
     default byte[] toArray() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
-                serialize(writer);
-                writer.flush();
-                return ms.toByteArray();
-            }
+        try (BinaryWriter writer = new BinaryWriter()) {
+            serialize(writer);
+            return writer.toByteArray();
         } catch (IOException ex) {
             throw new UnsupportedOperationException(ex);
         }
     }
 
     static <T extends NeoSerializable> T from(byte[] value, Class<T> t) throws InstantiationException, IllegalAccessException {
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializable(t);
-            }
+        try (BinaryReader reader = new BinaryReader(value)) {
+            return reader.readSerializable(t);
         } catch (IOException ex) {
             throw new IllegalArgumentException(ex);
         }
     }
 
     static <T extends NeoSerializable> List<T> fromAsList(byte[] value, Class<T> t) throws InstantiationException, IllegalAccessException {
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializableListVarBytes(t);
-            }
+        try (BinaryReader reader = new BinaryReader(value)) {
+            return reader.readSerializableListVarBytes(t);
         } catch (IOException ex) {
             throw new IllegalArgumentException(ex);
         }
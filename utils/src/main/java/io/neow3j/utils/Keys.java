@@ -80,7 +80,7 @@ public class Keys {
         } else {
             verificationScript = getVerificationScriptFromPublicKeys(amountSignatures, publicKeys);
         }
-        return Hash.sha256AndThenRipemd160(verificationScript);
+        return Hash.hash160(verificationScript);
     }
 
     /**
@@ -232,24 +232,33 @@ public class Keys {
         byte[] data = new byte[1];
         data[0] = NeoConstants.COIN_VERSION;
         byte[] dataAndScriptHash = concatenate(data, scriptHash);
-        byte[] checksum = Hash.sha256(Hash.sha256(dataAndScriptHash));
+        byte[] checksum = Hash.hash256(dataAndScriptHash);
         byte[] first4BytesCheckSum = new byte[4];
         System.arraycopy(checksum, 0, first4BytesCheckSum, 0, 4);
         byte[] dataToEncode = concatenate(dataAndScriptHash, first4BytesCheckSum);
         return Base58.encode(dataToEncode);
     }
 
-    // TODO 14.07.19 claude: Write test
     public static boolean isValidAddress(String address) {
-        byte[] data;
+        byte[] data = new byte[NeoConstants.DECODED_ADDRESS_SIZE];
         try {
-            data = Base58.decode(address);
+            Base58.decode(address, data);
         } catch (AddressFormatException e) {
             return false;
         }
-        if (data.length != 25) return false;
+        return hasValidVersionAndChecksum(data);
+    }
+
+    /**
+     * Checks the version byte and the checksum of the given decoded address.
+     *
+     * @param data the address decoded with {@link Base58#decode(String, byte[])}.
+     * @return true if the version is {@link NeoConstants#COIN_VERSION} and the checksum matches.
+     */
+    public static boolean hasValidVersionAndChecksum(byte[] data) {
+        if (data.length != NeoConstants.DECODED_ADDRESS_SIZE) return false;
         if (data[0] != NeoConstants.COIN_VERSION) return false;
-        byte[] checksum = Hash.sha256(Hash.sha256(data, 0, 21));
+        byte[] checksum = Hash.hash256(data, 0, data.length - 4);
         for (int i = 0; i < 4; i++) {
             if (data[data.length - 4 + i] != checksum[i]) return false;
         }
@@ -5,8 +5,8 @@ import io.neow3j.exceptions.MessageEncodingException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 import static io.neow3j.constants.NeoConstants.FIXED8_DECIMALS;
 import static io.neow3j.constants.NeoConstants.FIXED8_LENGTH;
@@ -19,7 +19,30 @@ import static io.neow3j.constants.NeoConstants.FIXED8_LENGTH;
 public final class Numeric {
 
     private static final String HEX_PREFIX = "0x";
-    private static final Pattern HEX_PATTERN = Pattern.compile("^([0-9A-Fa-f]{2})*$");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // The lower-case hex characters of every byte value. The high nibble's character is at
+    // 2 * (b & 0xFF), the low nibble's character right after it.
+    private static final char[] HEX_BYTES = new char[256 * 2];
+
+    // The value of each ASCII hex digit, or -1 for all other characters.
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            HEX_BYTES[2 * i] = HEX_DIGITS[i >>> 4];
+            HEX_BYTES[2 * i + 1] = HEX_DIGITS[i & 0x0F];
+        }
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
 
     private Numeric() {
     }
@@ -93,7 +116,15 @@ public final class Numeric {
      */
     public static boolean isValidHexString(String string) {
         string = cleanHexPrefix(string);
-        return HEX_PATTERN.matcher(string).matches();
+        if (string.length() % 2 != 0) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (hexValue(string.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -264,43 +295,160 @@ public final class Numeric {
         return result;
     }
 
+    /**
+     * Converts the given hexadecimal string to bytes. If the string has an odd number of
+     * characters, the first character is decoded into its own byte.
+     *
+     * @param input the hexadecimal string with or without prefix.
+     * @return the bytes.
+     * @throws IllegalArgumentException if the string contains a non-hexadecimal character.
+     */
     public static byte[] hexStringToByteArray(String input) {
-        String cleanInput = cleanHexPrefix(input);
-
-        int len = cleanInput.length();
+        int offset = containsHexPrefix(input) ? 2 : 0;
+        int len = input.length() - offset;
 
         if (len == 0) {
             return new byte[]{};
         }
 
-        byte[] data;
-        int startIdx;
+        byte[] data = new byte[(len + 1) / 2];
+        int destOffset = 0;
         if (len % 2 != 0) {
-            data = new byte[(len / 2) + 1];
-            data[0] = (byte) Character.digit(cleanInput.charAt(0), 16);
-            startIdx = 1;
-        } else {
-            data = new byte[len / 2];
-            startIdx = 0;
+            data[0] = (byte) checkedHexValue(input, offset);
+            offset++;
+            len--;
+            destOffset = 1;
         }
+        hexToBytes(input, offset, len, data, destOffset);
+        return data;
+    }
 
-        for (int i = startIdx; i < len; i += 2) {
-            data[(i + 1) / 2] = (byte) ((Character.digit(cleanInput.charAt(i), 16) << 4)
-                    + Character.digit(cleanInput.charAt(i + 1), 16));
+    /**
+     * <p>Decodes the given hexadecimal characters into the given array without allocating.</p>
+     *
+     * @param hex        the characters to decode. They must not have a prefix.
+     * @param offset     the index of the first character to decode.
+     * @param length     the number of characters to decode. Must be even.
+     * @param dest       the array to write the bytes to.
+     * @param destOffset the index in {@code dest} of the first byte.
+     * @return the number of bytes written, i.e. {@code length / 2}.
+     * @throws IllegalArgumentException if the length is odd or a character is not hexadecimal.
+     */
+    public static int hexToBytes(CharSequence hex, int offset, int length, byte[] dest,
+            int destOffset) {
+
+        checkEvenLength(length);
+        for (int i = offset, j = destOffset; i < offset + length; i += 2, j++) {
+            dest[j] = (byte) ((checkedHexValue(hex, i) << 4) | checkedHexValue(hex, i + 1));
         }
-        return data;
+        return length / 2;
+    }
+
+    /**
+     * <p>Decodes the given hexadecimal characters into the given buffer without allocating.</p>
+     * <br>
+     * <p>The bytes are written at the buffer's position, which is advanced by the number of
+     * bytes written.</p>
+     *
+     * @param hex  the characters to decode. They must not have a prefix.
+     * @param dest the buffer to write the bytes to.
+     * @return the number of bytes written.
+     * @throws IllegalArgumentException if the length is odd or a character is not hexadecimal.
+     */
+    public static int hexToBytes(CharSequence hex, ByteBuffer dest) {
+        int length = hex.length();
+        checkEvenLength(length);
+        for (int i = 0; i < length; i += 2) {
+            dest.put((byte) ((checkedHexValue(hex, i) << 4) | checkedHexValue(hex, i + 1)));
+        }
+        return length / 2;
+    }
+
+    /**
+     * <p>Encodes the given bytes as lower-case hexadecimal characters into the given array
+     * without allocating.</p>
+     *
+     * @param input      the bytes to encode.
+     * @param offset     the index of the first byte to encode.
+     * @param length     the number of bytes to encode.
+     * @param dest       the array to write the characters to. It needs space for
+     *                   {@code 2 * length} characters.
+     * @param destOffset the index in {@code dest} of the first character.
+     * @return the number of characters written, i.e. {@code 2 * length}.
+     */
+    public static int toHexChars(byte[] input, int offset, int length, char[] dest,
+            int destOffset) {
+
+        for (int i = offset, j = destOffset; i < offset + length; i++, j += 2) {
+            int index = (input[i] & 0xFF) << 1;
+            dest[j] = HEX_BYTES[index];
+            dest[j + 1] = HEX_BYTES[index + 1];
+        }
+        return length * 2;
+    }
+
+    /**
+     * <p>Encodes the remaining bytes of the given buffer as lower-case hexadecimal characters
+     * into the given array without allocating. The buffer's position is not changed.</p>
+     *
+     * @param input      the bytes to encode.
+     * @param dest       the array to write the characters to. It needs space for twice the
+     *                   buffer's remaining bytes.
+     * @param destOffset the index in {@code dest} of the first character.
+     * @return the number of characters written.
+     */
+    public static int toHexChars(ByteBuffer input, char[] dest, int destOffset) {
+        int j = destOffset;
+        for (int i = input.position(); i < input.limit(); i++, j += 2) {
+            int index = (input.get(i) & 0xFF) << 1;
+            dest[j] = HEX_BYTES[index];
+            dest[j + 1] = HEX_BYTES[index + 1];
+        }
+        return j - destOffset;
+    }
+
+    /**
+     * Encodes the remaining bytes of the given buffer as hexadecimal string without prefix. The
+     * buffer's position is not changed.
+     *
+     * @param input the bytes to encode.
+     * @return the hexadecimal string.
+     */
+    public static String toHexStringNoPrefix(ByteBuffer input) {
+        char[] chars = new char[input.remaining() * 2];
+        toHexChars(input, chars, 0);
+        return new String(chars);
     }
 
     public static String toHexString(byte[] input, int offset, int length, boolean withPrefix) {
-        StringBuilder stringBuilder = new StringBuilder();
+        int prefixLength = withPrefix ? HEX_PREFIX.length() : 0;
+        char[] chars = new char[prefixLength + length * 2];
         if (withPrefix) {
-            stringBuilder.append("0x");
+            chars[0] = '0';
+            chars[1] = 'x';
         }
-        for (int i = offset; i < offset + length; i++) {
-            stringBuilder.append(String.format("%02x", input[i] & 0xFF));
+        toHexChars(input, offset, length, chars, prefixLength);
+        return new String(chars);
+    }
+
+    private static int hexValue(char c) {
+        return c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+    }
+
+    private static int checkedHexValue(CharSequence hex, int index) {
+        int value = hexValue(hex.charAt(index));
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hexadecimal character '"
+                    + hex.charAt(index) + "' at index " + index + ".");
         }
+        return value;
+    }
 
-        return stringBuilder.toString();
+    private static void checkEvenLength(int length) {
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException(
+                    "Hexadecimal string must have an even number of characters.");
+        }
     }
 
     public static String toHexString(byte input) {
@@ -80,6 +80,32 @@ public class ScriptHashTest {
         ScriptHash.fromAddress("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8yyyy");
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void fromAddressWithInvalidChecksum() {
+        ScriptHash.fromAddress("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8z");
+    }
+
+    @Test
+    public void fromAddressWithCache() {
+        ScriptHash.enableAddressCache(1);
+        try {
+            byte[] expectedHash = Numeric.hexStringToByteArray("23ba2703c53263e8d6e522dc32203339dcd8eee9");
+            ScriptHash hash = ScriptHash.fromAddress("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y");
+            assertThat(ScriptHash.getAddressCacheSize(), is(1));
+            // Modifying a returned script hash must not change the cached one.
+            hash.toArray()[0] = 0;
+
+            assertThat(ScriptHash.fromAddress("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y").toArray(),
+                    is(expectedHash));
+            ScriptHash other = ScriptHash.fromAddress("AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ");
+            assertThat(other.toAddress(), is("AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ"));
+            assertThat(ScriptHash.getAddressCacheSize(), is(1));
+        } finally {
+            ScriptHash.disableAddressCache();
+        }
+        assertThat(ScriptHash.getAddressCacheSize(), is(0));
+    }
+
     @Test
     public void fromPublicKeyByteArray() {
         String keyHex = "0265bf906bf385fbf3f777832e55a87991bcfbe19b097fb7c5ca2e4025a4d5e5d6";
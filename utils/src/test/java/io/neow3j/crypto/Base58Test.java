@@ -0,0 +1,71 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.exceptions.AddressFormatException;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class Base58Test {
+
+    @Test
+    public void encodeAndDecodeRandomData() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            byte[] data = new byte[random.nextInt(70)];
+            random.nextBytes(data);
+            // Cover leading zeros.
+            for (int j = 0; j < data.length && j < i % 4; j++) {
+                data[j] = 0;
+            }
+            String encoded = Base58.encode(data);
+
+            assertThat(encoded, is(encodeWithBigInteger(data)));
+            assertThat(Base58.decode(encoded), is(data));
+            byte[] output = new byte[data.length];
+            Base58.decode(encoded, output);
+            assertThat(output, is(data));
+        }
+    }
+
+    @Test
+    public void decodeAddressIntoArray() {
+        byte[] output = new byte[25];
+        Base58.decode("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y", output);
+        assertThat(output, is(Base58.decode("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y")));
+    }
+
+    @Test(expected = AddressFormatException.InvalidDataLength.class)
+    public void decodeIntoArrayOfWrongLength() {
+        Base58.decode("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y", new byte[24]);
+    }
+
+    @Test(expected = AddressFormatException.InvalidDataLength.class)
+    public void decodeIntoArrayWithMissingLeadingZero() {
+        // Decodes to 3 bytes, of which the first is 0.
+        Base58.decode("1LV", new byte[4]);
+    }
+
+    @Test(expected = AddressFormatException.InvalidCharacter.class)
+    public void decodeIntoArrayWithInvalidCharacter() {
+        Base58.decode("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8l", new byte[25]);
+    }
+
+    private static String encodeWithBigInteger(byte[] data) {
+        StringBuilder encoded = new StringBuilder();
+        BigInteger number = new BigInteger(1, data);
+        BigInteger base = BigInteger.valueOf(58);
+        while (number.signum() > 0) {
+            BigInteger[] quotientAndRemainder = number.divideAndRemainder(base);
+            encoded.append(Base58.ALPHABET[quotientAndRemainder[1].intValue()]);
+            number = quotientAndRemainder[0];
+        }
+        for (int i = 0; i < data.length && data[i] == 0; i++) {
+            encoded.append(Base58.ALPHABET[0]);
+        }
+        return encoded.reverse().toString();
+    }
+}
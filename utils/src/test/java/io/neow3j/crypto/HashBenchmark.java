@@ -0,0 +1,71 @@
+package io.neow3j.crypto;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import org.junit.Test;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the thread-local digests of {@link Hash} with the former implementation, which got a
+ * new {@link MessageDigest} from the security providers for every hash.
+ */
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class HashBenchmark extends AbstractBenchmark {
+
+    private static final int ITERATIONS = 10000;
+
+    // The size of an address without its checksum and of a single-signature verification script.
+    private static final byte[] ADDRESS = new byte[21];
+    private static final byte[] SCRIPT = new byte[35];
+
+    static {
+        SecurityProviderChecker.addBouncyCastle();
+    }
+
+    @Test
+    public void hash256() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(32, Hash.hash256(ADDRESS).length);
+        }
+    }
+
+    @Test
+    public void hash256NewDigests() throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(32, sha256(sha256(ADDRESS)).length);
+        }
+    }
+
+    @Test
+    public void hash160() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(20, Hash.hash160(SCRIPT).length);
+        }
+    }
+
+    @Test
+    public void hash160NewDigests() throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(20, ripemd160(sha256(SCRIPT)).length);
+        }
+    }
+
+    @Test
+    public void sameResults() throws Exception {
+        assertArrayEquals(sha256(sha256(ADDRESS)), Hash.hash256(ADDRESS));
+        assertArrayEquals(ripemd160(sha256(SCRIPT)), Hash.hash160(SCRIPT));
+    }
+
+    private static byte[] sha256(byte[] input) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(input);
+    }
+
+    private static byte[] ripemd160(byte[] input) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("RipeMD160").digest(input);
+    }
+}
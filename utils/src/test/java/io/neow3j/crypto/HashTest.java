@@ -3,6 +3,13 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -104,4 +111,67 @@ public class HashTest {
         final String result = Hash.ripemd160(hexStringToHash);
         assertThat(result, is(expected));
     }
+
+    @Test
+    public void testSha256() {
+        byte[] input = "Hello World.".getBytes();
+        String expected = "f4bb1975bf1f81f76ce824f7536c1e101a8060a632a52289d530a6f600d52c92";
+
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(input)), is(expected));
+        byte[] padded = new byte[input.length + 4];
+        System.arraycopy(input, 0, padded, 2, input.length);
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(padded, 2, input.length)),
+                is(expected));
+
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 2, input.length);
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(buffer)), is(expected));
+        assertThat(buffer.hasRemaining(), is(false));
+        ByteBuffer direct = ByteBuffer.allocateDirect(input.length);
+        direct.put(input).flip();
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256(direct)), is(expected));
+    }
+
+    @Test
+    public void testHash256() {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.sha256(Hash.sha256(input));
+
+        assertThat(Hash.hash256(input), is(expected));
+        byte[] padded = new byte[input.length + 4];
+        System.arraycopy(input, 0, padded, 3, input.length);
+        assertThat(Hash.hash256(padded, 3, input.length), is(expected));
+        assertThat(Hash.hash256(ByteBuffer.wrap(input)), is(expected));
+        // The digests are reset after each hash.
+        assertThat(Hash.hash256(input), is(expected));
+    }
+
+    @Test
+    public void testHash160() {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.ripemd160(Hash.sha256(input));
+
+        assertThat(Hash.hash160(input), is(expected));
+        assertThat(Hash.sha256AndThenRipemd160(input), is(expected));
+        byte[] padded = new byte[input.length + 1];
+        System.arraycopy(input, 0, padded, 1, input.length);
+        assertThat(Hash.hash160(padded, 1, input.length), is(expected));
+    }
+
+    @Test
+    public void testHashConcurrently() throws Exception {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.hash256(input);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                results.add(executor.submit(() -> Hash.hash256(input)));
+            }
+            for (Future<byte[]> result : results) {
+                assertThat(result.get(), is(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
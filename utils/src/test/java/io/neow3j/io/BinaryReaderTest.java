@@ -3,8 +3,12 @@ package io.neow3j.io;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
@@ -301,6 +305,76 @@ public class BinaryReaderTest extends TestBinaryUtils {
         assertThat(this.readResultString, is(new String(this.arrayBuilder.getData())));
     }
 
+    @Test
+    public void readFromByteBuffer() throws IOException {
+        ByteBuffer input = ByteBuffer.allocateDirect(16);
+        input.put(hexStringToByteArray("ff01020304050607080102030405060708"), 1, 16);
+        input.flip();
+        BinaryReader reader = new BinaryReader(input);
+
+        assertThat(reader.readInt(), is(0x04030201));
+        assertThat(reader.readShort(), is((short) 0x0605));
+        assertThat(reader.getPosition(), is(6));
+        assertThat(reader.available(), is(10));
+        assertThat(reader.readBytes(2), is(hexStringToByteArray("0708")));
+        assertThat(reader.readLong(), is(0x0807060504030201L));
+        assertThat(input.position(), is(0));
+    }
+
+    @Test
+    public void readSliceWithoutCopy() throws IOException {
+        byte[] data = hexStringToByteArray("03aabbccdd");
+        BinaryReader reader = new BinaryReader(data);
+
+        ByteBuffer slice = reader.readVarSlice();
+        data[2] = 0x11;
+
+        assertThat(slice.remaining(), is(3));
+        assertThat(slice.get(0), is((byte) 0xaa));
+        assertThat(slice.get(1), is((byte) 0x11));
+        assertThat(slice.isReadOnly(), is(true));
+        assertThat(reader.readByte(), is((byte) 0xdd));
+    }
+
+    @Test
+    public void markAndResetOnByteBuffer() throws IOException {
+        BinaryReader reader = new BinaryReader(hexStringToByteArray("0102030405"));
+        reader.readByte();
+
+        reader.mark(1);
+        assertThat(reader.readInt(), is(0x05040302));
+        reader.reset();
+
+        assertThat(reader.getPosition(), is(1));
+        assertThat(reader.readByte(), is((byte) 0x02));
+    }
+
+    @Test(expected = EOFException.class)
+    public void readBeyondEndOfByteBuffer() throws IOException {
+        new BinaryReader(hexStringToByteArray("010203")).readInt();
+    }
+
+    @Test
+    public void readSerializableListWithSupplier() throws IOException {
+        BinaryReader reader = new BinaryReader(hexStringToByteArray("03010203"));
+
+        List<TestSerializable> list = reader.readSerializableList(TestSerializable::new);
+
+        assertThat(list.size(), is(3));
+        assertThat(list.get(2).value, is((byte) 0x03));
+        assertThat(reader.available(), is(0));
+    }
+
+    @Test
+    public void readSerializableListVarBytesWithSupplier() throws IOException {
+        BinaryReader reader = new BinaryReader(hexStringToByteArray("020102ff"));
+
+        List<TestSerializable> list = reader.readSerializableListVarBytes(TestSerializable::new);
+
+        assertThat(list.size(), is(2));
+        assertThat(reader.readByte(), is((byte) 0xff));
+    }
+
     private void buildBinaryReader(byte[] data) {
         this.is = new ByteArrayInputStream(data);
         this.testBinaryReader = new BinaryReader(is);
@@ -327,4 +401,19 @@ public class BinaryReaderTest extends TestBinaryUtils {
         this.readResultInt = this.testBinaryReader.readPushInteger();
     }
 
+    private static class TestSerializable extends NeoSerializable {
+
+        private byte value;
+
+        @Override
+        public void deserialize(BinaryReader reader) throws IOException {
+            value = reader.readByte();
+        }
+
+        @Override
+        public void serialize(BinaryWriter writer) throws IOException {
+            writer.writeByte(value);
+        }
+    }
+
 }
@@ -0,0 +1,110 @@
+package io.neow3j.io;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class BinaryWriterTest {
+
+    @Test
+    public void pooledWriterWritesSameBytesAsStreamWriter() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (BinaryWriter streamWriter = new BinaryWriter(stream);
+             BinaryWriter pooledWriter = new BinaryWriter()) {
+            write(streamWriter);
+            write(pooledWriter);
+            streamWriter.flush();
+
+            assertThat(pooledWriter.toByteArray(), is(stream.toByteArray()));
+        }
+    }
+
+    @Test
+    public void pooledWriterGrows() throws IOException {
+        byte[] data = new byte[5000];
+        Arrays.fill(data, (byte) 0x42);
+        try (BinaryWriter writer = new BinaryWriter()) {
+            writer.writeByte((byte) 0x01);
+            writer.write(data);
+            writer.writeInt(7);
+
+            byte[] result = writer.toByteArray();
+            assertThat(result.length, is(5005));
+            assertThat(result[4999], is((byte) 0x42));
+            assertThat(result[5001], is((byte) 0x07));
+        }
+    }
+
+    @Test
+    public void nestedPooledWritersDoNotShareBuffer() throws IOException {
+        try (BinaryWriter outer = new BinaryWriter()) {
+            outer.writeByte((byte) 0x01);
+            try (BinaryWriter inner = new BinaryWriter()) {
+                inner.writeByte((byte) 0x02);
+                assertThat(inner.toByteArray(), is(new byte[]{0x02}));
+            }
+            outer.writeByte((byte) 0x03);
+            assertThat(outer.toByteArray(), is(new byte[]{0x01, 0x03}));
+        }
+        try (BinaryWriter reused = new BinaryWriter()) {
+            assertThat(reused.toByteArray().length, is(0));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedPooledWriter() throws IOException {
+        BinaryWriter writer = new BinaryWriter();
+        writer.close();
+        writer.writeByte((byte) 0x01);
+    }
+
+    @Test
+    public void writeVarInt() throws IOException {
+        assertThat(varInt(0xFC), is("fc"));
+        assertThat(varInt(0xFD), is("fdfd00"));
+        assertThat(varInt(0xFFFF), is("fdffff"));
+        assertThat(varInt(0x10000), is("fe00000100"));
+        assertThat(varInt(0xFFFFFFFFL), is("feffffffff"));
+        assertThat(varInt(0x100000000L), is("ff0000000001000000"));
+    }
+
+    @Test
+    public void getVarSize() {
+        for (long value : new long[]{0, 0xFC, 0xFD, 0xFFFF, 0x10000, 0xFFFFFFFFL,
+                0x100000000L}) {
+            assertThat(IOUtils.getVarSize(value), is(varInt(value).length() / 2));
+        }
+        assertThat(IOUtils.getVarSize(new byte[300]), is(303));
+        // 1 + 2 + 3 + 4 bytes in UTF-8.
+        assertThat(IOUtils.getVarSize("aä€😀"), is(11));
+    }
+
+    private static String varInt(long value) {
+        try (BinaryWriter writer = new BinaryWriter()) {
+            writer.writeVarInt(value);
+            return toHexStringNoPrefix(writer.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(BinaryWriter writer) throws IOException {
+        writer.writeBoolean(true);
+        writer.writeByte((byte) 0xab);
+        writer.writeShort((short) 0x1234);
+        writer.writeInt(0x12345678);
+        writer.writeLong(0x1122334455667788L);
+        writer.writeFloat(1.5f);
+        writer.writeDouble(2.5);
+        writer.writeVarBytes(new byte[]{1, 2, 3});
+        writer.writeVarString("neo");
+        writer.writeFixedString("ab", 4);
+        writer.writeVarInt(0x10000);
+    }
+}
@@ -0,0 +1,104 @@
+package io.neow3j.utils;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the table-driven hex codec of {@link Numeric} with the former implementation, which
+ * formatted every byte with {@link String#format(String, Object...)} and decoded with
+ * {@link Character#digit(char, int)} after validating against a regular expression.
+ */
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class NumericBenchmark extends AbstractBenchmark {
+
+    private static final Pattern HEX_PATTERN = Pattern.compile("^([0-9A-Fa-f]{2})*$");
+
+    private static final int ITERATIONS = 1000;
+
+    // The size of a typical transaction.
+    private static final byte[] BYTES = new byte[512];
+    private static final String HEX;
+
+    static {
+        new Random(1).nextBytes(BYTES);
+        HEX = Numeric.toHexStringNoPrefix(BYTES);
+    }
+
+    @Test
+    public void encode() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(HEX.length(), Numeric.toHexStringNoPrefix(BYTES).length());
+        }
+    }
+
+    @Test
+    public void encodeIntoBuffer() {
+        char[] chars = new char[BYTES.length * 2];
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(chars.length, Numeric.toHexChars(BYTES, 0, BYTES.length, chars, 0));
+        }
+    }
+
+    @Test
+    public void encodeFormat() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(HEX.length(), formatHex(BYTES).length());
+        }
+    }
+
+    @Test
+    public void decode() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (Numeric.isValidHexString(HEX)) {
+                assertEquals(BYTES.length, Numeric.hexStringToByteArray(HEX).length);
+            }
+        }
+    }
+
+    @Test
+    public void decodeIntoBuffer() {
+        byte[] bytes = new byte[BYTES.length];
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(bytes.length, Numeric.hexToBytes(HEX, 0, HEX.length(), bytes, 0));
+        }
+    }
+
+    @Test
+    public void decodeCharacterDigit() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (HEX_PATTERN.matcher(HEX).matches()) {
+                assertEquals(BYTES.length, digitHex(HEX).length);
+            }
+        }
+    }
+
+    @Test
+    public void sameResults() {
+        assertEquals(formatHex(BYTES), Numeric.toHexStringNoPrefix(BYTES));
+        assertArrayEquals(digitHex(HEX), Numeric.hexStringToByteArray(HEX));
+    }
+
+    private static String formatHex(byte[] input) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (byte b : input) {
+            stringBuilder.append(String.format("%02x", b & 0xFF));
+        }
+        return stringBuilder.toString();
+    }
+
+    private static byte[] digitHex(String input) {
+        byte[] data = new byte[input.length() / 2];
+        for (int i = 0; i < input.length(); i += 2) {
+            data[i / 2] = (byte) ((Character.digit(input.charAt(i), 16) << 4)
+                    + Character.digit(input.charAt(i + 1), 16));
+        }
+        return data;
+    }
+}
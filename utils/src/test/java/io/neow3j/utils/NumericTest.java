@@ -7,6 +7,8 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static junit.framework.TestCase.assertFalse;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -141,11 +143,68 @@ public class NumericTest {
                 is(new byte[]{0x1, 0x23}));
     }
 
+    @Test
+    public void testHexStringToByteArrayUpperCase() {
+        assertThat(Numeric.hexStringToByteArray("0xABCDEF"),
+                is(new byte[]{(byte) 0xab, (byte) 0xcd, (byte) 0xef}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHexStringToByteArrayInvalidCharacter() {
+        Numeric.hexStringToByteArray("0x12g4");
+    }
+
+    @Test
+    public void testHexToBytes() {
+        byte[] dest = new byte[10];
+        assertThat(Numeric.hexToBytes("xx0123456789abcdefxx", 2, 16, dest, 1), is(8));
+        assertThat(Arrays.copyOfRange(dest, 1, 9), is(HEX_RANGE_ARRAY));
+
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.put((byte) 0x01);
+        assertThat(Numeric.hexToBytes("ff00", buffer), is(2));
+        assertThat(buffer.position(), is(3));
+        assertThat(buffer.get(1), is((byte) 0xff));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHexToBytesOddLength() {
+        Numeric.hexToBytes("123", 0, 3, new byte[2], 0);
+    }
+
     @Test
     public void testToHexString() {
         assertThat(Numeric.toHexString(new byte[]{}), is("0x"));
         assertThat(Numeric.toHexString(new byte[]{0x1}), is("0x01"));
         assertThat(Numeric.toHexString(HEX_RANGE_ARRAY), is(HEX_RANGE_STRING));
+        assertThat(Numeric.toHexString(HEX_RANGE_ARRAY, 6, 2, false), is("cdef"));
+    }
+
+    @Test
+    public void testToHexStringAllByteValues() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        String hex = Numeric.toHexStringNoPrefix(bytes);
+        for (int i = 0; i < bytes.length; i++) {
+            assertThat(hex.substring(2 * i, 2 * i + 2), is(String.format("%02x", i)));
+        }
+        assertThat(Numeric.hexStringToByteArray(hex), is(bytes));
+    }
+
+    @Test
+    public void testToHexChars() {
+        char[] dest = new char[20];
+        assertThat(Numeric.toHexChars(HEX_RANGE_ARRAY, 1, 2, dest, 3), is(4));
+        assertThat(new String(dest, 3, 4), is("2345"));
+
+        ByteBuffer buffer = ByteBuffer.wrap(HEX_RANGE_ARRAY);
+        buffer.position(6);
+        assertThat(Numeric.toHexChars(buffer, dest, 0), is(4));
+        assertThat(new String(dest, 0, 4), is("cdef"));
+        assertThat(Numeric.toHexStringNoPrefix(buffer), is("cdef"));
+        assertThat(buffer.position(), is(6));
     }
 
     @Test
@@ -305,6 +364,8 @@ public class NumericTest {
         assertFalse(Numeric.isValidHexString("1g"));
         assertFalse(Numeric.isValidHexString("0x1g"));
         assertFalse(Numeric.isValidHexString("0x123456789abcdeg"));
+        // Non-ASCII digits are not hexadecimal.
+        assertFalse(Numeric.isValidHexString("0\u0660"));
     }
 
 }